@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.browser.model;
+
+import com.dbn.common.thread.Dispatch;
+import com.dbn.common.ui.tree.TreeEventType;
+import com.dbn.common.ui.tree.Trees;
+import com.dbn.common.ui.util.Listeners;
+import com.dbn.diagnostics.Diagnostics;
+import com.intellij.util.Alarm;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreePath;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dbn.common.dispose.Checks.isNotValid;
+
+/**
+ * Coalesces the tree events of a {@link BrowserTreeModel} and delivers them in batches, once per frame.
+ * Events are deduplicated by node, events of nodes under a pending structure change are dropped (covered by the parent),
+ * and change events of sibling nodes are merged in one event carrying the child indices.
+ * Dispatch time on the event dispatch thread is accumulated in {@link #getDispatchNanos()}
+ * (totals shown in the diagnostics settings, where coalescing can be disabled to measure the unbatched delivery for comparison)
+ */
+@Slf4j
+public final class BrowserTreeEventCoalescer {
+    private static final int FRAME_MILLIS = 16;
+
+    private static final AtomicLong receivedEvents = new AtomicLong();
+    private static final AtomicLong dispatchedEvents = new AtomicLong();
+    private static final AtomicLong dispatchNanos = new AtomicLong();
+
+    private final BrowserTreeModel model;
+    private final Listeners<TreeModelListener> listeners;
+    private final Alarm alarm;
+
+    private final Map<BrowserTreeNode, PendingEvent> pending = new LinkedHashMap<>();
+    private boolean scheduled;
+
+    BrowserTreeEventCoalescer(BrowserTreeModel model, Listeners<TreeModelListener> listeners) {
+        this.model = model;
+        this.listeners = listeners;
+        this.alarm = Dispatch.alarm(model);
+    }
+
+    void queue(BrowserTreeNode node, TreePath path, TreeEventType eventType) {
+        receivedEvents.incrementAndGet();
+        if (Diagnostics.isTreeEventCoalescingDisabled()) {
+            Dispatch.run(() -> dispatchUnbatched(new TreeModelEvent(model, path), eventType));
+            return;
+        }
+
+        synchronized (this) {
+            if (isCoveredByParent(path)) return;
+
+            PendingEvent event = pending.get(node);
+            if (event == null) {
+                pending.put(node, new PendingEvent(node, path, eventType));
+            } else if (event.type != eventType) {
+                // conflicting events for the same node are escalated to a structure change
+                event.type = TreeEventType.STRUCTURE_CHANGED;
+            }
+
+            if (eventType == TreeEventType.STRUCTURE_CHANGED) {
+                // the structure change of the node covers all pending events of its descendants
+                pending.values().removeIf(e -> e.node != node && path.isDescendant(e.path));
+            }
+
+            if (scheduled) return;
+            scheduled = true;
+        }
+        Dispatch.alarmRequest(alarm, FRAME_MILLIS, false, () -> flush());
+    }
+
+    private boolean isCoveredByParent(TreePath path) {
+        TreePath parentPath = path.getParentPath();
+        while (parentPath != null) {
+            PendingEvent event = pending.get(parentPath.getLastPathComponent());
+            if (event != null && event.type == TreeEventType.STRUCTURE_CHANGED) return true;
+            parentPath = parentPath.getParentPath();
+        }
+        return false;
+    }
+
+    private void flush() {
+        List<PendingEvent> events;
+        synchronized (this) {
+            events = new ArrayList<>(pending.values());
+            pending.clear();
+            scheduled = false;
+        }
+        if (isNotValid(model)) return;
+
+        long start = System.nanoTime();
+        int count = 0;
+
+        // change events grouped by parent node (sibling changes are delivered in one event)
+        Map<BrowserTreeNode, List<PendingEvent>> changes = new LinkedHashMap<>();
+        for (PendingEvent event : events) {
+            if (isNotValid(event.node)) continue;
+
+            BrowserTreeNode parent = event.node.getParent();
+            if (event.type == TreeEventType.NODES_CHANGED && parent != null && event.path.getParentPath() != null) {
+                changes.computeIfAbsent(parent, p -> new ArrayList<>()).add(event);
+            } else {
+                count += dispatch(new TreeModelEvent(model, event.path), event.type);
+            }
+        }
+
+        for (Map.Entry<BrowserTreeNode, List<PendingEvent>> entry : changes.entrySet()) {
+            count += dispatchChanges(entry.getKey(), entry.getValue());
+        }
+
+        long nanos = System.nanoTime() - start;
+        dispatchNanos.addAndGet(nanos);
+        dispatchedEvents.addAndGet(count);
+        log.debug("Delivered {} tree events (coalesced from {}) in {}µs", count, events.size(), nanos / 1000);
+    }
+
+    private int dispatchChanges(BrowserTreeNode parent, List<PendingEvent> events) {
+        if (events.size() > 1) {
+            TreeModelEvent event = createChangeEvent(parent, events);
+            if (event != null) return dispatch(event, TreeEventType.NODES_CHANGED);
+        }
+
+        int count = 0;
+        for (PendingEvent event : events) {
+            count += dispatch(new TreeModelEvent(model, event.path), event.type);
+        }
+        return count;
+    }
+
+    /**
+     * Creates one change event for the given sibling nodes
+     * @return the event or null if any of the nodes is no longer a child of the parent
+     */
+    private TreeModelEvent createChangeEvent(BrowserTreeNode parent, List<PendingEvent> events) {
+        int size = events.size();
+        long[] entries = new long[size];
+        for (int i = 0; i < size; i++) {
+            int index = parent.getIndex(events.get(i).node);
+            if (index < 0) return null;
+            entries[i] = ((long) index << 32) | i;
+        }
+
+        // listeners expect the child indices in ascending order
+        Arrays.sort(entries);
+        int[] indices = new int[size];
+        Object[] children = new Object[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = (int) (entries[i] >>> 32);
+            children[i] = events.get((int) entries[i]).node;
+        }
+
+        TreePath parentPath = events.get(0).path.getParentPath();
+        return new TreeModelEvent(model, parentPath, indices, children);
+    }
+
+    private int dispatch(TreeModelEvent event, TreeEventType eventType) {
+        Trees.dispatchTreeModelEvent(listeners, eventType, event);
+        return 1;
+    }
+
+    private void dispatchUnbatched(TreeModelEvent event, TreeEventType eventType) {
+        long start = System.nanoTime();
+        dispatch(event, eventType);
+        dispatchNanos.addAndGet(System.nanoTime() - start);
+        dispatchedEvents.incrementAndGet();
+    }
+
+    public static long getReceivedEvents() {
+        return receivedEvents.get();
+    }
+
+    public static long getDispatchedEvents() {
+        return dispatchedEvents.get();
+    }
+
+    public static long getDispatchNanos() {
+        return dispatchNanos.get();
+    }
+
+    private static final class PendingEvent {
+        private final BrowserTreeNode node;
+        private final TreePath path;
+        private TreeEventType type;
+
+        private PendingEvent(BrowserTreeNode node, TreePath path, TreeEventType type) {
+            this.node = node;
+            this.path = path;
+            this.type = type;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import com.dbn.common.event.ProjectEvents;
 import com.dbn.common.load.LoadInProgressRegistry;
 import com.dbn.common.ref.WeakRef;
 import com.dbn.common.ui.tree.TreeEventType;
-import com.dbn.common.ui.tree.Trees;
 import com.dbn.common.ui.util.Listeners;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
@@ -39,6 +38,7 @@ import static com.dbn.common.dispose.Failsafe.guarded;
 public abstract class BrowserTreeModel extends StatefulDisposableBase implements TreeModel, StatefulDisposable {
 
     private final Listeners<TreeModelListener> listeners = Listeners.create(this);
+    private final BrowserTreeEventCoalescer eventCoalescer = new BrowserTreeEventCoalescer(this, listeners);
     private final WeakRef<BrowserTreeNode> root;
 
     private final LoadInProgressRegistry<LoadInProgressTreeNode> loadInProgressRegistry =
@@ -77,7 +77,9 @@ public abstract class BrowserTreeModel extends StatefulDisposableBase implements
         if (isNotValid(treeNode)) return;
 
         TreePath treePath = DatabaseBrowserUtils.createTreePath(treeNode);
-        Trees.notifyTreeModelListeners(this, listeners, treePath, eventType);
+        if (treePath == null) return;
+
+        eventCoalescer.queue(treeNode, treePath, eventType);
     }
 
     @NotNull
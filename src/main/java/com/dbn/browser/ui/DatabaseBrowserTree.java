@@ -49,6 +49,7 @@ import com.dbn.object.common.DBObjectBundle;
 import com.dbn.object.common.DBSchemaObject;
 import com.dbn.object.common.list.DBObjectList;
 import com.dbn.object.common.list.action.ObjectListActionGroup;
+import com.dbn.object.common.loader.DatabasePrefetchManager;
 import com.dbn.object.common.property.DBObjectProperty;
 import com.intellij.ide.IdeTooltip;
 import com.intellij.ide.IdeTooltipManager;
@@ -324,6 +325,9 @@ public final class DatabaseBrowserTree extends DBNTree implements Borderless {
                     BrowserTreeNode treeNode = (BrowserTreeNode) object;
                     if (targetSelection == null || treeNode.equals(targetSelection)) {
                         navigationHistory.add(treeNode);
+                        if (treeNode instanceof DBObject) {
+                            DatabasePrefetchManager.getInstance(ensureProject()).recordUsage((DBObject) treeNode);
+                        }
                     }
                 }
 
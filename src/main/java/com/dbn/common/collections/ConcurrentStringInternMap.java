@@ -23,24 +23,27 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
- * A thread-safe class that provides string interning functionality while storing and retrieving
+ * A thread-safe class that provides string deduplication functionality while storing and retrieving
  * key-value pairs. Uses {@link ConcurrentHashMap} as the underlying storage mechanism, ensuring
- * high concurrency in read and write operations. Both keys and values are automatically interned
- * when added or accessed, reducing memory usage by reusing identical string instances.
+ * high concurrency in read and write operations. Keys and values are deduplicated through the {@link NamePool}
+ * when added, reducing memory usage by reusing identical string instances. Lookups do not touch the pool.
  */
 public class ConcurrentStringInternMap {
     private final Map<String, String> data = new ConcurrentHashMap<>();
 
     public String put(@NotNull String key, @NotNull String value) {
-        return data.put(key.intern(), value.intern());
+        return data.put(NamePool.pooled(key), NamePool.pooled(value));
     }
 
     public String get(String key) {
-        return data.get(key.intern());
+        return data.get(key);
     }
 
     public String computeIfAbsent(String key, Function<String, String> mapper) {
-        return data.computeIfAbsent(key.intern(), k -> mapper.apply(k).intern());
+        String value = data.get(key);
+        if (value != null) return value;
+
+        return data.computeIfAbsent(NamePool.pooled(key), k -> NamePool.pooled(mapper.apply(k)));
     }
 
     public void clear() {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.collections;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplication pool for database identifiers (object names, column names...), used instead of {@link String#intern()}.
+ * Unlike the JVM string table, the pool does not retain its entries: names are held weakly and released
+ * as soon as the last object referencing them (e.g. the objects of a schema being reloaded) becomes unreachable.
+ * The pool is split in independently locked stripes, to avoid contention between parallel metadata loaders.
+ * (no dedicated byte storage needed: the JVM compact strings already hold ASCII identifiers as one byte per character)
+ */
+public final class NamePool {
+    private static final int STRIPES = 64;
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private NamePool() {}
+
+    /**
+     * Returns the pooled instance equal to the given name, adding it to the pool if not present
+     * @param name the name to be deduplicated
+     * @return the canonical instance of the name (null if the given name is null)
+     */
+    @Contract("null -> null; !null -> !null")
+    public static String pooled(@Nullable String name) {
+        if (name == null) return null;
+        if (name.isEmpty()) return "";
+
+        int hash = name.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        return stripe.pooled(name);
+    }
+
+    /**
+     * Number of names currently held by the pool (not reclaimed yet)
+     */
+    public static int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+        private final Map<String, WeakReference<String>> names = new WeakHashMap<>();
+
+        synchronized String pooled(String name) {
+            WeakReference<String> ref = names.get(name);
+            String pooled = ref == null ? null : ref.get();
+            if (pooled != null) return pooled;
+
+            names.put(name, new WeakReference<>(name));
+            return name;
+        }
+
+        synchronized int size() {
+            return names.size();
+        }
+    }
+}
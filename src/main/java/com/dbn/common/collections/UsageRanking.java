@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.collections;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded frequency / recency ranking of keys (e.g. the database objects a user works with).
+ * Every usage adds one point to the score of the key, the scores decaying exponentially with the given half-life,
+ * so that a key used often in the past ranks below a key used a few times recently.
+ * When the capacity is exceeded, the key with the lowest (decayed) score is dropped.
+ * @param <K> the type of the ranked keys
+ */
+public final class UsageRanking<K> {
+    private final Map<K, Usage> usages = new HashMap<>();
+    private final int capacity;
+    private final long halfLife;
+
+    public UsageRanking(int capacity, long halfLife) {
+        this.capacity = capacity;
+        this.halfLife = halfLife;
+    }
+
+    /**
+     * Records a usage of the given key.
+     * The score is decayed to the most recent usage time, usages older than that (recorded out of order)
+     * contributing their point decayed by their age relative to it
+     * @param key the key being used
+     * @param timestamp the time of the usage (millis)
+     */
+    public synchronized void record(@NotNull K key, long timestamp) {
+        Usage usage = usages.get(key);
+        long lastTimestamp = usage == null ? timestamp : Math.max(timestamp, usage.timestamp);
+        double score = usage == null ? 0 : usage.score(lastTimestamp, halfLife);
+        double point = Math.pow(0.5, (double) (lastTimestamp - timestamp) / halfLife);
+        usages.put(key, new Usage(score + point, lastTimestamp));
+
+        if (usages.size() > capacity) {
+            K weakest = null;
+            double weakestScore = Double.MAX_VALUE;
+            for (Map.Entry<K, Usage> entry : usages.entrySet()) {
+                double entryScore = entry.getValue().score(timestamp, halfLife);
+                if (entryScore < weakestScore) {
+                    weakest = entry.getKey();
+                    weakestScore = entryScore;
+                }
+            }
+            usages.remove(weakest);
+        }
+    }
+
+    /**
+     * Restores a usage entry persisted from {@link #visit(BiConsumer)}
+     */
+    public synchronized void restore(@NotNull K key, double score, long timestamp) {
+        if (usages.size() >= capacity) return;
+        usages.put(key, new Usage(score, timestamp));
+    }
+
+    /**
+     * Returns the keys with the highest decayed score at the given time, best ranking first
+     * @param count the maximum number of keys to return
+     * @param timestamp the reference time for the decay (millis)
+     */
+    public synchronized List<K> getTop(int count, long timestamp) {
+        List<Map.Entry<K, Usage>> entries = new ArrayList<>(usages.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<K, Usage> e) -> e.getValue().score(timestamp, halfLife)).reversed());
+
+        List<K> keys = new ArrayList<>(Math.min(count, entries.size()));
+        for (int i = 0; i < count && i < entries.size(); i++) {
+            keys.add(entries.get(i).getKey());
+        }
+        return keys;
+    }
+
+    public synchronized double getScore(@NotNull K key, long timestamp) {
+        Usage usage = usages.get(key);
+        return usage == null ? 0 : usage.score(timestamp, halfLife);
+    }
+
+    /**
+     * Visits the (non decayed) usage entries, e.g. for persisting them
+     */
+    public synchronized void visit(BiConsumer<K, Usage> visitor) {
+        usages.forEach(visitor);
+    }
+
+    public synchronized int size() {
+        return usages.size();
+    }
+
+    @Getter
+    public static final class Usage {
+        private final double score;
+        private final long timestamp;
+
+        private Usage(double score, long timestamp) {
+            this.score = score;
+            this.timestamp = timestamp;
+        }
+
+        private double score(long time, long halfLife) {
+            long age = Math.max(0, time - timestamp);
+            return score * Math.pow(0.5, (double) age / halfLife);
+        }
+    }
+}
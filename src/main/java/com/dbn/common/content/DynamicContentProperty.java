@@ -35,8 +35,10 @@ public enum DynamicContentProperty implements Property.IntBase {
     CHANGING,
     LOADING,
     LOADING_IN_BACKGROUND,
+    PRELOADING, // master content scheduled or being loaded by the bulk preload after connect
 
-    SEARCHABLE
+    SEARCHABLE,
+    FILTERED  // elements loaded through a database-side filter
     ;
 
     public static final DynamicContentProperty[] VALUES = values();
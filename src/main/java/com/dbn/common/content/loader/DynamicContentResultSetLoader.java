@@ -161,7 +161,11 @@ public abstract class DynamicContentResultSetLoader<E extends DynamicContentElem
     @Override
     public void loadContent(DynamicContent<E> content) throws SQLException {
         // TODO "computeThreadPriority" utility - handle more thread info cases
-        Priority priority = content.is(INTERNAL) ? Priority.LOW : ThreadInfo.current().is(ThreadProperty.MODAL) ? Priority.HIGH : Priority.MEDIUM;
+        ThreadInfo threadInfo = ThreadInfo.current();
+        Priority priority =
+                content.is(INTERNAL) || threadInfo.is(ThreadProperty.PREFETCH) ? Priority.LOW :
+                threadInfo.is(ThreadProperty.MODAL) ? Priority.HIGH :
+                Priority.MEDIUM;
         DatabaseInterfaceInvoker.execute(priority,
                 "Loading data dictionary",
                 "Loading " + content.getContentDescription(),
@@ -96,6 +96,9 @@ public class DynamicSubcontentLoader<T extends DynamicContentElement, M extends
         DynamicContent<T> sourceContent = subcontentDependency.getSourceContent();
         if (sourceContent.isReady()) return false;
 
+        // bulk preload in flight - wait for the master content instead of issuing per-object queries
+        if (sourceContent.is(DynamicContentProperty.PRELOADING)) return false;
+
         ConnectionHandler connection = sourceContent.getConnection();
         if (!canUseAlternativeLoader(connection)) return false;
 
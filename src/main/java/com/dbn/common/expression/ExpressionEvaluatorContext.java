@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import javax.script.ScriptContext;
+import javax.script.SimpleBindings;
 import javax.script.SimpleScriptContext;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,7 +44,7 @@ public class ExpressionEvaluatorContext {
 
     public ScriptContext createScriptContext() {
         ScriptContext scriptContext = new SimpleScriptContext();
-        bindVariables.forEach((k, v) -> scriptContext.setAttribute(k, v, ScriptContext.ENGINE_SCOPE));
+        scriptContext.setBindings(new SimpleBindings(bindVariables), ScriptContext.ENGINE_SCOPE);
         return scriptContext;
     }
 
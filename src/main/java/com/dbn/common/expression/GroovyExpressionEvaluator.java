@@ -19,9 +19,14 @@ package com.dbn.common.expression;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.dbn.common.expression.SqlToGroovyExpressionConverter.cachedSqlToGroovy;
@@ -30,7 +35,15 @@ import static com.dbn.common.util.Unsafe.cast;
 
 @Slf4j
 public class GroovyExpressionEvaluator implements ExpressionEvaluator{
+    static final int MAX_COMPILED_SCRIPTS = 100;
+
     private final ScriptEngine scriptEngine;
+    private final Map<String, CompiledScript> compiledScripts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+            return size() > MAX_COMPILED_SCRIPTS;
+        }
+    };
 
     public GroovyExpressionEvaluator() {
         ScriptEngineManager manager = new ScriptEngineManager();
@@ -72,7 +85,9 @@ public class GroovyExpressionEvaluator implements ExpressionEvaluator{
             context.setError(null);
 
             ScriptContext scriptContext = context.createScriptContext();
-            Object result = scriptEngine.eval(expression, scriptContext);
+            Object result = context.isTemporary() ?
+                    scriptEngine.eval(expression, scriptContext) :
+                    compiled(expression).eval(scriptContext);
 
             verifyResult(result, expectedOutcome);
             return cast(result);
@@ -83,6 +98,55 @@ public class GroovyExpressionEvaluator implements ExpressionEvaluator{
         }
     }
 
+    /**
+     * Returns the compiled form of the given (groovy) expression, compiling it on first use.
+     * Expressions are immutable strings, hence an edited expression simply resolves to a new cache entry
+     * (the cache is bound to {@link #MAX_COMPILED_SCRIPTS} entries, evicting the least recently used ones)
+     */
+    private CompiledScript compiled(String expression) throws ScriptException {
+        CompiledScript compiledScript;
+        synchronized (compiledScripts) {
+            compiledScript = compiledScripts.get(expression);
+        }
+        if (compiledScript != null) return compiledScript;
+
+        if (scriptEngine instanceof Compilable) {
+            compiledScript = ((Compilable) scriptEngine).compile(expression);
+        } else {
+            compiledScript = new InterpretedScript(expression);
+        }
+        synchronized (compiledScripts) {
+            CompiledScript existing = compiledScripts.putIfAbsent(expression, compiledScript);
+            return existing == null ? compiledScript : existing;
+        }
+    }
+
+    int getCompiledScriptCount() {
+        synchronized (compiledScripts) {
+            return compiledScripts.size();
+        }
+    }
+
+    /**
+     * Fallback for script engines not supporting compilation
+     */
+    private class InterpretedScript extends CompiledScript {
+        private final String expression;
+
+        InterpretedScript(String expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public Object eval(ScriptContext context) throws ScriptException {
+            return scriptEngine.eval(expression, context);
+        }
+
+        @Override
+        public ScriptEngine getEngine() {
+            return scriptEngine;
+        }
+    }
 
     private static void verifyResult(Object result, Class<?> expectedType) {
         if (result == null) return;
@@ -29,16 +29,29 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 final class StatefulFilteredList<T> extends FilteredListBase<T> {
+    private static final int POSITIONS_THRESHOLD = 64;
+
     private final Latent<List<T>> inner = Latent.mutable(
             () -> filterSignature(),
             () -> createInner());
 
+    /**
+     * Positions of the elements in the current (filtered) list, for constant time {@link #indexOf(Object)} lookups on large lists
+     * (tree models resolve child indexes on every paint, expansion and selection).
+     * Built lazily and bound to the list it was created from, hence invalidated with every update or filter change.
+     * Hits are verified against the list and misses are confirmed by a scan, so in-place changes do not return stale indexes
+     */
+    private volatile Positions positions;
+
     @Nullable
     private List<T> createInner() {
         if (filter == null || filter.isEmpty()) {
@@ -138,12 +151,27 @@ final class StatefulFilteredList<T> extends FilteredListBase<T> {
 
     @Override
     public boolean contains(Object o){
-        return list().contains(o);
+        return indexOf(o) > -1;
     }
 
     @Override
     public int indexOf(Object o) {
-        return list().indexOf(o);
+        List<T> list = list();
+        if (list.size() < POSITIONS_THRESHOLD) return list.indexOf(o);
+
+        Positions positions = this.positions;
+        if (positions == null || !positions.isValid(list)) {
+            positions = new Positions(list);
+            this.positions = positions;
+        }
+
+        int index = positions.indexOf(o);
+        if (index > -1 && Objects.equals(list.get(index), o)) return index;
+
+        // stale hit or unconfirmed miss (the list may have changed in place without passing through this wrapper)
+        index = list.indexOf(o);
+        if (index > -1) this.positions = null;
+        return index;
     }
 
     @Override
@@ -269,6 +297,7 @@ final class StatefulFilteredList<T> extends FilteredListBase<T> {
             return action.call();
         } finally {
             inner.reset();
+            positions = null;
         }
     }
 
@@ -278,6 +307,32 @@ final class StatefulFilteredList<T> extends FilteredListBase<T> {
             action.run();
         } finally {
             inner.reset();
+            positions = null;
+        }
+    }
+
+    private static final class Positions {
+        private final List<?> list;
+        private final int size;
+        private final Map<Object, Integer> indexes;
+
+        Positions(List<?> list) {
+            this.list = list;
+            this.size = list.size();
+            this.indexes = new HashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                // first occurrence wins (same as List#indexOf)
+                indexes.putIfAbsent(list.get(i), i);
+            }
+        }
+
+        boolean isValid(List<?> list) {
+            return this.list == list && this.size == list.size();
+        }
+
+        int indexOf(Object o) {
+            Integer index = indexes.get(o);
+            return index == null ? -1 : index;
         }
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.locale;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DecimalStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable (thread-safe) date formatter, producing the same output as the {@link SimpleDateFormat}
+ * it was derived from, backed by a {@link DateTimeFormatter} built from the pattern and the text symbols of the date format.
+ * The pattern letters with diverging semantics in the two APIs (week based fields, day of week numbers,
+ * stand-alone month names) and non-gregorian calendars are not supported - see {@link #of(SimpleDateFormat)}.
+ * Dates before 1901 are not supported either (julian calendar and local mean time offsets
+ * in {@link SimpleDateFormat} / {@link java.util.TimeZone}) - see {@link #supports(Date)}
+ */
+public final class DateFormatter {
+    private static final long MIN_TIME = -2177452800000L; // 1901-01-01 00:00:00 UTC
+
+    private final DateTimeFormatter formatter;
+    private final ZoneId zone;
+
+    private DateFormatter(DateTimeFormatter formatter, ZoneId zone) {
+        this.formatter = formatter;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates a formatter equivalent to the given date format
+     * @return the formatter or null if the date format uses features not covered by this formatter
+     */
+    @Nullable
+    public static DateFormatter of(SimpleDateFormat format) {
+        if (format.getCalendar().getClass() != GregorianCalendar.class) return null;
+
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        if (!build(builder, format.toPattern(), format.getDateFormatSymbols())) return null;
+
+        DecimalStyle decimalStyle = DecimalStyle.STANDARD;
+        NumberFormat numberFormat = format.getNumberFormat();
+        if (numberFormat instanceof DecimalFormat) {
+            DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+            decimalStyle = decimalStyle.withZeroDigit(decimalFormat.getDecimalFormatSymbols().getZeroDigit());
+        }
+
+        DateTimeFormatter formatter = builder.toFormatter(Locale.ROOT).withDecimalStyle(decimalStyle);
+        return new DateFormatter(formatter, format.getTimeZone().toZoneId());
+    }
+
+    public static boolean supports(@NotNull Date date) {
+        return date.getTime() >= MIN_TIME;
+    }
+
+    public String format(@NotNull Date date) {
+        StringBuilder buffer = new StringBuilder(32);
+        format(date, buffer);
+        return buffer.toString();
+    }
+
+    public void format(@NotNull Date date, @NotNull StringBuilder buffer) {
+        // epoch millis (java.sql.Date and Time do not support Date#toInstant, Timestamp nanos are not formatted anyway)
+        formatter.formatTo(Instant.ofEpochMilli(date.getTime()).atZone(zone), buffer);
+    }
+
+    /**
+     * Appends the elements of the given {@link SimpleDateFormat} pattern to the builder
+     * @return false if the pattern is not supported
+     */
+    private static boolean build(DateTimeFormatterBuilder builder, String pattern, DateFormatSymbols symbols) {
+        int length = pattern.length();
+        int index = 0;
+        while (index < length) {
+            char c = pattern.charAt(index);
+            if (c == '\'') {
+                // quoted literal ('' stands for a single quote, inside or outside quoted text)
+                StringBuilder literal = new StringBuilder();
+                int end = index + 1;
+                if (end < length && pattern.charAt(end) == '\'') {
+                    builder.appendLiteral('\'');
+                    index = end + 1;
+                    continue;
+                }
+                while (true) {
+                    if (end >= length) return false;
+                    char lc = pattern.charAt(end);
+                    if (lc == '\'') {
+                        if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+                            literal.append(lc);
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(lc);
+                    end++;
+                }
+                builder.appendLiteral(literal.toString());
+                index = end + 1;
+                continue;
+            }
+
+            int count = 1;
+            while (index + count < length && pattern.charAt(index + count) == c) count++;
+            index += count;
+
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (!append(builder, c, count, symbols)) return false;
+            } else {
+                for (int i = 0; i < count; i++) builder.appendLiteral(c);
+            }
+        }
+        return true;
+    }
+
+    private static boolean append(DateTimeFormatterBuilder builder, char letter, int count, DateFormatSymbols symbols) {
+        switch (letter) {
+            case 'G': builder.appendText(ChronoField.ERA, texts(symbols.getEras(), 0, 0)); return true;
+            case 'y':
+                if (count == 2) {
+                    builder.appendValueReduced(ChronoField.YEAR_OF_ERA, 2, 2, 2000);
+                } else {
+                    appendNumber(builder, ChronoField.YEAR_OF_ERA, count);
+                }
+                return true;
+            case 'M':
+                if (count >= 4) {
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, texts(symbols.getMonths(), 0, 1));
+                } else if (count == 3) {
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, texts(symbols.getShortMonths(), 0, 1));
+                } else {
+                    appendNumber(builder, ChronoField.MONTH_OF_YEAR, count);
+                }
+                return true;
+            case 'E': {
+                String[] weekdays = count >= 4 ? symbols.getWeekdays() : symbols.getShortWeekdays();
+                Map<Long, String> texts = new HashMap<>();
+                // calendar weekdays start with sunday (index 1)
+                for (int day = 1; day <= 7; day++) texts.put((long) day, weekdays[day == 7 ? 1 : day + 1]);
+                builder.appendText(ChronoField.DAY_OF_WEEK, texts);
+                return true;
+            }
+            case 'a': builder.appendText(ChronoField.AMPM_OF_DAY, texts(symbols.getAmPmStrings(), 0, 0)); return true;
+            case 'd': appendNumber(builder, ChronoField.DAY_OF_MONTH, count); return true;
+            case 'D': appendNumber(builder, ChronoField.DAY_OF_YEAR, count); return true;
+            case 'H': appendNumber(builder, ChronoField.HOUR_OF_DAY, count); return true;
+            case 'k': appendNumber(builder, ChronoField.CLOCK_HOUR_OF_DAY, count); return true;
+            case 'K': appendNumber(builder, ChronoField.HOUR_OF_AMPM, count); return true;
+            case 'h': appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, count); return true;
+            case 'm': appendNumber(builder, ChronoField.MINUTE_OF_HOUR, count); return true;
+            case 's': appendNumber(builder, ChronoField.SECOND_OF_MINUTE, count); return true;
+            case 'S': appendNumber(builder, ChronoField.MILLI_OF_SECOND, count); return true;
+            case 'Z': builder.appendOffset("+HHMM", "+0000"); return true;
+            case 'X':
+                if (count > 3) return false;
+                builder.appendOffset(count == 1 ? "+HH" : count == 2 ? "+HHMM" : "+HH:MM", "Z");
+                return true;
+            default:
+                // week based fields (w W Y u F), stand-alone months (L) and time zone names (z)
+                return false;
+        }
+    }
+
+    private static void appendNumber(DateTimeFormatterBuilder builder, ChronoField field, int count) {
+        builder.appendValue(field, Math.min(count, 19), 19, SignStyle.NORMAL);
+    }
+
+    private static Map<Long, String> texts(String[] symbols, int offset, int base) {
+        Map<Long, String> texts = new HashMap<>();
+        for (int i = offset; i < symbols.length; i++) {
+            texts.put((long) (i - offset + base), symbols[i]);
+        }
+        return texts;
+    }
+}
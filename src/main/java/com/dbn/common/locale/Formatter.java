@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.DateFormat;
 import java.text.DateFormatSymbols;
@@ -36,14 +37,24 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 
 
+/**
+ * Regional formatter for dates and numbers.
+ * The instances are thread-safe and shared: formatting goes through immutable {@link DateFormatter} and {@link NumberFormatter}
+ * engines derived from the configured formats.
+ * The legacy {@link DateFormat} / {@link DecimalFormat} instances are only used for parsing
+ * and for the patterns / values not covered by the fast engines (access to them is synchronized)
+ */
 @Getter
 @Setter
 @EqualsAndHashCode
 public class Formatter implements Cloneable, Signed {
+    private static final long MILLIS_PER_DAY = 86400000L;
+
     private DateFormat dateFormat;
     private DateFormat timeFormat;
     private DateFormat dateTimeFormat;
@@ -58,7 +69,12 @@ public class Formatter implements Cloneable, Signed {
 
     private int signature;
 
-    private static final ThreadLocal<Formatter> localFormatter = new ThreadLocal<>();
+    @EqualsAndHashCode.Exclude private DateFormatter dateFormatter;
+    @EqualsAndHashCode.Exclude private DateFormatter timeFormatter;
+    @EqualsAndHashCode.Exclude private DateFormatter dateTimeFormatter;
+    @EqualsAndHashCode.Exclude private NumberFormatter numberFormatter;
+    @EqualsAndHashCode.Exclude private NumberFormatter integerFormatter;
+    @EqualsAndHashCode.Exclude private TimeZone timeZone;
 
     private Formatter() {
     }
@@ -86,6 +102,7 @@ public class Formatter implements Cloneable, Signed {
         datetimeFormatPattern = ((SimpleDateFormat) dateTimeFormat).toPattern();
         numberFormatPattern = numberFormat.toPattern();
         integerFormatPattern = integerFormat.toPattern();
+        initFormatters();
     }
 
     public Formatter(int signature, @NotNull Locale locale, String dateFormatPattern, String timeFormatPattern, String numberFormatPattern) {
@@ -114,6 +131,21 @@ public class Formatter implements Cloneable, Signed {
         numberFormat = new DecimalFormat(this.numberFormatPattern, decimalFormatSymbols);
         integerFormat = new DecimalFormat(this.integerFormatPattern, decimalFormatSymbols);
         integerFormat.setMaximumFractionDigits(0);
+        initFormatters();
+    }
+
+    private void initFormatters() {
+        dateFormatter = createDateFormatter(dateFormat);
+        timeFormatter = createDateFormatter(timeFormat);
+        dateTimeFormatter = createDateFormatter(dateTimeFormat);
+        numberFormatter = NumberFormatter.of(numberFormat);
+        integerFormatter = NumberFormatter.of(integerFormat);
+        timeZone = (TimeZone) dateFormat.getTimeZone().clone();
+    }
+
+    @Nullable
+    private static DateFormatter createDateFormatter(DateFormat format) {
+        return format instanceof SimpleDateFormat ? DateFormatter.of((SimpleDateFormat) format) : null;
     }
 
     public static Formatter create(RegionalSettings settings) {
@@ -121,59 +153,61 @@ public class Formatter implements Cloneable, Signed {
     }
 
     public static Formatter getInstance(@NotNull Project project) {
-        Formatter localFormatter = Formatter.localFormatter.get();
-        Formatter baseFormatter = RegionalSettings.getInstance(project).getBaseFormatter();
-        if (localFormatter == null || localFormatter.getSignature() != baseFormatter.getSignature()) {
-            localFormatter = baseFormatter.clone();
-            Formatter.localFormatter.set(localFormatter);
-        }
-        return localFormatter;
+        return RegionalSettings.getInstance(project).getBaseFormatter();
     }
 
     public String formatDate(Date date) {
-        return dateFormat.format(date);
+        return format(date, dateFormatter, dateFormat);
     }
 
     public Date parseDate(String string) throws ParseException {
-        return dateFormat.parse(string);
+        return parse(string, dateFormat);
     }
 
     public String formatTime(Date date) {
-        return timeFormat.format(date);
+        return format(date, timeFormatter, timeFormat);
     }
 
     public Date parseTime(String string) throws ParseException {
-        return timeFormat.parse(string);
+        return parse(string, timeFormat);
     }
 
     public String formatDateTime(Date date) {
-        return dateTimeFormat.format(date);
+        return format(date, dateTimeFormatter, dateTimeFormat);
     }
 
     public Date parseDateTime(String string) throws ParseException {
         try {
-            return dateTimeFormat.parse(string);
+            return parse(string, dateTimeFormat);
         } catch (ParseException e) {
             conditionallyLog(e);
-            return dateFormat.parse(string);
+            return parse(string, dateFormat);
         }
     }
 
+    /**
+     * Checks whether the given date has a time of day other than midnight (in the time zone of the formatter)
+     */
+    public boolean hasTimeComponent(Date date) {
+        long time = date.getTime();
+        return Math.floorMod(time + timeZone.getOffset(time), MILLIS_PER_DAY) != 0;
+    }
+
 
     public String formatNumber(Number number) {
-        return numberFormat.format(number);
+        return format(number, numberFormatter, numberFormat);
     }
 
     public Number parseNumber(String string) throws ParseException {
-        return numberFormat.parse(string);
+        return parse(string, numberFormat);
     }
 
     public String formatInteger(Number number) {
-        return integerFormat.format(number);
+        return format(number, integerFormatter, integerFormat);
     }
 
     public Number parseInteger(String string) throws ParseException {
-        return integerFormat.parse(string);
+        return parse(string, integerFormat);
     }
 
     public String formatObject(Object object) {
@@ -199,6 +233,32 @@ public class Formatter implements Cloneable, Signed {
         return string;
     }
 
+    private static String format(Date date, @Nullable DateFormatter formatter, DateFormat format) {
+        if (formatter != null && DateFormatter.supports(date)) return formatter.format(date);
+        synchronized (format) {
+            return format.format(date);
+        }
+    }
+
+    private static String format(Number number, @Nullable NumberFormatter formatter, NumberFormat format) {
+        if (formatter != null) return formatter.format(number);
+        synchronized (format) {
+            return format.format(number);
+        }
+    }
+
+    private static Date parse(String string, DateFormat format) throws ParseException {
+        synchronized (format) {
+            return format.parse(string);
+        }
+    }
+
+    private static Number parse(String string, NumberFormat format) throws ParseException {
+        synchronized (format) {
+            return format.parse(string);
+        }
+    }
+
     @Override
     public Formatter clone() {
         Formatter clone = new Formatter();
@@ -213,6 +273,14 @@ public class Formatter implements Cloneable, Signed {
         clone.datetimeFormatPattern = datetimeFormatPattern;
         clone.numberFormatPattern = numberFormatPattern;
         clone.integerFormatPattern = integerFormatPattern;
+
+        clone.signature = signature;
+        clone.dateFormatter = dateFormatter;
+        clone.timeFormatter = timeFormatter;
+        clone.dateTimeFormatter = dateTimeFormatter;
+        clone.numberFormatter = numberFormatter;
+        clone.integerFormatter = integerFormatter;
+        clone.timeZone = timeZone;
         return clone;
     }
 }
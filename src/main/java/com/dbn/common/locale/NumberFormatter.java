@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.locale;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable (thread-safe) number formatter, producing the same output as the {@link DecimalFormat} it was derived from.
+ * Digits are written straight into the given {@link StringBuilder}, without the intermediate
+ * field position bookkeeping and digit list copies of {@link DecimalFormat}.
+ * Only plain decimal patterns are supported (no prefixes / suffixes, exponents, percent or currency symbols)
+ * - see {@link #of(DecimalFormat)}
+ */
+public final class NumberFormatter {
+    private static final int MAX_INTEGER_DIGITS = 309;
+
+    private final int minIntegerDigits;
+    private final int minFractionDigits;
+    private final int maxFractionDigits;
+    private final int groupingSize;
+    private final RoundingMode roundingMode;
+
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final String negativePrefix;
+    private final String infinity;
+    private final String nan;
+
+    private NumberFormatter(DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        minIntegerDigits = format.getMinimumIntegerDigits();
+        minFractionDigits = format.getMinimumFractionDigits();
+        maxFractionDigits = format.getMaximumFractionDigits();
+        groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        roundingMode = format.getRoundingMode();
+
+        zeroDigit = symbols.getZeroDigit();
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        negativePrefix = format.getNegativePrefix();
+        infinity = symbols.getInfinity();
+        nan = symbols.getNaN();
+    }
+
+    /**
+     * Creates a formatter equivalent to the given decimal format
+     * @return the formatter or null if the decimal format uses features not covered by this formatter
+     */
+    @Nullable
+    public static NumberFormatter of(DecimalFormat format) {
+        if (format.getMultiplier() != 1) return null;
+        if (format.isDecimalSeparatorAlwaysShown()) return null;
+        if (format.getMaximumIntegerDigits() < MAX_INTEGER_DIGITS) return null;
+        if (format.getMinimumIntegerDigits() > MAX_INTEGER_DIGITS) return null;
+        if (!format.getPositivePrefix().isEmpty()) return null;
+        if (!format.getPositiveSuffix().isEmpty()) return null;
+        if (!format.getNegativeSuffix().isEmpty()) return null;
+        if (format.toPattern().indexOf('E') > -1) return null;
+        return new NumberFormatter(format);
+    }
+
+    public String format(@NotNull Number number) {
+        StringBuilder buffer = new StringBuilder(24);
+        format(number, buffer);
+        return buffer.toString();
+    }
+
+    public void format(@NotNull Number number, @NotNull StringBuilder buffer) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short ||
+                number instanceof Byte || number instanceof AtomicInteger || number instanceof AtomicLong) {
+            formatLong(number.longValue(), buffer);
+
+        } else if (number instanceof BigDecimal) {
+            BigDecimal value = (BigDecimal) number;
+            formatDecimal(value.signum() < 0, value, buffer);
+
+        } else if (number instanceof BigInteger) {
+            BigInteger value = (BigInteger) number;
+            formatDecimal(value.signum() < 0, new BigDecimal(value), buffer);
+
+        } else {
+            // Double, Float and any other number implementation (formatted by its double value as DecimalFormat does)
+            formatDouble(number.doubleValue(), buffer);
+        }
+    }
+
+    private void formatLong(long value, StringBuilder buffer) {
+        if (value < 0) {
+            buffer.append(negativePrefix);
+            if (value == Long.MIN_VALUE) {
+                appendNumber(Long.toString(value).substring(1), "", buffer);
+                return;
+            }
+            value = -value;
+        }
+        appendNumber(Long.toString(value), "", buffer);
+    }
+
+    private void formatDouble(double value, StringBuilder buffer) {
+        if (Double.isNaN(value)) {
+            buffer.append(nan);
+            return;
+        }
+
+        boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+        if (Double.isInfinite(value)) {
+            if (negative) buffer.append(negativePrefix);
+            buffer.append(infinity);
+            return;
+        }
+
+        // shortest decimal representation, as used by DecimalFormat
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        if (decimal.scale() > maxFractionDigits) {
+            // DecimalFormat resolves rounding ties against the exact binary value of the double
+            decimal = new BigDecimal(value).setScale(maxFractionDigits, roundingMode);
+        }
+        formatDecimal(negative, decimal, buffer);
+    }
+
+    private void formatDecimal(boolean negative, BigDecimal value, StringBuilder buffer) {
+        if (value.scale() > maxFractionDigits) {
+            value = value.setScale(maxFractionDigits, roundingMode);
+        }
+        if (negative) buffer.append(negativePrefix);
+
+        String digits = value.unscaledValue().abs().toString();
+        int scale = value.scale();
+        if (scale <= 0) {
+            if (value.signum() == 0 || scale == 0) {
+                appendNumber(digits, "", buffer);
+            } else {
+                StringBuilder integer = new StringBuilder(digits.length() - scale).append(digits);
+                for (int i = 0; i < -scale; i++) integer.append('0');
+                appendNumber(integer, "", buffer);
+            }
+            return;
+        }
+
+        int integerLength = digits.length() - scale;
+        if (integerLength > 0) {
+            appendNumber(digits.substring(0, integerLength), digits.substring(integerLength), buffer);
+        } else {
+            StringBuilder fraction = new StringBuilder(scale);
+            for (int i = 0; i < -integerLength; i++) fraction.append('0');
+            fraction.append(digits);
+            appendNumber("", fraction, buffer);
+        }
+    }
+
+    private void appendNumber(CharSequence integer, CharSequence fraction, StringBuilder buffer) {
+        int count = appendInteger(integer, buffer) + appendFraction(fraction, buffer);
+        // patterns without mandatory integer digits (e.g. "#.##") still print zero values as "0"
+        if (count == 0) appendDigit('0', buffer);
+    }
+
+    private int appendInteger(CharSequence digits, StringBuilder buffer) {
+        int start = 0;
+        int length = digits.length();
+        // skip leading zeros (re-added as padding if required by the minimum integer digits)
+        while (start < length && digits.charAt(start) == '0') start++;
+
+        int count = Math.max(length - start, minIntegerDigits);
+        for (int i = count; i > 0; i--) {
+            int index = length - i;
+            appendDigit(index < start ? '0' : digits.charAt(index), buffer);
+            if (groupingSize > 0 && i > 1 && (i - 1) % groupingSize == 0) {
+                buffer.append(groupingSeparator);
+            }
+        }
+        return count;
+    }
+
+    private int appendFraction(CharSequence digits, StringBuilder buffer) {
+        int length = digits.length();
+        // drop trailing zeros beyond the minimum fraction digits
+        while (length > minFractionDigits && digits.charAt(length - 1) == '0') length--;
+
+        int count = Math.max(length, minFractionDigits);
+        if (count == 0) return 0;
+
+        buffer.append(decimalSeparator);
+        for (int i = 0; i < count; i++) {
+            appendDigit(i < length ? digits.charAt(i) : '0', buffer);
+        }
+        return count;
+    }
+
+    private void appendDigit(char digit, StringBuilder buffer) {
+        buffer.append(zeroDigit == '0' ? digit : (char) (zeroDigit + (digit - '0')));
+    }
+}
@@ -26,6 +26,7 @@ public enum ThreadProperty implements Property.IntBase {
     DATABASE_INTERFACE(true),
     WORKSPACE_RESTORE(true),
     DEBUGGER_NAVIGATION(true),
+    PREFETCH(true),
 
     TIMEOUT    (true),
     PROMPTED   (true),
@@ -23,6 +23,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -41,6 +43,7 @@ public final class Threads {
     private static final ExecutorService TIMEOUT_DAEMON_EXECUTOR     = newThreadPool("DBN - Timeout Execution Daemon",  true,  5, 200);
     private static final ExecutorService CODE_COMPLETION_EXECUTOR    = newThreadPool("DBN - Code Completion Thread",    true,  5, 100);
     private static final ExecutorService OBJECT_LOOKUP_EXECUTOR      = newThreadPool("DBN - Object Lookup Thread",      true,  5, 100);
+    private static final ExecutorService DATA_SEARCH_EXECUTOR        = newForkJoinPool("DBN - Data Search Thread");
     public static final long DELAY = TimeUnit.MILLISECONDS.toNanos(1);
 
     @NotNull
@@ -66,6 +69,19 @@ public final class Threads {
         return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, 1L, TimeUnit.MINUTES, queue, threadFactory);
     }
 
+    /**
+     * Bounded pool for cpu-bound work (one thread less than the available processors, leaving room for the UI)
+     */
+    private static ExecutorService newForkJoinPool(String name) {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + " " + thread.getPoolIndex());
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, threadFactory, null, true);
+    }
 
     public static ExecutorService timeoutExecutor(boolean daemon) {
         return daemon ? TIMEOUT_DAEMON_EXECUTOR : TIMEOUT_EXECUTOR;
@@ -95,6 +111,10 @@ public final class Threads {
         return OBJECT_LOOKUP_EXECUTOR;
     }
 
+    public static ExecutorService dataSearchExecutor() {
+        return DATA_SEARCH_EXECUTOR;
+    }
+
     static void delay(Object sync) {
         LockSupport.parkNanos(sync, DELAY);
     }
@@ -44,6 +44,13 @@ public class DBNTableColumnWidths {
     private final Map<Integer, Integer> fixedWidths = new HashMap<>();
     private final Map<Integer, Integer> proportionalWidths = new HashMap<>();
 
+    /** running content widths per model column index (rows are measured only once) */
+    private final Map<Integer, ContentWidth> contentWidths = new HashMap<>();
+    private WeakRef<DBNTableModel> measuredModel;
+
+    /** max rows measured on every adjustment (larger row ranges are sampled) */
+    private static final int SAMPLE_SIZE = 1000;
+
     public DBNTableColumnWidths(DBNTable table) {
         this.table = WeakRef.of(table);
         this.metricsCache = new FontMetrics(table);
@@ -132,28 +139,74 @@ public class DBNTableColumnWidths {
         }
 
         // rows
-        String columnName = model.getColumnName(columnIndex);
+        ContentWidth contentWidth = getContentWidth(model, column.getModelIndex());
         int rowCount = model.getRowCount();
-        for (int r = 0; r < rowCount; r++) {
-            if (preferredWidth >= maxWidth) break;
+        if (rowCount <= SAMPLE_SIZE || rowCount < contentWidth.rows) {
+            // small (or shrinking) models are measured entirely on every adjustment
+            contentWidth.reset();
+        }
+        if (rowCount > contentWidth.rows) {
+            measureRows(model, column.getModelIndex(), contentWidth, maxWidth);
+        }
+        preferredWidth = Math.max(preferredWidth, contentWidth.width);
+
+        preferredWidth = Math.min(preferredWidth, maxWidth);
+        preferredWidth = Math.max(preferredWidth, minWidth);
+        preferredWidth = preferredWidth + span;
+
+        if (column.getPreferredWidth() != preferredWidth)  {
+            column.setPreferredWidth(preferredWidth);
+        }
+    }
 
-            int c = column.getModelIndex();
-            Object value = model.getValueAt(r, c);
+    /**
+     * Discards the measured content widths (to be invoked when existing rows change)
+     */
+    public void resetContentWidths() {
+        contentWidths.clear();
+    }
+
+    private ContentWidth getContentWidth(DBNTableModel model, int modelColumnIndex) {
+        if (WeakRef.get(measuredModel) != model) {
+            // new data model - start over
+            measuredModel = WeakRef.of(model);
+            contentWidths.clear();
+        }
+        return contentWidths.computeIfAbsent(modelColumnIndex, c -> new ContentWidth());
+    }
+
+    /**
+     * Measures the rows added since the previous adjustment.
+     * Row ranges larger than {@link #SAMPLE_SIZE} are sampled evenly, keeping the cost independent of the row count
+     */
+    private void measureRows(DBNTableModel model, int modelColumnIndex, ContentWidth contentWidth, int maxWidth) {
+        String columnName = model.getColumnName(modelColumnIndex);
+        int fromRow = contentWidth.rows;
+        int toRow = model.getRowCount();
+        int step = Math.max(1, (toRow - fromRow) / SAMPLE_SIZE);
+
+        for (int r = fromRow; r < toRow; r += step) {
+            if (contentWidth.width >= maxWidth) break;
+
+            Object value = model.getValueAt(r, modelColumnIndex);
             if (value == null) continue;
 
-            String displayValue = model.getPresentableValue(value, c);
+            String displayValue = model.getPresentableValue(value, modelColumnIndex);
             if (displayValue == null || displayValue.length() >= 100) continue;
 
             int cellWidth = metricsCache.getTextWidth(columnName, displayValue);
-            preferredWidth = Math.max(preferredWidth, cellWidth);
+            contentWidth.width = Math.max(contentWidth.width, cellWidth);
         }
+        contentWidth.rows = toRow;
+    }
 
-        preferredWidth = Math.min(preferredWidth, maxWidth);
-        preferredWidth = Math.max(preferredWidth, minWidth);
-        preferredWidth = preferredWidth + span;
+    private static class ContentWidth {
+        private int width;
+        private int rows;
 
-        if (column.getPreferredWidth() != preferredWidth)  {
-            column.setPreferredWidth(preferredWidth);
+        void reset() {
+            width = 0;
+            rows = 0;
         }
     }
 }
@@ -109,24 +109,29 @@ public final class Trees {
     }
 
     private static void notifyTreeModelListeners(Listeners<TreeModelListener> listeners, final TreeEventType eventType, final TreeModelEvent event) {
-        Dispatch.run(() -> {
-            try {
-                Object lastPathComponent = event.getTreePath().getLastPathComponent();
-                if (lastPathComponent == null) return;
-
-                listeners.notify(l -> {
-                    switch (eventType) {
-                        case NODES_ADDED:       l.treeNodesInserted(event);    break;
-                        case NODES_REMOVED:     l.treeNodesRemoved(event);     break;
-                        case NODES_CHANGED:     l.treeNodesChanged(event);     break;
-                        case STRUCTURE_CHANGED: l.treeStructureChanged(event); break;
-                    }
-                });
-            } catch (IndexOutOfBoundsException e) {
-                conditionallyLog(e);
-                // tree may have mutated already
-            }
-        });
+        Dispatch.run(() -> dispatchTreeModelEvent(listeners, eventType, event));
+    }
+
+    /**
+     * Notifies the tree model listeners synchronously (to be invoked from the dispatch thread)
+     */
+    public static void dispatchTreeModelEvent(Listeners<TreeModelListener> listeners, TreeEventType eventType, TreeModelEvent event) {
+        try {
+            Object lastPathComponent = event.getTreePath().getLastPathComponent();
+            if (lastPathComponent == null) return;
+
+            listeners.notify(l -> {
+                switch (eventType) {
+                    case NODES_ADDED:       l.treeNodesInserted(event);    break;
+                    case NODES_REMOVED:     l.treeNodesRemoved(event);     break;
+                    case NODES_CHANGED:     l.treeNodesChanged(event);     break;
+                    case STRUCTURE_CHANGED: l.treeStructureChanged(event); break;
+                }
+            });
+        } catch (IndexOutOfBoundsException e) {
+            conditionallyLog(e);
+            // tree may have mutated already
+        }
     }
 
     public static TreePath getPathAtMousePosition(JTree tree) {
@@ -150,7 +150,9 @@ public class ConnectionHandlerStatusHolder extends PropertyHolderBase.IntStore<C
     }
 
     public void setConnected(boolean connected) {
+        boolean changed = this.connected.get() != connected;
         this.connected.set(connected);
+        if (changed) this.connected.statusChanged(ConnectionHandlerStatus.CONNECTED);
     }
 
     public boolean isConnected() {
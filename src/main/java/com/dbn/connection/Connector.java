@@ -268,6 +268,7 @@ class Connector {
                     connectionSettings.getConnectionId(),
                     sessionId);
 
+            conn.getStatementCache().setCapacity(databaseType.getStatementCacheSize());
             Resources.setAutoCommit(conn, autoCommit);
             return conn;
 
@@ -244,6 +244,20 @@ public enum DatabaseType implements Constant<DatabaseType>, Presentable{
         return GENERIC;
     }
 
+    /**
+     * Maximum number of prepared statements cached per connection
+     * (bound by the open cursors / prepared statements limits of the database server)
+     */
+    public int getStatementCacheSize() {
+        switch (this) {
+            case ORACLE: return 100;   // OPEN_CURSORS defaults to 300 per session
+            case POSTGRES: return 100;
+            case MYSQL: return 50;     // MAX_PREPARED_STMT_COUNT is shared by all sessions of the server
+            case SQLITE: return 100;
+            default: return 50;
+        }
+    }
+
     public boolean supportsAuthentication() {
         return authTypes.length > 1 || authTypes[0] != NONE;
     }
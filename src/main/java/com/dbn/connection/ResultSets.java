@@ -16,6 +16,7 @@
 
 package com.dbn.connection;
 
+import com.dbn.common.collections.NamePool;
 import com.dbn.common.dispose.StatefulDisposableBase;
 import com.dbn.common.exception.Exceptions;
 import com.dbn.common.routine.Consumer;
@@ -98,7 +99,7 @@ public class ResultSets extends StatefulDisposableBase {
         ResultSetMetaData metaData = resultSet.getMetaData();
         int columnCount = metaData.getColumnCount();
         for (int i=0; i<columnCount; i++) {
-            columnNames.add(metaData.getColumnName(i+1).intern());
+            columnNames.add(NamePool.pooled(metaData.getColumnName(i+1)));
         }
         return columnNames;
     }
@@ -24,7 +24,9 @@ import com.dbn.connection.transaction.action.PendingTransactionsOpenAction;
 import com.dbn.connection.transaction.action.TransactionCommitAction;
 import com.dbn.connection.transaction.action.TransactionRollbackAction;
 import com.dbn.diagnostics.action.BulkLoadAllObjectsAction;
+import com.dbn.diagnostics.action.MetadataLoadBenchmarkAction;
 import com.dbn.diagnostics.action.MiscellaneousConnectionAction;
+import com.dbn.diagnostics.action.SyntheticSchemaScriptAction;
 
 public class ConnectionActionGroup extends AbstractConnectionActionGroup {
 
@@ -46,6 +48,8 @@ public class ConnectionActionGroup extends AbstractConnectionActionGroup {
         add(new DatabaseDisconnectAction(connection));
         add(new DatabaseConnectivityTestAction(connection));
         add(new BulkLoadAllObjectsAction(connection));
+        add(new MetadataLoadBenchmarkAction(connection));
+        add(new SyntheticSchemaScriptAction(connection));
         add(new MiscellaneousConnectionAction(connection));
         addSeparator();
         add(new DatabaseInformationOpenAction(connection));
@@ -52,6 +52,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
     private boolean connectAutomatically = true;
     private boolean restoreWorkspace = true;
     private boolean restoreWorkspaceDeep = false;
+    private boolean preloadMasterLists = false;
+    private boolean prefetchUsedObjects = false;
     private int connectivityTimeoutSeconds = 30; // default to 30 seconds instead of 5 to support longer ADB connect times
     private int idleMinutesToDisconnect = 30;
     private int idleMinutesToDisconnectPool = 5;
@@ -114,6 +116,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         connectAutomatically = getBoolean(element, "connect-automatically", connectAutomatically);
         restoreWorkspace = getBoolean(element, "restore-workspace", restoreWorkspace);
         restoreWorkspaceDeep = getBoolean(element, "restore-workspace-deep", restoreWorkspaceDeep);
+        preloadMasterLists = getBoolean(element, "preload-master-lists", preloadMasterLists);
+        prefetchUsedObjects = getBoolean(element, "prefetch-used-objects", prefetchUsedObjects);
         environmentTypeId = EnvironmentTypeId.get(getString(element, "environment-type", EnvironmentTypeId.DEFAULT.id()));
         connectivityTimeoutSeconds = getInteger(element, "connectivity-timeout", connectivityTimeoutSeconds);
         idleMinutesToDisconnect = getInteger(element, "idle-time-to-disconnect", idleMinutesToDisconnect);
@@ -133,6 +137,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         setBoolean(element, "connect-automatically", connectAutomatically);
         setBoolean(element, "restore-workspace", restoreWorkspace);
         setBoolean(element, "restore-workspace-deep", restoreWorkspaceDeep);
+        setBoolean(element, "preload-master-lists", preloadMasterLists);
+        setBoolean(element, "prefetch-used-objects", prefetchUsedObjects);
         setString(element, "environment-type", environmentTypeId.id());
         setInteger(element, "connectivity-timeout", connectivityTimeoutSeconds);
         setInteger(element, "idle-time-to-disconnect", idleMinutesToDisconnect);
@@ -27,7 +27,9 @@ import com.dbn.object.DBColumn;
 import com.dbn.object.DBSchema;
 import com.dbn.object.common.DBObject;
 import com.dbn.object.filter.custom.ObjectFilter;
+import com.dbn.object.filter.custom.ObjectFilterDefinition;
 import com.dbn.object.filter.custom.ObjectFilterSettings;
+import com.dbn.object.filter.custom.ObjectFilterTranslator;
 import com.dbn.object.filter.generic.FeaturedColumnsFilter;
 import com.dbn.object.filter.generic.NonEmptySchemaFilter;
 import com.dbn.object.filter.type.ObjectTypeFilterSettings;
@@ -54,6 +56,7 @@ public class ConnectionFilterSettings extends CompositeProjectConfiguration<Conn
     private boolean hideEmptySchemas = false;
     private boolean hidePseudoColumns = false;
     private boolean hideAuditColumns = false;
+    private boolean pushDownFilters = false;
 
     private transient final Latent<Filter<DBSchema>> schemaFilter = Latent.basic(() -> loadSchemaFilter());
     private transient final Latent<Filter<DBColumn>> columnFilter = Latent.basic(() -> loadColumnFilter());
@@ -156,6 +159,7 @@ public class ConnectionFilterSettings extends CompositeProjectConfiguration<Conn
         hideEmptySchemas = booleanAttribute(element, "hide-empty-schemas", hideEmptySchemas);
         hidePseudoColumns = booleanAttribute(element, "hide-pseudo-columns", hidePseudoColumns);
         hideAuditColumns = booleanAttribute(element, "hide-audit-columns", hideAuditColumns);
+        pushDownFilters = booleanAttribute(element, "push-down-filters", pushDownFilters);
         super.readConfiguration(element);
 
         schemaFilter.reset();
@@ -167,6 +171,7 @@ public class ConnectionFilterSettings extends CompositeProjectConfiguration<Conn
         setBooleanAttribute(element, "hide-empty-schemas", hideEmptySchemas);
         setBooleanAttribute(element, "hide-pseudo-columns", hidePseudoColumns);
         setBooleanAttribute(element, "hide-audit-columns", hideAuditColumns);
+        setBooleanAttribute(element, "push-down-filters", pushDownFilters);
         super.writeConfiguration(element);
     }
 
@@ -178,6 +183,25 @@ public class ConnectionFilterSettings extends CompositeProjectConfiguration<Conn
                 cast(getObjectFilterSettings().getFilter(objectType));
     }
 
+    /**
+     * SQL predicate restricting the metadata query loading the objects of the given type, if filters are to be
+     * pushed down to the database. Objects rejected by the predicate are not loaded at all (they can no longer
+     * be resolved in code, as opposed to objects hidden by the client-side filters)
+     * @return the predicate or null if the filters of the given object type are evaluated on client side only
+     */
+    @Nullable
+    public String getDatabaseFilter(DBObjectType objectType) {
+        if (!pushDownFilters) return null;
+
+        ObjectFilter<?> filter = getObjectFilterSettings().getFilter(objectType);
+        String predicate = filter == null ? null : filter.getDatabasePredicate();
+        if (objectType == DBObjectType.SCHEMA && hideEmptySchemas) {
+            String nonEmpty = ObjectFilterTranslator.translate(ObjectFilterDefinition.of(objectType), "not EMPTY_SCHEMA");
+            predicate = predicate == null ? nonEmpty : predicate + " and " + nonEmpty;
+        }
+        return predicate;
+    }
+
     public ConnectionFilterSettings clone() {
         Element element = new Element(getConfigElementName());
         writeConfiguration(element);
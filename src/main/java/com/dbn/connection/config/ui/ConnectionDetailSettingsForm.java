@@ -71,6 +71,8 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
     private JCheckBox autoConnectCheckBox;
     private JCheckBox restoreWorkspaceCheckBox;
     private JCheckBox restoreWorkspaceDeepCheckBox;
+    private JCheckBox preloadMasterListsCheckBox;
+    private JCheckBox prefetchUsedObjectsCheckBox;
 
     public ConnectionDetailSettingsForm(ConnectionDetailSettings configuration) {
         super(configuration);
@@ -192,6 +194,8 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
         configuration.setCharset(charsetOption == null ? null : charsetOption.getCharset());
         configuration.setRestoreWorkspace(restoreWorkspaceCheckBox.isSelected());
         configuration.setRestoreWorkspaceDeep(restoreWorkspaceDeepCheckBox.isSelected());
+        configuration.setPreloadMasterLists(preloadMasterListsCheckBox.isSelected());
+        configuration.setPrefetchUsedObjects(prefetchUsedObjectsCheckBox.isSelected());
         configuration.setConnectAutomatically(autoConnectCheckBox.isSelected());
         configuration.setEnableSessionManagement(sessionManagementCheckBox.isSelected());
         configuration.setEnableDdlFileBinding(ddlFileBindingCheckBox.isSelected());
@@ -219,6 +223,8 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
         autoConnectCheckBox.setSelected(configuration.isConnectAutomatically());
         restoreWorkspaceCheckBox.setSelected(configuration.isRestoreWorkspace());
         restoreWorkspaceDeepCheckBox.setSelected(configuration.isRestoreWorkspaceDeep());
+        preloadMasterListsCheckBox.setSelected(configuration.isPreloadMasterLists());
+        prefetchUsedObjectsCheckBox.setSelected(configuration.isPrefetchUsedObjects());
         setSelection(environmentTypesComboBox, configuration.getEnvironmentType());
         connectivityTimeoutTextField.setText(Integer.toString(configuration.getConnectivityTimeoutSeconds()));
         idleTimeTextField.setText(Integer.toString(configuration.getIdleMinutesToDisconnect()));
@@ -39,6 +39,7 @@ public class ConnectionFilterSettingsForm extends CompositeConfigurationEditorFo
     private JCheckBox hideEmptySchemasCheckBox;
     private JCheckBox hideAuditColumnsCheckBox;
     private JCheckBox hidePseudoColumnsCheckBox;
+    private JCheckBox pushDownFiltersCheckBox;
 
     public ConnectionFilterSettingsForm(ConnectionFilterSettings settings) {
         super(settings);
@@ -48,10 +49,12 @@ public class ConnectionFilterSettingsForm extends CompositeConfigurationEditorFo
         hideEmptySchemasCheckBox.setSelected(settings.isHideEmptySchemas());
         hideAuditColumnsCheckBox.setSelected(settings.isHideAuditColumns());
         hidePseudoColumnsCheckBox.setSelected(settings.isHidePseudoColumns());
+        pushDownFiltersCheckBox.setSelected(settings.isPushDownFilters());
 
         registerComponent(hideEmptySchemasCheckBox);
         registerComponent(hideAuditColumnsCheckBox);
         registerComponent(hidePseudoColumnsCheckBox);
+        registerComponent(pushDownFiltersCheckBox);
     }
 
     @NotNull
@@ -67,6 +70,7 @@ public class ConnectionFilterSettingsForm extends CompositeConfigurationEditorFo
         boolean notifyFilterListenersColumns =
                 configuration.isHideAuditColumns() != hideAuditColumnsCheckBox.isSelected() ||
                 configuration.isHidePseudoColumns() != hidePseudoColumnsCheckBox.isSelected();
+        boolean notifyFilterListenersPushDown = configuration.isPushDownFilters() != pushDownFiltersCheckBox.isSelected();
 
         applyFormChanges(configuration);
 
@@ -83,6 +87,11 @@ public class ConnectionFilterSettingsForm extends CompositeConfigurationEditorFo
                     ObjectFilterChangeListener.TOPIC,
                     (listener) -> listener.nameFiltersChanged(connectionId, Constant.array(DBObjectType.COLUMN)));
             }
+            if (notifyFilterListenersPushDown) {
+                ProjectEvents.notify(project,
+                    ObjectFilterChangeListener.TOPIC,
+                    (listener) -> listener.nameFiltersChanged(connectionId, Constant.array(DBObjectType.SCHEMA, DBObjectType.TABLE, DBObjectType.VIEW)));
+            }
         });
     }
 
@@ -91,5 +100,6 @@ public class ConnectionFilterSettingsForm extends CompositeConfigurationEditorFo
         configuration.setHideEmptySchemas(hideEmptySchemasCheckBox.isSelected());
         configuration.setHideAuditColumns(hideAuditColumnsCheckBox.isSelected());
         configuration.setHidePseudoColumns(hidePseudoColumnsCheckBox.isSelected());
+        configuration.setPushDownFilters(pushDownFiltersCheckBox.isSelected());
     }
 }
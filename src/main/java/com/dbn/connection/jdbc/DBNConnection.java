@@ -48,9 +48,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -78,7 +76,7 @@ public class DBNConnection extends DBNConnectionBase {
 
     private final Set<DBNStatement> activeStatements = ConcurrentHashMap.newKeySet();
     private final Set<DBNResultSet> activeCursors = ConcurrentHashMap.newKeySet();
-    private final Map<String, DBNPreparedStatement> cachedStatements = new ConcurrentHashMap<>();
+    private final DBNStatementCache statementCache = new DBNStatementCache();
     private transient DBNStatement enquoteStatement;
 
     private final IncrementalResourceStatusAdapter<DBNConnection> active =
@@ -181,26 +179,30 @@ public class DBNConnection extends DBNConnectionBase {
     }
 
 
+    /**
+     * Returns the cached statement for the given sql (prepared if not cached yet).
+     * The statement is in use until parked (see {@link DBNStatement#park()}) and can not be evicted from the cache until then
+     */
     @Exploitable
     public DBNPreparedStatement prepareStatementCached(String sql) {
-        return cachedStatements.computeIfAbsent(sql, s -> {
+        return statementCache.get(sql, s -> {
             DBNPreparedStatement statement = prepareStatement(s);
             statement.setCached(true);
             statement.setFetchSize(500);
             statement.setSql(s);
             return statement;
-        });
+        }, s -> activeStatements.contains(s), s -> activeStatements.add(s));
     }
 
     @Exploitable
     public DBNCallableStatement prepareCallCached(String sql) {
-        return cast(cachedStatements.computeIfAbsent(sql, s -> {
+        return cast(statementCache.get(sql, s -> {
             DBNPreparedStatement statement = prepareCall(s);
             statement.setCached(true);
             statement.setFetchSize(500);
             statement.setSql(s);
             return statement;
-        }));
+        }, s -> activeStatements.contains(s), s -> activeStatements.add(s)));
     }
 
     @Override
@@ -238,7 +240,7 @@ public class DBNConnection extends DBNConnectionBase {
         park(statement);
         if (statement.isCached() && statement instanceof DBNPreparedStatement) {
             DBNPreparedStatement preparedStatement = (DBNPreparedStatement) statement;
-            cachedStatements.values().removeIf(v -> v == preparedStatement);
+            statementCache.remove(preparedStatement);
         }
 
         updateLastAccess();
@@ -254,7 +256,7 @@ public class DBNConnection extends DBNConnectionBase {
     }
 
     public int getCachedStatementCount() {
-        return cachedStatements.size();
+        return statementCache.size();
     }
 
     public int getActiveCursorCount() {
@@ -406,8 +408,7 @@ public class DBNConnection extends DBNConnectionBase {
     public void close() throws SQLException {
         try {
             super.close();
-            List<DBNPreparedStatement> statements = new ArrayList<>(cachedStatements.values());
-            cachedStatements.clear();
+            List<DBNPreparedStatement> statements = statementCache.clear();
             Resources.close(statements);
         } finally {
             updateLastAccess();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.connection.jdbc;
+
+import com.dbn.connection.Resources;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Size-bound prepared statement cache of a {@link DBNConnection}.
+ * Statements are evicted in least-recently-used order once the capacity is exceeded,
+ * skipping the ones still in use (checked out and not yet parked).
+ * Evicted statements are closed, releasing the server side cursors they hold.
+ */
+public final class DBNStatementCache {
+    public static final int DEFAULT_CAPACITY = 50;
+
+    private final Map<String, DBNPreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile @Getter int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Returns the statement for the given sql, checked out under the cache lock so it can not be evicted
+     * (and closed) between the lookup and the moment it is marked as in use.
+     * Cached statements found closed are discarded and prepared again.
+     *
+     * @param loader prepares the statement if not cached yet
+     * @param inUse tells which of the cached statements can not be evicted
+     * @param checkout marks the returned statement as in use
+     */
+    @NotNull
+    DBNPreparedStatement get(
+            String sql,
+            Function<String, DBNPreparedStatement> loader,
+            Predicate<DBNPreparedStatement> inUse,
+            Consumer<DBNPreparedStatement> checkout) {
+
+        List<DBNPreparedStatement> evicted;
+        DBNPreparedStatement statement;
+        synchronized (this) {
+            statement = statements.get(sql);
+            if (statement != null && !statement.isClosed()) {
+                hits.incrementAndGet();
+                checkout.accept(statement);
+                return statement;
+            }
+
+            if (statement != null) statements.remove(sql);
+            misses.incrementAndGet();
+            statement = loader.apply(sql);
+            statements.put(sql, statement);
+            checkout.accept(statement);
+            evicted = evict(inUse);
+        }
+
+        Resources.close(evicted);
+        return statement;
+    }
+
+    private List<DBNPreparedStatement> evict(Predicate<DBNPreparedStatement> inUse) {
+        int excess = statements.size() - capacity;
+        if (excess <= 0) return List.of();
+
+        List<DBNPreparedStatement> evicted = new ArrayList<>(excess);
+        Iterator<DBNPreparedStatement> iterator = statements.values().iterator();
+        while (iterator.hasNext() && evicted.size() < excess) {
+            DBNPreparedStatement statement = iterator.next();
+            if (inUse.test(statement)) continue;
+
+            iterator.remove();
+            evicted.add(statement);
+        }
+        evictions.addAndGet(evicted.size());
+        return evicted;
+    }
+
+    synchronized void remove(DBNPreparedStatement statement) {
+        statements.values().removeIf(s -> s == statement);
+    }
+
+    synchronized List<DBNPreparedStatement> clear() {
+        List<DBNPreparedStatement> statements = new ArrayList<>(this.statements.values());
+        this.statements.clear();
+        return statements;
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+}
@@ -22,6 +22,7 @@ import com.dbn.common.util.Dialogs;
 import com.dbn.data.editor.ui.DataEditorComponent;
 import com.dbn.data.editor.ui.UserValueHolder;
 import com.dbn.data.type.DBDataType;
+import com.dbn.data.value.LargeObjectValue;
 import com.dbn.object.type.DBObjectType;
 import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.openapi.editor.event.DocumentListener;
@@ -43,6 +44,10 @@ public class TextEditorDialog extends DBNDialog<TextEditorForm> {
         getOKAction().setEnabled(false);
         setModal(true);
         init();
+
+        if (getForm().isTruncated()) {
+            setTitle(getTitle() + " - " + txt("msg.dataEditor.info.ContentTruncated", LargeObjectValue.MAX_DISPLAY_SIZE / 1024));
+        }
     }
 
     @NotNull
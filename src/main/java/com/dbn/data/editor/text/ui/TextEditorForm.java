@@ -67,6 +67,7 @@ public class TextEditorForm extends DBNFormBase {
     private EditorEx editor;
     private String error;
     private String text;
+    private boolean truncated;
 
     private final UserValueHolder<?> userValueHolder;
     private final DataEditorComponent textEditorAdapter;
@@ -136,6 +137,7 @@ public class TextEditorForm extends DBNFormBase {
         document.addDocumentListener(documentListener);
         editor = Editors.createEditor(document, project, virtualFile, fileType);
         editor.setEmbeddedIntoDialogWrapper(true);
+        editor.setViewer(truncated);
         editor.getContentComponent().setFocusTraversalKeysEnabled(false);
 
         if (fileType instanceof DBLanguageFileType) {
@@ -171,7 +173,10 @@ public class TextEditorForm extends DBNFormBase {
             } else if (userValue instanceof LargeObjectValue) {
                 LargeObjectValue largeObjectValue = (LargeObjectValue) userValue;
                 dataType = largeObjectValue.getGenericDataType();
-                return largeObjectValue.read();
+
+                // large values are not loaded in full (only their beginning is shown, read-only)
+                truncated = largeObjectValue.isDisplayTruncated();
+                return largeObjectValue.readDisplayValue();
             }
         } catch (SQLException e) {
             conditionallyLog(e);
@@ -180,6 +185,10 @@ public class TextEditorForm extends DBNFormBase {
         return null;
     }
 
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     @NotNull
     public String getText() {
         return editor.getDocument().getText();
@@ -136,6 +136,7 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
     public JBPopup createPopup() {
         JTextField textField = getTextField();
         String text = "";
+        boolean truncated = false;
         UserValueHolder userValueHolder = getEditorComponent().getUserValueHolder();
         if (textField.isEditable()) {
             text = textField.getText();
@@ -146,7 +147,8 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
             } else if (userValue instanceof LargeObjectValue) {
                 LargeObjectValue largeObjectValue = (LargeObjectValue) userValue;
                 try {
-                    text = Commons.nvl(largeObjectValue.read(), "");
+                    truncated = largeObjectValue.isDisplayTruncated();
+                    text = Commons.nvl(largeObjectValue.readDisplayValue(), "");
                 } catch (SQLException e) {
                     conditionallyLog(e);
                     Messages.showErrorDialog(getProject(), e.getLocalizedMessage(), e);
@@ -156,6 +158,7 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
         }
 
         editorTextArea.setText(text);
+        editorTextArea.setEditable(!truncated);
         changed = false;
         if (textField.isEditable()) editorTextArea.setCaretPosition(textField.getCaretPosition());
         editorTextArea.setSelectionStart(textField.getSelectionStart());
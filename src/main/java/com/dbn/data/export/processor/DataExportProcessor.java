@@ -39,9 +39,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.SQLException;
-import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
 
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 
@@ -52,7 +50,8 @@ public abstract class DataExportProcessor {
     public abstract void performExport(DataExportModel model, DataExportInstructions instructions, ConnectionHandler connection) throws DataExportException;
 
     Formatter getFormatter(Project project) {
-        return Formatter.getInstance(project).clone();
+        // formatters are thread-safe and shared
+        return Formatter.getInstance(project);
     }
 
     @NonNls
@@ -116,17 +115,6 @@ public abstract class DataExportProcessor {
         return fileName;
     }
 
-    public static boolean hasTimeComponent(Date date) {
-        Calendar calendar = new GregorianCalendar();
-        calendar.setTime(date);
-
-        return
-            calendar.get(Calendar.HOUR) != 0 ||
-            calendar.get(Calendar.MINUTE) != 0 ||
-            calendar.get(Calendar.SECOND) != 0 ||
-            calendar.get(Calendar.MILLISECOND) != 0;
-    }
-
     protected static String formatValue(Formatter formatter, Object value) throws DataExportException {
         if (value != null) {
             if (value instanceof Number) {
@@ -134,7 +122,7 @@ public abstract class DataExportProcessor {
                 return formatter.formatNumber(number);
             } else if (value instanceof Date) {
                 Date date = (Date) value;
-                return hasTimeComponent(date) ?
+                return formatter.hasTimeComponent(date) ?
                         formatter.formatDateTime(date) :
                         formatter.formatDate(date);
             } else if (value instanceof ValueAdapter){
@@ -152,7 +152,7 @@ public class ExcelDataExportProcessor extends DataExportProcessor{
 
         } else if (value instanceof Date) {
             Date date = (Date) value;
-            boolean hasTime = hasTimeComponent(date);
+            boolean hasTime = formatter.hasTimeComponent(date);
             cell.setCellValue(date);
             cell.setCellStyle(hasTime ?
                     cellStyleCache.getDatetimeStyle() :
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.data.find;
+
+import com.dbn.common.exception.OutdatedContentException;
+import com.dbn.common.thread.Threads;
+import com.dbn.common.util.Strings;
+import com.dbn.data.model.DataModel;
+import com.dbn.data.model.DataModelCell;
+import com.dbn.data.model.DataModelRow;
+import com.intellij.find.FindManager;
+import com.intellij.find.FindResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.event.TableModelListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
+
+/**
+ * Data grid search engine.
+ * Partitions the rows of the data model in chunks which are scanned in parallel, publishing the matches of every
+ * completed chunk (in row order) as they become available.
+ * If the query is an extension of the previous (completed) query on the same unchanged data, only the cells
+ * matched by the previous query are scanned again.
+ */
+class DataSearchEngine {
+    private static final int CHUNK_SIZE = 2000;
+
+    private final TableModelListener modelListener = e -> invalidate();
+    private DataModel<?, ?> dataModel;
+    private volatile int modelChanges;
+
+    private Query lastQuery;
+    private List<DataModelCell> lastMatchedCells = Collections.emptyList();
+
+    /**
+     * Searches the given data model and publishes the (cumulated) matches as chunks of the model get scanned
+     * @return all the matches found
+     */
+    synchronized List<DataSearchResultMatch> search(
+            @NotNull DataModel<?, ?> dataModel,
+            @NotNull DataFindModel findModel,
+            @NotNull FindManager findManager,
+            @NotNull DataSearchResult searchResult,
+            long updateTimestamp,
+            @NotNull Consumer<List<DataSearchResultMatch>> publisher) {
+
+        Query query = new Query(findModel);
+        List<DataModelCell> candidates = resolveCandidates(dataModel, query);
+        invalidate();
+        int modelChanges = this.modelChanges;
+
+        List<Future<List<DataSearchResultMatch>>> chunks = new ArrayList<>();
+        ExecutorService executor = Threads.dataSearchExecutor();
+        if (candidates == null) {
+            List<? extends DataModelRow> rows = new ArrayList<>(dataModel.getRows());
+            for (int i = 0; i < rows.size(); i += CHUNK_SIZE) {
+                List<? extends DataModelRow> chunk = rows.subList(i, Math.min(i + CHUNK_SIZE, rows.size()));
+                chunks.add(executor.submit(() -> scanRows(chunk, findModel, findManager, searchResult, updateTimestamp)));
+            }
+        } else {
+            for (int i = 0; i < candidates.size(); i += CHUNK_SIZE) {
+                List<DataModelCell> chunk = candidates.subList(i, Math.min(i + CHUNK_SIZE, candidates.size()));
+                chunks.add(executor.submit(() -> scanCells(chunk, findModel, findManager, searchResult, updateTimestamp)));
+            }
+        }
+
+        List<DataSearchResultMatch> matches = new ArrayList<>();
+        try {
+            for (Future<List<DataSearchResultMatch>> chunk : chunks) {
+                matches.addAll(chunk.get());
+                searchResult.checkTimestamp(updateTimestamp);
+                publisher.accept(matches);
+            }
+        } catch (InterruptedException e) {
+            conditionallyLog(e);
+            Thread.currentThread().interrupt();
+            throw new OutdatedContentException(this);
+        } catch (ExecutionException e) {
+            conditionallyLog(e);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new OutdatedContentException(this);
+        } finally {
+            chunks.forEach(c -> c.cancel(false));
+        }
+
+        if (modelChanges == this.modelChanges) {
+            // data did not change while searching - result can be narrowed by subsequent queries
+            lastQuery = query;
+            lastMatchedCells = matchedCells(matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the cells to be scanned if the search can be narrowed down to the matches of the previous query
+     * or null if the entire data model has to be scanned
+     */
+    @Nullable
+    private List<DataModelCell> resolveCandidates(DataModel<?, ?> dataModel, Query query) {
+        if (this.dataModel != dataModel) {
+            if (this.dataModel != null) this.dataModel.removeTableModelListener(modelListener);
+            this.dataModel = dataModel;
+            this.dataModel.addTableModelListener(modelListener);
+            return null;
+        }
+
+        Query lastQuery = this.lastQuery;
+        if (lastQuery == null || !query.narrows(lastQuery)) return null;
+        return lastMatchedCells;
+    }
+
+    private void invalidate() {
+        modelChanges++;
+        lastQuery = null;
+        lastMatchedCells = Collections.emptyList();
+    }
+
+    private static List<DataSearchResultMatch> scanRows(
+            List<? extends DataModelRow> rows,
+            DataFindModel findModel,
+            FindManager findManager,
+            DataSearchResult searchResult,
+            long updateTimestamp) {
+
+        List<DataSearchResultMatch> matches = new ArrayList<>();
+        for (DataModelRow row : rows) {
+            searchResult.checkTimestamp(updateTimestamp);
+            for (Object cell : row.getCells()) {
+                scanCell((DataModelCell) cell, findModel, findManager, matches);
+            }
+        }
+        return matches;
+    }
+
+    private static List<DataSearchResultMatch> scanCells(
+            List<DataModelCell> cells,
+            DataFindModel findModel,
+            FindManager findManager,
+            DataSearchResult searchResult,
+            long updateTimestamp) {
+
+        List<DataSearchResultMatch> matches = new ArrayList<>();
+        for (DataModelCell cell : cells) {
+            searchResult.checkTimestamp(updateTimestamp);
+            scanCell(cell, findModel, findManager, matches);
+        }
+        return matches;
+    }
+
+    private static void scanCell(DataModelCell cell, DataFindModel findModel, FindManager findManager, List<DataSearchResultMatch> matches) {
+        // presentable value is formatted once and cached on the cell
+        String userValue = cell.getPresentableValue();
+        if (Strings.isEmpty(userValue)) return;
+
+        int findOffset = 0;
+        while (true) {
+            FindResult findResult = findManager.findString(userValue, findOffset, findModel);
+            if (!findResult.isStringFound()) break;
+
+            int startOffset = findResult.getStartOffset();
+            int endOffset = findResult.getEndOffset();
+            matches.add(new DataSearchResultMatch(cell, startOffset, endOffset));
+            findOffset = endOffset;
+        }
+    }
+
+    private static List<DataModelCell> matchedCells(List<DataSearchResultMatch> matches) {
+        List<DataModelCell> cells = new ArrayList<>();
+        DataModelCell lastCell = null;
+        for (DataSearchResultMatch match : matches) {
+            DataModelCell cell = match.getCell();
+            if (cell == lastCell) continue;
+
+            cells.add(cell);
+            lastCell = cell;
+        }
+        return cells;
+    }
+
+    /**
+     * Snapshot of the relevant (mutable) find model attributes
+     */
+    private static final class Query {
+        private final String text;
+        private final boolean caseSensitive;
+        private final boolean wholeWords;
+        private final boolean regex;
+
+        Query(DataFindModel findModel) {
+            this.text = findModel.getStringToFind();
+            this.caseSensitive = findModel.isCaseSensitive();
+            this.wholeWords = findModel.isWholeWordsOnly();
+            this.regex = findModel.isRegularExpressions();
+        }
+
+        /**
+         * Plain text queries extending the previous query can only match cells matched by the previous query
+         */
+        boolean narrows(Query previous) {
+            if (regex || wholeWords || previous.regex || previous.wholeWords) return false;
+            if (caseSensitive != previous.caseSensitive) return false;
+            if (Strings.isEmpty(previous.text) || Strings.isEmpty(text)) return false;
+            if (Objects.equals(text, previous.text)) return true;
+
+            return caseSensitive ?
+                    text.contains(previous.text) :
+                    text.toLowerCase().contains(previous.text.toLowerCase());
+        }
+    }
+}
@@ -25,15 +25,19 @@ import com.intellij.openapi.Disposable;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
 public class DataSearchResult implements Disposable {
     private final Listeners<DataSearchResultListener> listeners = Listeners.create(this);
     private List<DataSearchResultMatch> matches = Collections.emptyList();
+    private Map<DataModelCell, List<DataSearchResultMatch>> cellMatches = Collections.emptyMap();
     private DataSearchResultMatch selectedMatch;
     private int matchesLimit;
     private long updateTimestamp = 0;
@@ -42,6 +46,17 @@ public class DataSearchResult implements Disposable {
     public void clear() {
         selectedMatch = null;
         matches = Collections.emptyList();
+        cellMatches = Collections.emptyMap();
+    }
+
+    public void setMatches(List<DataSearchResultMatch> matches) {
+        // index matches by cell (cell renderers look them up for every painted cell)
+        Map<DataModelCell, List<DataSearchResultMatch>> cellMatches = new IdentityHashMap<>();
+        for (DataSearchResultMatch match : matches) {
+            cellMatches.computeIfAbsent(match.getCell(), c -> new ArrayList<>(1)).add(match);
+        }
+        this.cellMatches = cellMatches;
+        this.matches = matches;
     }
 
     public int size() {
@@ -67,41 +82,8 @@ public class DataSearchResult implements Disposable {
     }
 
     public Iterator<DataSearchResultMatch> getMatches(DataModelCell cell) {
-        DataSearchResultMatch first = matches.isEmpty() ? null : findMatch(null, cell);
-        if (first == null) return null;
-
-        return new Iterator<>() {
-            private DataSearchResultMatch next = first;
-
-            @Override
-            public boolean hasNext() {
-                return next != null;
-            }
-
-            @Override
-            public DataSearchResultMatch next() {
-                DataSearchResultMatch current = next;
-                next = findMatch(next, cell);
-                return current;
-            }
-
-            @Override
-            public void remove() {}
-        };
-    }
-
-    private DataSearchResultMatch findMatch(DataSearchResultMatch previous, DataModelCell cell) {
-        int index = previous == null ? 0 : matches.indexOf(previous) + 1;
-        for (int i = index; i< matches.size(); i++) {
-            DataSearchResultMatch match = matches.get(i);
-            if (match != null && match.getCell() == cell) {
-                return match;
-
-            } else if (previous != null) {
-                return null;
-            }
-        }
-        return null;
+        List<DataSearchResultMatch> matches = cellMatches.get(cell);
+        return matches == null ? null : matches.iterator();
     }
 
     public DataSearchResultMatch selectFirst(int fromRowIndex, int fromColumnIndex, DataSearchResultScrollPolicy scrollPolicy) {
@@ -181,6 +163,7 @@ public class DataSearchResult implements Disposable {
     @Override
     public void dispose() {
         matches = Disposer.replace(matches, Collections.emptyList());
+        cellMatches = Collections.emptyMap();
         selectedMatch = null;
     }
 
@@ -22,14 +22,11 @@ import com.dbn.common.thread.Background;
 import com.dbn.common.thread.Dispatch;
 import com.dbn.common.thread.PooledThread;
 import com.dbn.common.ui.util.UserInterface;
-import com.dbn.common.util.Strings;
 import com.dbn.data.grid.ui.table.basic.BasicTable;
 import com.dbn.data.model.DataModel;
 import com.dbn.data.model.DataModelCell;
-import com.dbn.data.model.DataModelRow;
 import com.dbn.data.model.basic.BasicDataModel;
 import com.intellij.find.FindManager;
-import com.intellij.find.FindResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.awt.Rectangle;
@@ -43,6 +40,7 @@ import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 public class DataSearchResultController {
     private final WeakRef<SearchableDataComponent> searchableComponent;
     private final AtomicReference<PooledThread> searchHandle = new AtomicReference<>();
+    private final DataSearchEngine searchEngine = new DataSearchEngine();
 
     DataSearchResultController(SearchableDataComponent searchableComponent) {
         this.searchableComponent = WeakRef.of(searchableComponent);
@@ -105,33 +103,12 @@ public class DataSearchResultController {
                 searchResult.startUpdating(updateTimestamp);
 
                 FindManager findManager = FindManager.getInstance(table.getProject());
-
-                List<DataSearchResultMatch> matches = new ArrayList<>();
-                for (Object r : dataModel.getRows()) {
-                    DataModelRow row = (DataModelRow) r;
-                    for (Object c : row.getCells()) {
-                        DataModelCell cell = (DataModelCell) c;
-                        String userValue = cell.getPresentableValue();
-                        if (Strings.isNotEmpty(userValue)) {
-                            int findOffset = 0;
-                            while (true) {
-                                FindResult findResult = findManager.findString(userValue, findOffset, findModel);
-                                if (findResult.isStringFound()) {
-                                    int startOffset = findResult.getStartOffset();
-                                    int endOffset = findResult.getEndOffset();
-
-                                    searchResult.checkTimestamp(updateTimestamp);
-                                    DataSearchResultMatch match = new DataSearchResultMatch(cell, startOffset, endOffset);
-                                    matches.add(match);
-
-                                    findOffset = endOffset;
-                                } else {
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
+                List<DataSearchResultMatch> matches = searchEngine.search(dataModel, findModel, findManager, searchResult, updateTimestamp,
+                        partialMatches -> {
+                            // publish the matches of the chunks scanned so far
+                            searchResult.setMatches(new ArrayList<>(partialMatches));
+                            UserInterface.repaint(table);
+                        });
                 searchResult.setMatches(matches);
             } catch (ConcurrentModificationException e){
                 conditionallyLog(e);
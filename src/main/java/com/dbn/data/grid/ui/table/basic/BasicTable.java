@@ -288,6 +288,8 @@ public class BasicTable<T extends BasicDataModel<?, ?>> extends DBNTableWithGutt
         if (firstRow == -1 && lastRow == -1) return;
 
         if (firstRow != lastRow) {
+            // inserted rows are measured incrementally, other changes invalidate the measured widths
+            if (e.getType() != TableModelEvent.INSERT) resetContentWidths();
             adjustColumnWidths();
             resetTableGutter();
         }
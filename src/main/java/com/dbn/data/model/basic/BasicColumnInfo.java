@@ -16,8 +16,8 @@
 
 package com.dbn.data.model.basic;
 
+import com.dbn.common.collections.NamePool;
 import com.dbn.common.dispose.Failsafe;
-import com.dbn.common.util.Strings;
 import com.dbn.data.model.ColumnInfo;
 import com.dbn.data.type.DBDataType;
 import com.dbn.data.type.GenericDataType;
@@ -31,7 +31,7 @@ public class BasicColumnInfo implements ColumnInfo {
     protected DBDataType dataType;
 
     public BasicColumnInfo(String name, DBDataType dataType, int index) {
-        this.name = Strings.intern(name);
+        this.name = NamePool.pooled(name);
         this.index = index;
         this.dataType = dataType;
     }
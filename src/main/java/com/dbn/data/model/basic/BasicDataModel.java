@@ -72,18 +72,14 @@ public class BasicDataModel<
     private final RegionalSettingsListener regionalSettingsListener = new RegionalSettingsListener() {
         @Override
         public void settingsChanged() {
-            formatter = Latent.thread(() -> {
-                Project project = getProject();
-                Formatter formatter = Formatter.getInstance(project);
-                return formatter.clone();
-            });
+            formatter = Latent.basic(() -> Formatter.getInstance(getProject()));
         }
     };
 
 
     public BasicDataModel(Project project) {
         this.project = ProjectRef.of(project);
-        formatter = Latent.thread(() -> Formatter.getInstance(project).clone());
+        formatter = Latent.basic(() -> Formatter.getInstance(project));
         ProjectEvents.subscribe(project, this, RegionalSettingsListener.TOPIC, regionalSettingsListener);
     }
 
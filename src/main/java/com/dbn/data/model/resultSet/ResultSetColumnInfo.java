@@ -16,9 +16,11 @@
 
 package com.dbn.data.model.resultSet;
 
+import com.dbn.common.collections.NamePool;
 import com.dbn.connection.ConnectionHandler;
 import com.dbn.data.model.basic.BasicColumnInfo;
 import com.dbn.data.type.DBDataType;
+import com.dbn.data.type.ResultSetReader;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -33,11 +35,14 @@ import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 public class ResultSetColumnInfo extends BasicColumnInfo {
     private final int resultSetIndex;
 
+    @EqualsAndHashCode.Exclude
+    private ResultSetReader resultSetReader;
+
     public ResultSetColumnInfo(ConnectionHandler connection, ResultSet resultSet, int index) throws SQLException {
         super(null, null, index);
         resultSetIndex = index + 1;
         ResultSetMetaData metaData = resultSet.getMetaData();
-        name = translateName(metaData.getColumnName(resultSetIndex).intern(), connection);
+        name = translateName(NamePool.pooled(metaData.getColumnName(resultSetIndex)), connection);
 
         String dataTypeName = metaData.getColumnTypeName(resultSetIndex);
         int precision = getPrecision(metaData);
@@ -51,6 +56,16 @@ public class ResultSetColumnInfo extends BasicColumnInfo {
         this.resultSetIndex = resultSetIndex;
     }
 
+    /**
+     * Reads the value of this column from the current row of the given result-set
+     * (the reader is resolved once for the column and reused for all rows)
+     */
+    public Object readValue(ResultSet resultSet) throws SQLException {
+        if (resultSetReader == null) {
+            resultSetReader = getDataType().getResultSetReader();
+        }
+        return resultSetReader.read(resultSet, resultSetIndex);
+    }
 
     // lenient approach for oracle bug returning the size of LOBs instead of the precision.
     private int getPrecision(ResultSetMetaData metaData) throws SQLException {
@@ -38,6 +38,7 @@ import javax.swing.event.TableModelEvent;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import static com.dbn.common.dispose.Failsafe.nn;
@@ -124,7 +125,7 @@ public class ResultSetDataModel<
                 connection.updateLastAccess();
                 while (count < records) {
                     checkDisposed();
-                    if (resultSet != null && resultSet.next()) {
+                    if (fetchNextRow()) {
                         count++;
                         R row = createRow(initialIndex + count);
                         newRows.add(row);
@@ -146,7 +147,7 @@ public class ResultSetDataModel<
         setRows(newRows);
 
         if (reset) {
-            oldRows.removeAll(getChangedRows());
+            oldRows.removeAll(new HashSet<>(getChangedRows()));
             BackgroundDisposer.queue(() -> Disposer.disposeCollection(oldRows));
         }
 
@@ -161,6 +162,14 @@ public class ResultSetDataModel<
         return newRowCount;
     }
 
+    /**
+     * Moves to the next row to be fetched
+     * @return false if no more rows are available
+     */
+    protected boolean fetchNextRow() throws SQLException {
+        return resultSet != null && resultSet.next();
+    }
+
     protected List<R> getChangedRows() {
         return Collections.emptyList();
     }
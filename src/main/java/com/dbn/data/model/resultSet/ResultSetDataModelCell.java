@@ -18,8 +18,8 @@ package com.dbn.data.model.resultSet;
 
 import com.dbn.connection.jdbc.DBNConnection;
 import com.dbn.data.model.sortable.SortableDataModelCell;
-import com.dbn.data.type.DBDataType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -33,13 +33,17 @@ public class ResultSetDataModelCell<
 
     public ResultSetDataModelCell(R row, ResultSet resultSet, ResultSetColumnInfo columnInfo) throws SQLException {
         super(row, null, columnInfo.getIndex());
-        DBDataType dataType = columnInfo.getDataType();
         if (!getModel().is(INSERTING)) {
-            Object userValue = dataType.getValueFromResultSet(resultSet, columnInfo.getResultSetIndex());
+            Object userValue = columnInfo.readValue(resultSet);
             setUserValue(userValue);
         }
     }
 
+    public ResultSetDataModelCell(R row, @Nullable Object userValue, ResultSetColumnInfo columnInfo) {
+        super(row, null, columnInfo.getIndex());
+        setUserValue(userValue);
+    }
+
     @NotNull
     @Override
     public M getModel() {
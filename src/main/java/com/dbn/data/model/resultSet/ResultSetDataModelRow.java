@@ -48,6 +48,23 @@ public class ResultSetDataModelRow<
         this.setCells(cells);
     }
 
+    /**
+     * Creates the row from the given (previously fetched) user values instead of reading them from a result set
+     */
+    public ResultSetDataModelRow(M model, Object[] userValues, int resultSetRowIndex) {
+        super(model);
+        this.resultSetRowIndex = resultSetRowIndex;
+        int columnCount = model.getColumnCount();
+        List<C> cells = new CompactArrayList<>(columnCount);
+
+        for (int i = 0; i < columnCount; i++) {
+            ResultSetColumnInfo columnInfo = (ResultSetColumnInfo) getModel().getColumnInfo(i);
+            C cell = createCell(userValues[i], columnInfo);
+            cells.set(i, cell);
+        }
+        this.setCells(cells);
+    }
+
     @NotNull
     @Override
     public M getModel() {
@@ -67,6 +84,11 @@ public class ResultSetDataModelRow<
         return (C) new ResultSetDataModelCell(this, resultSet, (ResultSetColumnInfo) columnInfo);
     }
 
+    @NotNull
+    protected C createCell(@Nullable Object userValue, ColumnInfo columnInfo) {
+        return (C) new ResultSetDataModelCell(this, userValue, (ResultSetColumnInfo) columnInfo);
+    }
+
     @Nullable
     @Override
     public C getCellAtIndex(int index) {
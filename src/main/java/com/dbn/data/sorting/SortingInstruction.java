@@ -16,6 +16,7 @@
 
 package com.dbn.data.sorting;
 
+import com.dbn.common.collections.NamePool;
 import com.dbn.common.util.Cloneable;
 import com.dbn.object.DBColumn;
 import com.dbn.object.DBDataset;
@@ -32,7 +33,7 @@ public class SortingInstruction implements Cloneable<SortingInstruction> {
     private SortDirection direction;
 
     public SortingInstruction(String columnName, SortDirection direction) {
-        this.columnName = columnName.intern();
+        this.columnName = NamePool.pooled(columnName);
         this.direction = direction;
     }
 
@@ -120,6 +120,17 @@ public class DBDataType {
         }
     }
 
+    /**
+     * Reader resolved once per column (e.g. by the result-set header) and applied to every row
+     */
+    public ResultSetReader getResultSetReader() {
+        if (nativeType != null) {
+            return nativeType::getValueFromResultSet;
+        } else {
+            return ComplexValue::new;
+        }
+    }
+
     public void setValueToResultSet(ResultSet resultSet, int columnIndex, Object value) throws SQLException {
         if (nativeType != null) {
             nativeType.setValueToResultSet(resultSet, columnIndex, value);
@@ -47,6 +47,7 @@ import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 @Getter
 public class DBNativeDataType extends StatefulDisposableBase implements DynamicContentElement{
     private final DataTypeDefinition definition;
+    private ResultSetReader resultSetReader;
 
     public DBNativeDataType(DataTypeDefinition definition) {
         this.definition = definition;
@@ -72,45 +73,58 @@ public class DBNativeDataType extends StatefulDisposableBase implements DynamicC
 
     public Object getValueFromResultSet(ResultSet resultSet, int columnIndex) {
         // FIXME: add support for stream updatable types
+        try {
+            return getResultSetReader().read(resultSet, columnIndex);
+        } catch (Throwable e) {
+            conditionallyLog(e);
+            Class<?> clazz = definition.getTypeClass();
+            return silent(null, () -> resolveConversionFailure(resultSet, columnIndex, clazz, e));
+        }
+    }
 
+    @NotNull
+    public ResultSetReader getResultSetReader() {
+        if (resultSetReader == null) {
+            resultSetReader = createResultSetReader();
+        }
+        return resultSetReader;
+    }
+
+    @NotNull
+    private ResultSetReader createResultSetReader() {
         GenericDataType genericDataType = definition.getGenericDataType();
-        if (genericDataType == GenericDataType.ROWID) return "[ROWID]";
-        if (genericDataType == GenericDataType.FILE) return "[FILE]";
-        if (ValueAdapter.supports(genericDataType)) return createValueAdapter(resultSet, columnIndex, genericDataType);
+        if (genericDataType == GenericDataType.ROWID) return (rs, i) -> "[ROWID]";
+        if (genericDataType == GenericDataType.FILE) return (rs, i) -> "[FILE]";
+        if (ValueAdapter.supports(genericDataType)) return (rs, i) -> createValueAdapter(rs, i, genericDataType);
 
         Class<?> clazz = definition.getTypeClass();
-        try {
-            if (Number.class.isAssignableFrom(clazz) && resultSet.getString(columnIndex) == null) {
-                // mysql converts null numbers to 0!!!
-                // FIXME make this database dependent (e.g. in CompatibilityInterface).
-                return null;
-            }
-
-            DataTypeParseAdapter parseAdapter = definition.getParseAdapter();
-            if (parseAdapter != null) {
-                String stringValue = resultSet.getString(columnIndex);
-                return parseAdapter.parse(stringValue);
-            }
+        DataTypeParseAdapter<?> parseAdapter = definition.getParseAdapter();
+        if (parseAdapter != null) {
+            boolean numeric = Number.class.isAssignableFrom(clazz);
+            return (rs, i) -> {
+                String stringValue = rs.getString(i);
+                return stringValue == null && numeric ? null : parseAdapter.parse(stringValue);
+            };
+        }
 
-            return
-                    clazz == String.class ? resultSet.getString(columnIndex) :
-                    clazz == Byte.class ? resultSet.getByte(columnIndex) :
-                    clazz == Short.class ? resultSet.getShort(columnIndex) :
-                    clazz == Integer.class ? resultSet.getInt(columnIndex) :
-                    clazz == Long.class ? resultSet.getLong(columnIndex) :
-                    clazz == Float.class ? resultSet.getFloat(columnIndex) :
-                    clazz == Double.class ? resultSet.getDouble(columnIndex) :
-                    clazz == BigDecimal.class ? resultSet.getBigDecimal(columnIndex) :
-                    clazz == Date.class ? resultSet.getDate(columnIndex) :
-                    clazz == Time.class ? resultSet.getTime(columnIndex) :
-                    clazz == Timestamp.class ? resultSet.getTimestamp(columnIndex) :
-                    clazz == Boolean.class ? resultSet.getBoolean(columnIndex) :
-                    //clazz == Array.class ? resultSet.getArray(columnIndex) :
-                            resultSet.getObject(columnIndex);
-        } catch (Throwable e) {
-            conditionallyLog(e);
-            return silent(null, () -> resolveConversionFailure(resultSet, columnIndex, clazz, e));
+        // primitive getters return 0 / false for null values (wasNull() tells the difference)
+        if (clazz == String.class)     return (rs, i) -> rs.getString(i);
+        if (clazz == Byte.class)       return (rs, i) -> {byte value = rs.getByte(i);       return rs.wasNull() ? null : value;};
+        if (clazz == Short.class)      return (rs, i) -> {short value = rs.getShort(i);     return rs.wasNull() ? null : value;};
+        if (clazz == Integer.class)    return (rs, i) -> {int value = rs.getInt(i);         return rs.wasNull() ? null : value;};
+        if (clazz == Long.class)       return (rs, i) -> {long value = rs.getLong(i);       return rs.wasNull() ? null : value;};
+        if (clazz == Float.class)      return (rs, i) -> {float value = rs.getFloat(i);     return rs.wasNull() ? null : value;};
+        if (clazz == Double.class)     return (rs, i) -> {double value = rs.getDouble(i);   return rs.wasNull() ? null : value;};
+        if (clazz == BigDecimal.class) return (rs, i) -> rs.getBigDecimal(i);
+        if (clazz == Date.class)       return (rs, i) -> rs.getDate(i);
+        if (clazz == Time.class)       return (rs, i) -> rs.getTime(i);
+        if (clazz == Timestamp.class)  return (rs, i) -> rs.getTimestamp(i);
+        if (clazz == Boolean.class)    return (rs, i) -> {boolean value = rs.getBoolean(i); return rs.wasNull() ? null : value;};
+        if (Number.class.isAssignableFrom(clazz)) {
+            // mysql converts null numbers to 0!!!
+            return (rs, i) -> {Object value = rs.getObject(i); return rs.wasNull() ? null : value;};
         }
+        return (rs, i) -> rs.getObject(i);
     }
 
     @Nullable
@@ -14,14 +14,18 @@
  * limitations under the License.
  */
 
-package com.dbn.object.common.property;
+package com.dbn.data.type;
 
-import com.dbn.common.property.PropertyHolderBase;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
-public class DBObjectProperties extends PropertyHolderBase.LongStore<DBObjectProperty> {
-
-    @Override
-    protected DBObjectProperty[] properties() {
-        return DBObjectProperty.VALUES;
-    }
+/**
+ * Value reader for a result-set column, resolved once per data type
+ * (avoids the data type dispatch when reading the individual cells)
+ * Applies to the data type driven reads of the data models (data grid, and the data export reading from their cells).
+ * Dictionary / metadata loaders read fixed columns by name and are not routed through it.
+ */
+@FunctionalInterface
+public interface ResultSetReader {
+    Object read(ResultSet resultSet, int columnIndex) throws SQLException;
 }
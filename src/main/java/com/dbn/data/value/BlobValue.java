@@ -17,13 +17,10 @@
 package com.dbn.data.value;
 
 import com.dbn.data.type.GenericDataType;
-import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.Nullable;
 
 import javax.sql.rowset.serial.SerialBlob;
-import java.io.IOException;
-import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Connection;
@@ -35,10 +32,8 @@ import java.sql.SQLFeatureNotSupportedException;
 import static com.dbn.common.util.Strings.isEmpty;
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 
-@Slf4j
 public class BlobValue extends LargeObjectValue {
     private Blob blob;
-    private InputStream inputStream;
 
     public BlobValue() {}
 
@@ -78,7 +73,7 @@ public class BlobValue extends LargeObjectValue {
                 preparedStatement.setBlob(parameterIndex, (Blob) null);
             } else {
                 blob = connection.createBlob();
-                blob.setBytes(1, value.getBytes());
+                writeChunked(blob, value.getBytes());
                 preparedStatement.setBlob(parameterIndex, blob);
             }
         } catch (SQLFeatureNotSupportedException e) {
@@ -99,7 +94,7 @@ public class BlobValue extends LargeObjectValue {
                 blob = null;
             } else {
                 blob = connection.createBlob();
-                blob.setBytes(1, value.getBytes());
+                writeChunked(blob, value.getBytes());
             }
             resultSet.updateBlob(columnIndex, blob);
         } catch (SQLFeatureNotSupportedException e) {
@@ -135,34 +130,27 @@ public class BlobValue extends LargeObjectValue {
     public String read(int maxSize) throws SQLException {
         if (blob == null) return null;
 
-        long totalLength = blob.length();
-        int size = (int) (maxSize == 0 ? totalLength : Math.min(maxSize, totalLength));
-        try {
-            byte[] buffer = new byte[size];
-            inputStream = blob.getBinaryStream();
-            inputStream.read(buffer, 0, size);
-            return new String(buffer);
-        } catch (IOException e) {
-            conditionallyLog(e);
-            throw new SQLException("Could not read value from BLOB.");
-        } finally {
-            if (totalLength <= size) {
-                release();
-            }
+        int size = readSize(blob.length(), maxSize);
+        byte[] buffer = new byte[size];
+        for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+            int length = chunkLength(offset, size);
+            byte[] chunk = blob.getBytes(offset + 1, length);
+            System.arraycopy(chunk, 0, buffer, (int) offset, Math.min(length, chunk.length));
+        }
+        // decoded once (chunk boundaries may split multibyte characters)
+        return new String(buffer);
+    }
+
+    private static void writeChunked(Blob blob, byte[] value) throws SQLException {
+        int size = value.length;
+        for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+            blob.setBytes(offset + 1, value, offset, chunkLength(offset, size));
         }
     }
 
     @Override
     public void release() {
-        if (inputStream != null) {
-            try {
-                inputStream.close();
-                inputStream = null;
-            } catch (IOException e) {
-                conditionallyLog(e);
-                log.error("Could not close BLOB input stream.", e);
-            }
-        }
+        // no open streams (content is read in chunks)
     }
 
 
@@ -18,11 +18,8 @@ package com.dbn.data.value;
 
 import com.dbn.common.exception.Exceptions;
 import com.dbn.common.util.Strings;
-import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.io.Reader;
 import java.sql.CallableStatement;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -33,10 +30,8 @@ import java.sql.SQLFeatureNotSupportedException;
 
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 
-@Slf4j
 abstract class ClobValueBase<T extends Clob> extends LargeObjectValue {
     private T clob;
-    private Reader reader;
 
     public ClobValueBase() {
     }
@@ -75,7 +70,7 @@ abstract class ClobValueBase<T extends Clob> extends LargeObjectValue {
                 clob = null;
             } else {
                 clob = createClob(connection);
-                clob.setString(1, value);
+                writeChunked(clob, value);
             }
             write(preparedStatement, parameterIndex, clob);
         } catch (SQLFeatureNotSupportedException e) {
@@ -96,7 +91,7 @@ abstract class ClobValueBase<T extends Clob> extends LargeObjectValue {
                 clob = null;
             } else {
                 clob = createClob(connection);
-                clob.setString(1, value);
+                writeChunked(clob, value);
             }
 
             write(resultSet, columnIndex, clob);
@@ -128,32 +123,29 @@ abstract class ClobValueBase<T extends Clob> extends LargeObjectValue {
     public final String read(int maxSize) throws SQLException {
         if (clob == null) return null;
 
-        long totalLength = clob.length();
-        int size = (int) (maxSize == 0 ? totalLength : Math.min(maxSize, totalLength));
+        int size = readSize(clob.length(), maxSize);
         try {
-            char[] buffer = new char[size];
-            reader = clob.getCharacterStream();
-            reader.read(buffer, 0, size);
-            return new String(buffer);
+            StringBuilder buffer = new StringBuilder(size);
+            for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+                buffer.append(clob.getSubString(offset + 1, chunkLength(offset, size)));
+            }
+            return buffer.toString();
         } catch (Throwable e) {
             conditionallyLog(e);
             throw Exceptions.toSqlException(e, "Could not read value from CLOB.");
-        } finally {
-            if (totalLength <= size) release();
+        }
+    }
+
+    private static void writeChunked(Clob clob, String value) throws SQLException {
+        int size = value.length();
+        for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+            clob.setString(offset + 1, value, offset, chunkLength(offset, size));
         }
     }
 
     @Override
     public final void release(){
-        if (reader == null) return;
-
-        try {
-            reader.close();
-            reader = null;
-        } catch (IOException e) {
-            conditionallyLog(e);
-            log.error("Could not close CLOB input reader.", e);
-        }
+        // no open streams (content is read in chunks)
     }
 
     @Override
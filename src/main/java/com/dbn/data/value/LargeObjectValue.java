@@ -18,8 +18,37 @@ package com.dbn.data.value;
 
 import java.sql.SQLException;
 
+/**
+ * Large object value (CLOB, NCLOB, BLOB...) backed by the driver locator.
+ * Content is transferred in chunks of {@link #CHUNK_SIZE} (characters for CLOB, bytes for BLOB) in both directions.
+ * Editors only read the first {@link #MAX_DISPLAY_SIZE} of the value, showing larger values truncated and read-only.
+ */
 public abstract class LargeObjectValue extends ValueAdapter<String> {
+    protected static final int CHUNK_SIZE = 256 * 1024;
+    public static final int MAX_DISPLAY_SIZE = 1024 * 1024;
+
     public abstract String read(int maxSize) throws SQLException;
+
     public abstract long size() throws SQLException;
     public abstract void release();
+
+    /**
+     * Reads the value for display, limited to {@link #MAX_DISPLAY_SIZE}
+     */
+    public String readDisplayValue() throws SQLException {
+        return read(MAX_DISPLAY_SIZE);
+    }
+
+    public boolean isDisplayTruncated() throws SQLException {
+        return size() > MAX_DISPLAY_SIZE;
+    }
+
+    protected static int readSize(long totalLength, int maxSize) {
+        long size = maxSize == 0 ? totalLength : Math.min(maxSize, totalLength);
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+
+    protected static int chunkLength(long offset, long size) {
+        return (int) Math.min(CHUNK_SIZE, size - offset);
+    }
 }
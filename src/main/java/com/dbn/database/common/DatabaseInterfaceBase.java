@@ -77,6 +77,18 @@ public abstract class DatabaseInterfaceBase implements DatabaseInterface{
         return result;
     }
 
+    protected ResultSet executeFilteredQuery(@NotNull DBNConnection connection, @NonNls String loaderId, @Nullable String filter, @Nullable Object... arguments) throws SQLException {
+        StatementExecutionProcessor executionProcessor = getExecutionProcessor(loaderId);
+        ResultSet result = executionProcessor.executeFilteredQuery(connection, filter, arguments);
+        checkDisposed(connection);
+        return result;
+    }
+
+    protected boolean isFilterable(@NonNls String loaderId) {
+        StatementExecutionProcessor executionProcessor = processors.get(loaderId);
+        return executionProcessor != null && executionProcessor.isFilterable();
+    }
+
     protected <T extends CallableStatementOutput> T executeCall(@NotNull DBNConnection connection, @Nullable T outputReader, @NonNls String loaderId, @Nullable Object... arguments) throws SQLException {
         StatementExecutionProcessor executionProcessor = getExecutionProcessor(loaderId);
         T result = executionProcessor.executeCall(connection, outputReader, arguments);
@@ -24,6 +24,7 @@ import com.dbn.database.common.statement.ByteArray;
 import com.dbn.database.interfaces.DatabaseInterfaces;
 import com.dbn.database.interfaces.DatabaseMetadataInterface;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -99,6 +100,12 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceBas
         return executeQuery(connection, "schemas");
     }
 
+    @Override
+    public ResultSet loadSchemas(@Nullable String filter, DBNConnection connection) throws SQLException {
+        if (filter == null || !isFilterable("schemas")) return loadSchemas(connection);
+        return executeFilteredQuery(connection, "schemas", filter);
+    }
+
     @Override
     public ResultSet loadClusters(String ownerName, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "clusters", ownerName);
@@ -109,11 +116,23 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceBas
         return executeQuery(connection, "tables", ownerName);
     }
 
+    @Override
+    public ResultSet loadTables(String ownerName, @Nullable String filter, DBNConnection connection) throws SQLException {
+        if (filter == null || !isFilterable("tables")) return loadTables(ownerName, connection);
+        return executeFilteredQuery(connection, "tables", filter, ownerName);
+    }
+
     @Override
     public ResultSet loadViews(String ownerName, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "views", ownerName);
     }
 
+    @Override
+    public ResultSet loadViews(String ownerName, @Nullable String filter, DBNConnection connection) throws SQLException {
+        if (filter == null || !isFilterable("views")) return loadViews(ownerName, connection);
+        return executeFilteredQuery(connection, "views", filter, ownerName);
+    }
+
     @Override
     public ResultSet loadJavaClasses(String ownerName, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "java-classes", ownerName);
@@ -419,6 +438,11 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceBas
         return executeQuery(connection, "referencing-schemas", ownerName, objectName);
     }
 
+    @Override
+    public ResultSet loadAllObjectDependencies(String ownerName, DBNConnection connection) throws SQLException {
+        return executeQuery(connection, "all-object-dependencies", ownerName);
+    }
+
 
    /*********************************************************
     *                     SOURCE CODE                       *
@@ -562,10 +586,10 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceBas
     }
 
     @Override
-    public String readLoggerOutput(DBNConnection connection) throws SQLException {
+    public String readLoggerOutput(DBNConnection connection, int maxLines) throws SQLException {
         ExecutionLogOutput outputReader = new ExecutionLogOutput();
-        executeCall(connection, outputReader, "read-log-output");
-        return outputReader.getLog();
+        executeCall(connection, outputReader, "read-log-lines", maxLines);
+        return outputReader.getLineCount() == 0 ? null : outputReader.getLog();
     }
 
     @Override
@@ -17,25 +17,31 @@
 package com.dbn.database.common.logging;
 
 import com.dbn.data.value.ClobValue;
-import com.dbn.database.common.statement.CallableStatementOutput;
+import com.dbn.database.common.statement.CallableStatementOutputBase;
 import lombok.Getter;
 
 import java.sql.CallableStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 
+/**
+ * One chunk of lines read from the database log buffer
+ */
 @Getter
-public class ExecutionLogOutput implements CallableStatementOutput{
+public class ExecutionLogOutput extends CallableStatementOutputBase {
     private String log;
+    private int lineCount;
 
     @Override
     public void registerParameters(CallableStatement statement) throws SQLException {
-        statement.registerOutParameter(1, Types.CLOB);
+        statement.registerOutParameter(shifted(1), Types.CLOB);
+        statement.registerOutParameter(shifted(2), Types.INTEGER);
     }
 
     @Override
     public void read(CallableStatement statement) throws SQLException {
-        log = new ClobValue(statement, 1).read();
+        log = new ClobValue(statement, shifted(1)).read();
+        lineCount = statement.getInt(shifted(2));
     }
 
 }
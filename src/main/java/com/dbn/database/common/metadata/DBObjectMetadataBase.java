@@ -16,6 +16,7 @@
 
 package com.dbn.database.common.metadata;
 
+import com.dbn.common.collections.NamePool;
 import org.jetbrains.annotations.NonNls;
 
 import java.sql.ResultSet;
@@ -32,7 +33,7 @@ public abstract class DBObjectMetadataBase {
     @NonNls
     protected String getString(@NonNls String columnLabel) throws SQLException {
         String string = resultSet.getString(columnLabel);
-        return string == null ? null : string.intern();
+        return NamePool.pooled(string);
     }
 
     protected boolean isYesFlag(@NonNls String columnLabel) throws SQLException {
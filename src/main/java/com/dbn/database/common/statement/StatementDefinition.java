@@ -37,10 +37,11 @@ public class StatementDefinition {
     private final String statementText;
     private final Integer[] placeholderIndexes;
 
-    private final TransientId id = TransientId.create();
+    private final TransientId id;
     private final boolean prepared;
 
     StatementDefinition(String statementText, String prefix, boolean prepared) {
+        this.id = TransientId.create();
         this.prepared = prepared;
         statementText = statementText.replaceAll("\\s+", " ").trim();
         if (prefix != null) {
@@ -72,6 +73,21 @@ public class StatementDefinition {
         this.placeholderIndexes = placeholders.toArray(new Integer[0]);
     }
 
+    private StatementDefinition(StatementDefinition source, String statementText) {
+        this.id = source.id;
+        this.prepared = source.prepared;
+        this.statementText = statementText;
+        this.placeholderIndexes = source.placeholderIndexes;
+    }
+
+    /**
+     * Creates a definition selecting the rows of this statement which match the given predicate
+     * (the predicate is evaluated against the columns of the statement, and shares its activity trace)
+     */
+    StatementDefinition filtered(String predicate) {
+        return new StatementDefinition(this, "select * from (" + statementText + ") DBN_FILTERED where " + predicate);
+    }
+
     DBNPreparedStatement<?> prepareStatement(DBNConnection connection, Object[] arguments) throws SQLException {
         DBNPreparedStatement<?> preparedStatement = connection.prepareStatementCached(statementText);
         for (int i = 0; i < placeholderIndexes.length; i++) {
@@ -58,6 +58,7 @@ public class StatementExecutionProcessor {
     private final String id;
     private final boolean query;
     private final boolean prepared;
+    private final boolean filterable;
     private int timeout = 30;
     private List<StatementDefinition> statementDefinitions = new ArrayList<>();
 
@@ -67,6 +68,7 @@ public class StatementExecutionProcessor {
         this.id = stringAttribute(element, "id");
         this.query = booleanAttribute(element, "is-query", false);
         this.prepared = booleanAttribute(element, "is-prepared-statement", false);
+        this.filterable = booleanAttribute(element, "is-filterable", false);
         String customTimeout = element.getAttributeValue("timeout");
         if (Strings.isNotEmpty(customTimeout)) {
             timeout = Integer.parseInt(customTimeout);
@@ -101,11 +103,24 @@ public class StatementExecutionProcessor {
     }
 
     public ResultSet executeQuery(DBNConnection connection, boolean forceExecution, Object... arguments) throws SQLException {
+        return executeQuery(connection, forceExecution, null, arguments);
+    }
+
+    /**
+     * Executes the query returning only the rows matching the given SQL predicate (on the columns of the query)
+     * The predicate is ignored if the processor is not flagged as filterable ("is-filterable" attribute)
+     */
+    public ResultSet executeFilteredQuery(DBNConnection connection, @Nullable String filter, Object... arguments) throws SQLException {
+        return executeQuery(connection, false, filterable ? filter : null, arguments);
+    }
+
+    private ResultSet executeQuery(DBNConnection connection, boolean forceExecution, @Nullable String filter, Object... arguments) throws SQLException {
         StatementExecutorContext context = createContext(connection);
         SQLException exception = NO_STATEMENT_DEFINITION_EXCEPTION;
         for (StatementDefinition statementDefinition : statementDefinitions) {
             try {
-                return executeQuery(statementDefinition, context, forceExecution, arguments);
+                StatementDefinition definition = filter == null ? statementDefinition : statementDefinition.filtered(filter);
+                return executeQuery(definition, context, forceExecution, arguments);
             } catch (SQLRecoverableException e){
                 conditionallyLog(e);
                 exception = e;
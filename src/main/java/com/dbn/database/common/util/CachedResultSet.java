@@ -30,6 +30,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -61,6 +64,8 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
 
     private final Map<Columns, CachedResultSet> grouped = new ConcurrentHashMap<>();
 
+    private final Map<Columns, Map<CachedResultSetKey, List<CachedResultSetRow>>> indexes = new ConcurrentHashMap<>();
+
     private CachedResultSet(@Nullable ResultSet source, @Nullable ResultSetCondition condition) throws SQLException {
         if (source instanceof CachedResultSet) {
             CachedResultSet cachedResultSet = (CachedResultSet) source;
@@ -102,9 +107,10 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
      * @throws SQLException propagated from original result set evaluations
      */
     private void load(@NotNull ResultSet resultSet, @Nullable ResultSetCondition condition) throws SQLException {
+        CachedResultSetLayout layout = new CachedResultSetLayout(columnNames);
         ResultSets.forEachRow(resultSet, () -> {
             if (condition == null || condition.evaluate(resultSet)) {
-                CachedResultSetRow row = CachedResultSetRow.create(resultSet, columnNames);
+                CachedResultSetRow row = CachedResultSetRow.create(resultSet, layout);
                 rows.add(row);
             }
         });
@@ -183,9 +189,14 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
 
     public CachedResultSet normalize(Mapper<String> columnMapper) {
         columnNames = Lists.convert(columnNames, columnName -> nvl(columnMapper.map(columnName), columnName));
+
+        // rows loaded from the same source share the column layout
+        Map<CachedResultSetLayout, Boolean> layouts = new IdentityHashMap<>();
         for (CachedResultSetRow row : rows) {
-            row.normalize(columnMapper);
+            layouts.put(row.getLayout(), true);
         }
+        layouts.keySet().forEach(layout -> layout.normalize(columnMapper));
+        invalidateCaches();
         return this;
     }
 
@@ -195,9 +206,49 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
             CachedResultSetRow row = rows.get(i);
             row.extend(columnName, value.resolve(this, i));
         }
+        invalidateCaches();
         return this;
     }
 
+    private void invalidateCaches() {
+        filtered.clear();
+        grouped.clear();
+        indexes.clear();
+    }
+
+    /**
+     * Rows matching the given values for the given column tuple (hash lookup, the index is built once per column tuple)
+     */
+    @NotNull
+    public List<CachedResultSetRow> lookup(@NotNull Columns columns, Object ... values) {
+        Map<CachedResultSetKey, List<CachedResultSetRow>> index = index(columns);
+        List<CachedResultSetRow> rows = index.get(CachedResultSetKey.of(values));
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /**
+     * Checks if this result set contains a row matching the given row on the given column tuple
+     */
+    public boolean contains(@NotNull CachedResultSetRow row, @NotNull Columns columns) {
+        Map<CachedResultSetKey, List<CachedResultSetRow>> index = index(columns);
+        return index.containsKey(CachedResultSetKey.of(row, columns.names()));
+    }
+
+    private Map<CachedResultSetKey, List<CachedResultSetRow>> index(Columns columns) {
+        return indexes.computeIfAbsent(columns, c -> createIndex(c));
+    }
+
+    @NotNull
+    private Map<CachedResultSetKey, List<CachedResultSetRow>> createIndex(Columns columns) {
+        String[] columnNames = columns.names();
+        Map<CachedResultSetKey, List<CachedResultSetRow>> index = new HashMap<>();
+        for (CachedResultSetRow row : rows) {
+            CachedResultSetKey key = CachedResultSetKey.of(row, columnNames);
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+        }
+        return index;
+    }
+
     @Nullable
     public CachedResultSetRow first(@NotNull Condition whereCondition) throws SQLException {
         return next(whereCondition, 0);
@@ -317,13 +368,14 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
         if (rows.isEmpty()) {
             return this;
         } else {
-            List<CachedResultSetRow> groupedRows = new ArrayList<>();
+            String[] columnNames = columns.names();
+            Map<CachedResultSetKey, CachedResultSetRow> groupedRows = new LinkedHashMap<>();
             try {
 
                 for (CachedResultSetRow row : rows) {
-                    CachedResultSetRow matchingRow = find(groupedRows, row, columns);
-                    if (matchingRow == null) {
-                        groupedRows.add(row.clone(columns));
+                    CachedResultSetKey key = CachedResultSetKey.of(row, columnNames);
+                    if (!groupedRows.containsKey(key)) {
+                        groupedRows.put(key, row.clone(columns));
                     } else {
                         // TODO ignore or pivot the rest of columns?
                     }
@@ -333,20 +385,8 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
                 log.error("Failed to group cached result set", e);
             }
 
-            return new CachedResultSet(groupedRows, columnNames);
-        }
-    }
-
-
-
-    private static CachedResultSetRow find(List<CachedResultSetRow> list, CachedResultSetRow match, Columns columns) {
-        for (int i = 0; i < list.size(); i++) {
-            CachedResultSetRow row = list.get(i);
-            if (row.matches(match, columns)) {
-                return row;
-            }
+            return new CachedResultSet(new ArrayList<>(groupedRows.values()), this.columnNames);
         }
-        return null;
     }
 
     @FunctionalInterface
@@ -354,13 +394,11 @@ public class CachedResultSet extends StatefulDisposableBase implements ResultSet
         boolean evaluate(CachedResultSetRow row) throws SQLException;
 
         static Condition in(CachedResultSet source, Columns matchColumns) {
-            return row -> source.exists(sourceRow ->
-                    sourceRow.matches(row, matchColumns));
+            return row -> source.contains(row, matchColumns);
         }
 
         static Condition notIn(CachedResultSet source, Columns matchColumns) {
-            return row -> !source.exists(sourceRow ->
-                    sourceRow.matches(row, matchColumns));
+            return row -> !source.contains(row, matchColumns);
         }
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.database.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash key of a {@link CachedResultSetRow} built from the values of a given column tuple.
+ * Two rows produce equal keys exactly when {@link CachedResultSetRow#matches(CachedResultSetRow, CachedResultSet.Columns)}
+ * matches them (empty strings and null values are equivalent, see {@link com.dbn.common.util.Commons#match(Object, Object)})
+ */
+final class CachedResultSetKey {
+    private final Object[] values;
+    private final int hashCode;
+
+    private CachedResultSetKey(Object[] values) {
+        this.values = values;
+        this.hashCode = Arrays.hashCode(values);
+    }
+
+    static CachedResultSetKey of(CachedResultSetRow row, String[] columnNames) {
+        Object[] values = new Object[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            values[i] = normalize(row.get(columnNames[i]));
+        }
+        return new CachedResultSetKey(values);
+    }
+
+    static CachedResultSetKey of(Object[] values) {
+        Object[] normalized = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            normalized[i] = normalize(values[i]);
+        }
+        return new CachedResultSetKey(normalized);
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof String && ((String) value).isEmpty()) return null;
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CachedResultSetKey)) return false;
+
+        CachedResultSetKey that = (CachedResultSetKey) o;
+        return hashCode == that.hashCode && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
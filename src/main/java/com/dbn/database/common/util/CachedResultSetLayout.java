@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.database.common.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Column layout shared by all the rows loaded from the same source.
+ * Rows only hold the value array, the column name to position mapping is resolved here once.
+ * The mapping is replaced (copy on write) when columns get added or renamed, so lookups do not need to lock.
+ */
+final class CachedResultSetLayout {
+    private volatile Map<String, Integer> positions = new HashMap<>();
+    private volatile String[] columnNames = new String[0];
+
+    CachedResultSetLayout(@NotNull Iterable<String> columnNames) {
+        for (String columnName : columnNames) {
+            ensure(columnName);
+        }
+    }
+
+    int size() {
+        return columnNames.length;
+    }
+
+    String getColumnName(int position) {
+        return columnNames[position];
+    }
+
+    /**
+     * Position of the given column, or -1 if the layout has no such column
+     */
+    int position(String columnName) {
+        Integer position = positions.get(columnName);
+        return position == null ? -1 : position;
+    }
+
+    synchronized int ensure(String columnName) {
+        Integer position = positions.get(columnName);
+        if (position != null) return position;
+
+        int index = columnNames.length;
+        Map<String, Integer> positions = new HashMap<>(this.positions);
+        positions.put(columnName, index);
+        String[] columnNames = Arrays.copyOf(this.columnNames, index + 1);
+        columnNames[index] = columnName;
+
+        this.columnNames = columnNames;
+        this.positions = positions;
+        return index;
+    }
+
+    synchronized void normalize(CachedResultSet.Mapper<String> columnMapper) {
+        String[] columnNames = this.columnNames.clone();
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < columnNames.length; i++) {
+            String newColumnName = columnMapper.map(columnNames[i]);
+            if (newColumnName != null && !Objects.equals(newColumnName, columnNames[i])) {
+                columnNames[i] = newColumnName;
+            }
+            positions.put(columnNames[i], i);
+        }
+
+        this.columnNames = columnNames;
+        this.positions = positions;
+    }
+}
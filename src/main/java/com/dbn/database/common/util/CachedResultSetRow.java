@@ -19,34 +19,33 @@ package com.dbn.database.common.util;
 import com.dbn.common.util.Commons;
 import com.dbn.common.util.Strings;
 import org.jetbrains.annotations.NonNls;
-import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.NotNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.Arrays;
 
 public class CachedResultSetRow {
-    private final Map<String, Object> values = new HashMap<>();
+    private final CachedResultSetLayout layout;
+    private Object[] values;
 
-    private CachedResultSetRow(@Nullable ResultSet source, List<String> columnNames) throws SQLException {
-        if (source != null) {
-            for (String columnName : columnNames) {
-                Object columnValue = source.getObject(columnName);
-                values.put(columnName, columnValue);
-            }
-        }
+    private CachedResultSetRow(@NotNull CachedResultSetLayout layout, @NotNull Object[] values) {
+        this.layout = layout;
+        this.values = values;
     }
 
-    public static CachedResultSetRow create(ResultSet source, List<String> columnNames) throws SQLException {
-        return new CachedResultSetRow(source, columnNames);
+    static CachedResultSetRow create(ResultSet source, CachedResultSetLayout layout) throws SQLException {
+        Object[] values = new Object[layout.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = source.getObject(layout.getColumnName(i));
+        }
+        return new CachedResultSetRow(layout, values);
     }
 
     public Object get(@NonNls String columnName) {
-        return values.get(columnName);
+        int position = layout.position(columnName);
+        Object[] values = this.values;
+        return position < 0 || position >= values.length ? null : values[position];
     }
 
 
@@ -62,35 +61,32 @@ public class CachedResultSetRow {
     }
 
     public CachedResultSetRow clone(CachedResultSet.Columns columns) throws SQLException {
-        CachedResultSetRow clone = new CachedResultSetRow(null, null);
         String[] columnNames = columns.names();
-        for (String columnName : values.keySet()) {
-            if (Strings.isOneOf(columnName, columnNames)) {
-                Object columnValue = get(columnName);
-                clone.values.put(columnName, columnValue);
+        Object[] values = new Object[this.values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Strings.isOneOf(layout.getColumnName(i), columnNames)) {
+                values[i] = this.values[i];
             }
         }
-        return clone;
+        return new CachedResultSetRow(layout, values);
     }
 
-    void extend(String columnName, Object columnValue){
-        values.put(columnName, columnValue);
+    CachedResultSetLayout getLayout() {
+        return layout;
     }
 
-    void normalize(CachedResultSet.Mapper<String> columnMapper) {
-        for (String columnName : new HashSet<>(values.keySet())) {
-            String newColumnName = columnMapper.map(columnName);
-            if (newColumnName != null && !Objects.equals(newColumnName, columnName)) {
-                Object columnValue = values.remove(columnName);
-                values.put(newColumnName, columnValue);
-            }
+    void extend(String columnName, Object columnValue){
+        int position = layout.ensure(columnName);
+        if (position >= values.length) {
+            values = Arrays.copyOf(values, position + 1);
         }
+        values[position] = columnValue;
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (Object column : values.values()) {
+        for (Object column : values) {
             if (builder.length() > 0) builder.append(" / ");
             builder.append(column);
         }
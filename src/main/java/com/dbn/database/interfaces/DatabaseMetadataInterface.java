@@ -20,6 +20,7 @@ import com.dbn.connection.jdbc.DBNConnection;
 import com.dbn.database.common.statement.ByteArray;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -110,6 +111,14 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
      */
     ResultSet loadSchemas(DBNConnection connection) throws SQLException;
 
+    /**
+     * Load the database users matching the given SQL predicate on the columns of {@link #loadSchemas(DBNConnection)}
+     * (the filter is ignored if not supported by the database interface)
+     */
+    default ResultSet loadSchemas(@Nullable String filter, DBNConnection connection) throws SQLException {
+        return loadSchemas(connection);
+    }
+
 
 
     /**
@@ -136,6 +145,14 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
      */
     ResultSet loadTables(String ownerName, DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads the tables of the given owner matching the given SQL predicate on the columns of {@link #loadTables(String, DBNConnection)}
+     * (the filter is ignored if not supported by the database interface)
+     */
+    default ResultSet loadTables(String ownerName, @Nullable String filter, DBNConnection connection) throws SQLException {
+        return loadTables(ownerName, connection);
+    }
+
     /**
      * Loads the views of the given owner<br>
      * Column names of the returned ResultSet
@@ -144,6 +161,14 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
      */
     ResultSet loadViews(String ownerName, DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads the views of the given owner matching the given SQL predicate on the columns of {@link #loadViews(String, DBNConnection)}
+     * (the filter is ignored if not supported by the database interface)
+     */
+    default ResultSet loadViews(String ownerName, @Nullable String filter, DBNConnection connection) throws SQLException {
+        return loadViews(ownerName, connection);
+    }
+
     /**
      * Loads the java objects of the given owner<br>
      * Column names of the returned ResultSet
@@ -641,6 +666,18 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
 
     ResultSet loadReferencingSchemas(String ownerName, String objectName, DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads all object dependencies (in both directions) of the given owner in one go
+     * Column names of the returned ResultSet
+     *  <li> OBJECT_OWNER (char)
+     *  <li> OBJECT_NAME (char)
+     *  <li> OBJECT_TYPE (char)
+     *  <li> REFERENCED_OWNER (char)
+     *  <li> REFERENCED_NAME (char)
+     *  <li> REFERENCED_TYPE (char)
+     */
+    ResultSet loadAllObjectDependencies(String ownerName, DBNConnection connection) throws SQLException;
+
     /**
      * Loads the referencing objects for the given object (objects depending on it)
      * Column names of the returned ResultSet
@@ -731,7 +768,13 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
 
     void enableLogger(DBNConnection connection) throws SQLException;
     void disableLogger(DBNConnection connection) throws SQLException;
-    String readLoggerOutput(DBNConnection connection) throws SQLException;
+
+    /**
+     * Reads (and consumes) at most the given number of lines from the log buffer of the session
+     * @return the lines read or null if the log buffer is exhausted
+     */
+    @Nullable
+    String readLoggerOutput(DBNConnection connection, int maxLines) throws SQLException;
 
     boolean isValid(DBNConnection connection);
 
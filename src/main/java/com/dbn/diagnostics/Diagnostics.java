@@ -57,6 +57,10 @@ public final class Diagnostics {
         return isDeveloperMode() && miscellaneous.backgroundDisposerDisabled;
     }
 
+    public static boolean isTreeEventCoalescingDisabled() {
+        return isDeveloperMode() && miscellaneous.treeEventCoalescingDisabled;
+    }
+
     public static boolean isDatabaseAccessDebug() {
         return isDeveloperMode() && debugLogging.databaseAccess;
     }
@@ -156,13 +160,15 @@ public final class Diagnostics {
         private boolean bulkActionsEnabled = false;
         private boolean backgroundDisposerDisabled = false;
         private boolean timeoutHandlingDisabled = false;
+        private boolean treeEventCoalescingDisabled = false;
 
         public boolean hasEnabledFeatures() {
             return dialogSizingReset ||
                     nativeAlertsEnabled ||
                     bulkActionsEnabled ||
                     backgroundDisposerDisabled ||
-                    timeoutHandlingDisabled;
+                    timeoutHandlingDisabled ||
+                    treeEventCoalescingDisabled;
         }
 
         @Override
@@ -174,6 +180,7 @@ public final class Diagnostics {
                 bulkActionsEnabled = booleanAttribute(miscellaneous, "bulk-actions-enabled", bulkActionsEnabled);
                 backgroundDisposerDisabled = booleanAttribute(miscellaneous, "background-disposer-disabled", backgroundDisposerDisabled);
                 timeoutHandlingDisabled = booleanAttribute(miscellaneous, "timeout-handling-disabled", timeoutHandlingDisabled);
+                treeEventCoalescingDisabled = booleanAttribute(miscellaneous, "tree-event-coalescing-disabled", treeEventCoalescingDisabled);
             }
         }
 
@@ -185,6 +192,7 @@ public final class Diagnostics {
             setBooleanAttribute(miscellaneous, "bulk-actions-enabled", bulkActionsEnabled);
             setBooleanAttribute(miscellaneous, "background-disposer-disabled", backgroundDisposerDisabled);
             setBooleanAttribute(miscellaneous, "timeout-handling-disabled", timeoutHandlingDisabled);
+            setBooleanAttribute(miscellaneous, "tree-event-coalescing-disabled", treeEventCoalescingDisabled);
         }
     }
 
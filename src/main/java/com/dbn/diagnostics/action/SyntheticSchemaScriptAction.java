@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.diagnostics.action;
+
+import com.dbn.common.util.Messages;
+import com.dbn.connection.ConnectionHandler;
+import com.dbn.connection.action.AbstractConnectionAction;
+import com.dbn.diagnostics.Diagnostics;
+import com.dbn.diagnostics.benchmark.SyntheticSchema;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.datatransfer.StringSelection;
+
+import static com.dbn.nls.NlsResources.txt;
+
+/**
+ * Exports the DDL script of a large {@link SyntheticSchema} (2000 tables with 40 columns each,
+ * 200 programs with 10 methods of 8 arguments each) for the database type of the connection to the clipboard
+ */
+public class SyntheticSchemaScriptAction extends AbstractConnectionAction {
+    private static final SyntheticSchema SCHEMA = new SyntheticSchema(2000, 40, 200, 10, 8);
+
+    public SyntheticSchemaScriptAction(ConnectionHandler connection) {
+        super(connection);
+    }
+
+    @Override
+    protected void actionPerformed(@NotNull AnActionEvent e, @NotNull Project project, @NotNull ConnectionHandler connection) {
+        String script = SCHEMA.createScript(connection.getDatabaseType());
+
+        CopyPasteManager copyPasteManager = CopyPasteManager.getInstance();
+        copyPasteManager.setContents(new StringSelection(script));
+        Messages.showInfoDialog(project,
+                txt("msg.diagnostics.title.SyntheticSchemaScript"),
+                txt("msg.diagnostics.message.SyntheticSchemaScriptExported", connection.getDatabaseType()));
+    }
+
+    @Override
+    protected void update(@NotNull AnActionEvent e, @NotNull Presentation presentation, @NotNull Project project, @Nullable ConnectionHandler connection) {
+        presentation.setVisible(Diagnostics.isBulkActionsEnabled());
+        presentation.setText(txt("app.diagnostics.action.GenerateSyntheticSchemaScript"));
+    }
+}
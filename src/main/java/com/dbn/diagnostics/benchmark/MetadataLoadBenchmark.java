@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.diagnostics.benchmark;
+
+import com.dbn.object.DBColumn;
+import com.dbn.object.DBMethod;
+import com.dbn.object.DBPackage;
+import com.dbn.object.DBSchema;
+import com.dbn.object.DBTable;
+import com.dbn.object.common.list.DBObjectList;
+import com.dbn.object.type.DBObjectType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.text.StringUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static com.dbn.object.type.DBObjectType.ARGUMENT;
+import static com.dbn.object.type.DBObjectType.COLUMN;
+import static com.dbn.object.type.DBObjectType.CONSTRAINT;
+import static com.dbn.object.type.DBObjectType.FUNCTION;
+import static com.dbn.object.type.DBObjectType.INDEX;
+import static com.dbn.object.type.DBObjectType.PACKAGE;
+import static com.dbn.object.type.DBObjectType.PROCEDURE;
+import static com.dbn.object.type.DBObjectType.TABLE;
+import static com.dbn.object.type.DBObjectType.VIEW;
+
+/**
+ * End-to-end metadata load benchmark for one schema (typically populated with a {@link SyntheticSchema}).
+ * Reloads the master object lists of the schema through the regular loaders and then exercises the
+ * resolution of the child lists and the name lookups, reporting per phase:
+ * <ul>
+ *     <li>elapsed time</li>
+ *     <li>allocated bytes (cumulated over all live threads, hence including the database interface threads)</li>
+ *     <li>retained heap (used heap difference after garbage collection, best effort)</li>
+ * </ul>
+ */
+@Slf4j
+@Getter
+public class MetadataLoadBenchmark {
+    private static final DBObjectType[] MASTER_TYPES = {TABLE, VIEW, COLUMN, CONSTRAINT, INDEX, PACKAGE, PROCEDURE, FUNCTION, ARGUMENT};
+
+    private final DBSchema schema;
+    private final List<Phase> phases = new ArrayList<>();
+
+    public MetadataLoadBenchmark(@NotNull DBSchema schema) {
+        this.schema = schema;
+    }
+
+    public void run(@NotNull ProgressIndicator progress) {
+        phases.clear();
+        for (DBObjectType objectType : MASTER_TYPES) {
+            DBObjectList<?> objectList = schema.getChildObjectList(objectType);
+            if (objectList == null) continue;
+
+            measure(progress, "Load " + objectType.getListName(), () -> {
+                objectList.reload();
+                return objectList.getAllElements().size();
+            });
+        }
+
+        List<DBTable> tables = schema.getTables();
+        measure(progress, "Resolve table columns", () -> tables.stream().mapToInt(t -> t.getColumns().size()).sum());
+        measure(progress, "Resolve table constraints", () -> tables.stream().mapToInt(t -> size(t.getConstraints())).sum());
+        measure(progress, "Resolve table indexes", () -> tables.stream().mapToInt(t -> size(t.getIndexes())).sum());
+        measure(progress, "Resolve method arguments", () -> getMethods().stream().mapToInt(m -> m.getArguments().size()).sum());
+
+        measure(progress, "Lookup tables", () -> {
+            int count = 0;
+            for (DBTable table : tables) {
+                if (schema.getChildObject(TABLE, table.getName()) != null) count++;
+            }
+            return count;
+        });
+        measure(progress, "Lookup columns", () -> {
+            int count = 0;
+            for (DBTable table : tables) {
+                for (DBColumn column : table.getColumns()) {
+                    if (table.getChildObject(COLUMN, column.getName()) != null) count++;
+                }
+            }
+            return count;
+        });
+
+        log.info("Metadata load benchmark for schema {}\n{}", schema.getName(), getReport());
+    }
+
+    private List<DBMethod> getMethods() {
+        List<DBMethod> methods = new ArrayList<>();
+        methods.addAll(schema.getProcedures());
+        methods.addAll(schema.getFunctions());
+        for (DBPackage pack : schema.getPackages()) {
+            methods.addAll(pack.getProcedures());
+            methods.addAll(pack.getFunctions());
+        }
+        return methods;
+    }
+
+    private void measure(ProgressIndicator progress, String name, IntSupplier task) {
+        progress.checkCanceled();
+        progress.setText2(name);
+
+        long retainedStart = usedHeap();
+        long allocatedStart = allocatedBytes();
+        long start = System.nanoTime();
+
+        int elements = task.getAsInt();
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long allocated = allocatedStart < 0 ? -1 : allocatedBytes() - allocatedStart;
+        long retained = usedHeap() - retainedStart;
+        phases.add(new Phase(name, elements, elapsed, allocated, retained));
+    }
+
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-28s %10s %10s %12s %12s%n", "Phase", "Elements", "Time (ms)", "Allocated", "Retained"));
+        for (Phase phase : phases) {
+            report.append(String.format("%-28s %10d %10d %12s %12s%n",
+                    phase.getName(),
+                    phase.getElements(),
+                    phase.getTime(),
+                    phase.getAllocated() < 0 ? "n/a" : StringUtil.formatFileSize(phase.getAllocated()),
+                    StringUtil.formatFileSize(Math.max(phase.getRetained(), 0))));
+        }
+        return report.toString();
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * Bytes allocated so far by the live threads or -1 if allocation metering is not supported by the JVM
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) return -1;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadBean;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+
+        long allocated = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) allocated += bytes;
+        }
+        return allocated;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Phase {
+        private final String name;
+        private final int elements;
+        private final long time;
+        private final long allocated;
+        private final long retained;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.diagnostics.benchmark;
+
+import com.dbn.connection.DatabaseType;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generator of a synthetic schema of configurable size, used as fixture for metadata load benchmarks.
+ * Creates a chain of tables (primary key, foreign key to the previous table, index on the foreign key column and
+ * a configurable number of data columns), and programs with arguments where supported by the database
+ * (packages for Oracle, procedures for MySQL, functions for PostgreSQL, none for SQLite).
+ * For a local (embedded) fixture, the script can be executed on a connection to a new SQLite database file.
+ */
+@Getter
+public class SyntheticSchema {
+    public static final String PREFIX = "DBN_BENCH_";
+
+    private final int tables;
+    private final int columns;
+    private final int programs;
+    private final int methods;
+    private final int arguments;
+
+    /**
+     * @param tables number of tables
+     * @param columns number of columns per table (including the two key columns)
+     * @param programs number of programs (packages or standalone method groups)
+     * @param methods number of methods per program
+     * @param arguments number of arguments per method
+     */
+    public SyntheticSchema(int tables, int columns, int programs, int methods, int arguments) {
+        this.tables = tables;
+        this.columns = Math.max(columns, 2);
+        this.programs = programs;
+        this.methods = methods;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Creates the DDL script for the given database type (statements separated by the terminator of the database)
+     */
+    @NotNull
+    public String createScript(DatabaseType databaseType) {
+        StringBuilder script = new StringBuilder();
+        for (String statement : createStatements(databaseType)) {
+            script.append(statement);
+            script.append(isBlock(databaseType, statement) ? "\n/\n\n" : ";\n\n");
+        }
+        return script.toString();
+    }
+
+    @NotNull
+    public List<String> createStatements(DatabaseType databaseType) {
+        List<String> statements = new ArrayList<>();
+        for (int t = 1; t <= tables; t++) {
+            statements.add(createTable(databaseType, t));
+            statements.add("create index " + tableName(t) + "_IX on " + tableName(t) + " (PARENT_ID)");
+        }
+
+        for (int p = 1; p <= programs; p++) {
+            switch (databaseType) {
+                case ORACLE: statements.add(createPackage(p)); break;
+                case MYSQL: for (int m = 1; m <= methods; m++) statements.add(createProcedure(p, m)); break;
+                case POSTGRES: for (int m = 1; m <= methods; m++) statements.add(createFunction(p, m)); break;
+                default: // no stored programs
+            }
+        }
+        return statements;
+    }
+
+    private String createTable(DatabaseType databaseType, int table) {
+        StringBuilder ddl = new StringBuilder();
+        String tableName = tableName(table);
+        ddl.append("create table ").append(tableName).append(" (\n");
+        ddl.append("    ID ").append(dataType(databaseType, 0)).append(" not null,\n");
+        ddl.append("    PARENT_ID ").append(dataType(databaseType, 0));
+        for (int c = 3; c <= columns; c++) {
+            ddl.append(",\n    COLUMN_").append(pad(c, 3)).append(' ').append(dataType(databaseType, c));
+        }
+        ddl.append(",\n    constraint ").append(tableName).append("_PK primary key (ID)");
+        if (table > 1) {
+            ddl.append(",\n    constraint ").append(tableName).append("_FK foreign key (PARENT_ID) references ").append(tableName(table - 1)).append(" (ID)");
+        }
+        ddl.append(")");
+        return ddl.toString();
+    }
+
+    private String createPackage(int program) {
+        StringBuilder ddl = new StringBuilder();
+        ddl.append("create or replace package ").append(programName(program)).append(" as\n");
+        for (int m = 1; m <= methods; m++) {
+            boolean function = m % 2 == 0;
+            ddl.append(function ? "    function " : "    procedure ").append(methodName(m));
+            appendArguments(DatabaseType.ORACLE, ddl, "in ");
+            ddl.append(function ? " return number;\n" : ";\n");
+        }
+        ddl.append("end ").append(programName(program)).append(";");
+        return ddl.toString();
+    }
+
+    private String createProcedure(int program, int method) {
+        StringBuilder ddl = new StringBuilder();
+        ddl.append("create procedure ").append(methodName(program, method));
+        appendArguments(DatabaseType.MYSQL, ddl, "in ");
+        ddl.append(" begin end");
+        return ddl.toString();
+    }
+
+    private String createFunction(int program, int method) {
+        StringBuilder ddl = new StringBuilder();
+        ddl.append("create or replace function ").append(methodName(program, method));
+        appendArguments(DatabaseType.POSTGRES, ddl, "");
+        ddl.append(" returns integer language sql as $$ select 1 $$");
+        return ddl.toString();
+    }
+
+    private void appendArguments(DatabaseType databaseType, StringBuilder ddl, String direction) {
+        if (arguments == 0) {
+            if (databaseType != DatabaseType.ORACLE) ddl.append("()");
+            return;
+        }
+
+        ddl.append('(');
+        for (int a = 1; a <= arguments; a++) {
+            if (a > 1) ddl.append(", ");
+            String argumentName = "P_" + pad(a, 3);
+            if (databaseType == DatabaseType.MYSQL) {
+                ddl.append(direction).append(argumentName).append(' ').append(argumentType(databaseType, a));
+            } else {
+                ddl.append(argumentName).append(' ').append(direction).append(argumentType(databaseType, a));
+            }
+        }
+        ddl.append(')');
+    }
+
+    private static boolean isBlock(DatabaseType databaseType, String statement) {
+        return databaseType == DatabaseType.ORACLE && statement.startsWith("create or replace package");
+    }
+
+    private static String tableName(int table) {
+        return PREFIX + "T" + pad(table, 5);
+    }
+
+    private static String programName(int program) {
+        return PREFIX + "P" + pad(program, 5);
+    }
+
+    private static String methodName(int method) {
+        return "METHOD_" + pad(method, 3);
+    }
+
+    private static String methodName(int program, int method) {
+        return programName(program) + "_" + pad(method, 3);
+    }
+
+    private static String dataType(DatabaseType databaseType, int index) {
+        switch (index % 4) {
+            case 0: return databaseType == DatabaseType.ORACLE ? "NUMBER(10)" : "INTEGER";
+            case 1: return databaseType == DatabaseType.ORACLE ? "VARCHAR2(100)" : "VARCHAR(100)";
+            case 2: return databaseType == DatabaseType.ORACLE ? "DATE" : databaseType == DatabaseType.MYSQL ? "DATETIME" : "TIMESTAMP";
+            default: return databaseType == DatabaseType.ORACLE ? "NUMBER(12,2)" : "NUMERIC(12,2)";
+        }
+    }
+
+    private static String argumentType(DatabaseType databaseType, int index) {
+        // argument types can not be constrained in Oracle
+        switch (index % 3) {
+            case 0: return databaseType == DatabaseType.ORACLE ? "NUMBER" : "INTEGER";
+            case 1: return databaseType == DatabaseType.ORACLE ? "VARCHAR2" : databaseType == DatabaseType.MYSQL ? "VARCHAR(100)" : "VARCHAR";
+            default: return databaseType == DatabaseType.ORACLE ? "DATE" : databaseType == DatabaseType.MYSQL ? "DATETIME" : "TIMESTAMP";
+        }
+    }
+
+    private static String pad(int value, int length) {
+        StringBuilder result = new StringBuilder(length).append(value);
+        while (result.length() < length) result.insert(0, '0');
+        return result.toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.dbn.diagnostics.options.ui;
 
+import com.dbn.browser.model.BrowserTreeEventCoalescer;
 import com.dbn.common.text.TextContent;
 import com.dbn.common.ui.form.DBNFormBase;
 import com.dbn.common.ui.form.DBNHintForm;
@@ -31,6 +32,7 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.swing.JCheckBox;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 import java.awt.event.ActionEvent;
@@ -58,6 +60,8 @@ public class DiagnosticSettingsForm extends DBNFormBase {
     private JPanel hintPanel;
     private JBTextField developerModeTimeoutTextField;
     private JCheckBox timeoutHandlingCheckBox;
+    private JCheckBox treeEventCoalescingCheckBox;
+    private JLabel treeEventStatisticsLabel;
 
     private final DBNHintForm disclaimerForm;
 
@@ -90,6 +94,11 @@ public class DiagnosticSettingsForm extends DBNFormBase {
         bulkActionsCheckbox.setSelected(miscellaneous.isBulkActionsEnabled());
         backgroundDisposerCheckBox.setSelected(miscellaneous.isBackgroundDisposerDisabled());
         timeoutHandlingCheckBox.setSelected(miscellaneous.isTimeoutHandlingDisabled());
+        treeEventCoalescingCheckBox.setSelected(miscellaneous.isTreeEventCoalescingDisabled());
+        treeEventStatisticsLabel.setText(
+                BrowserTreeEventCoalescer.getReceivedEvents() + " tree events received, " +
+                BrowserTreeEventCoalescer.getDispatchedEvents() + " dispatched in " +
+                BrowserTreeEventCoalescer.getDispatchNanos() / 1000000 + " ms");
 
         updateFields(null);
 
@@ -117,6 +126,8 @@ public class DiagnosticSettingsForm extends DBNFormBase {
         failsafeLoggingCheckBox.setEnabled(developerMode);
         backgroundDisposerCheckBox.setEnabled(developerMode);
         timeoutHandlingCheckBox.setEnabled(developerMode);
+        treeEventCoalescingCheckBox.setEnabled(developerMode);
+        treeEventStatisticsLabel.setEnabled(developerMode);
 
         boolean databaseLaggingEnabled = developerMode && databaseLaggingCheckBox.isSelected();
         connectivityLagTextField.setEnabled(databaseLaggingEnabled);
@@ -150,6 +161,7 @@ public class DiagnosticSettingsForm extends DBNFormBase {
         miscellaneous.setBulkActionsEnabled(bulkActionsCheckbox.isSelected());
         miscellaneous.setBackgroundDisposerDisabled(backgroundDisposerCheckBox.isSelected());
         miscellaneous.setTimeoutHandlingDisabled(timeoutHandlingCheckBox.isSelected());
+        miscellaneous.setTreeEventCoalescingDisabled(treeEventCoalescingCheckBox.isSelected());
     }
 
     private int getDeveloperModeTimeout() {
@@ -18,7 +18,10 @@ package com.dbn.diagnostics.ui.model;
 
 import com.dbn.connection.ConnectionHandler;
 import com.dbn.connection.ConnectionRef;
+import com.dbn.connection.ConnectionType;
 import com.dbn.connection.SessionId;
+import com.dbn.connection.jdbc.DBNConnection;
+import com.dbn.connection.jdbc.DBNStatementCache;
 import com.dbn.connection.session.DatabaseSession;
 import com.dbn.diagnostics.DiagnosticsManager;
 import com.dbn.diagnostics.data.DiagnosticBundle;
@@ -26,6 +29,10 @@ import com.dbn.diagnostics.data.DiagnosticEntry;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
 public class ConnectivityDiagnosticsTableModel extends AbstractDiagnosticsTableModel<SessionId> {
     private final ConnectionRef connection;
 
@@ -35,7 +42,11 @@ public class ConnectivityDiagnosticsTableModel extends AbstractDiagnosticsTableM
             "Failures",
             "Timeouts",
             "Average Time (ms)",
-            "Total Time (ms)"};
+            "Total Time (ms)",
+            "Cached Statements",
+            "Statement Cache Hits",
+            "Statement Cache Misses",
+            "Statement Cache Evictions"};
 
     public ConnectivityDiagnosticsTableModel(ConnectionHandler connection) {
         super(connection.getProject());
@@ -64,6 +75,10 @@ public class ConnectivityDiagnosticsTableModel extends AbstractDiagnosticsTableM
             case 3: return entry.getTimeouts();
             case 4: return entry.getAverage();
             case 5: return entry.getTotal();
+            case 6: return getStatementCacheMetric(entry.getIdentifier(), c -> c.size());
+            case 7: return getStatementCacheMetric(entry.getIdentifier(), c -> c.getHitCount());
+            case 8: return getStatementCacheMetric(entry.getIdentifier(), c -> c.getMissCount());
+            case 9: return getStatementCacheMetric(entry.getIdentifier(), c -> c.getEvictionCount());
         }
         return "";
     }
@@ -82,10 +97,30 @@ public class ConnectivityDiagnosticsTableModel extends AbstractDiagnosticsTableM
             case 3: return Long.toString(entry.getTimeouts());
             case 4: return Long.toString(entry.getAverage());
             case 5: return Long.toString(entry.getTotal());
+            case 6:
+            case 7:
+            case 8:
+            case 9: return getValue(entry, column).toString();
         }
         return "";
     }
 
+    /**
+     * Statement cache metric cumulated over the open connections of the given session
+     */
+    private long getStatementCacheMetric(SessionId sessionId, ToLongFunction<DBNStatementCache> metric) {
+        return getSessionConnections(sessionId).stream().mapToLong(c -> metric.applyAsLong(c.getStatementCache())).sum();
+    }
+
+    @NotNull
+    private List<DBNConnection> getSessionConnections(SessionId sessionId) {
+        ConnectionHandler connection = getConnection();
+        if (sessionId == SessionId.POOL) return connection.getConnectionPool().getConnections(ConnectionType.POOL);
+
+        DBNConnection conn = connection.getConnectionPool().getSessionConnection(sessionId);
+        return conn == null ? Collections.emptyList() : List.of(conn);
+    }
+
     public ConnectionHandler getConnection() {
         return connection.ensure();
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.driver;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Type hierarchy information read from the header of a class file (access flags, class name, super-class and interfaces),
+ * without defining the class. Only the constant pool and the fields preceding the class members are read.
+ */
+@Getter
+final class ClassFileHeader {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_ABSTRACT = 0x0400;
+
+    private final String name;
+    private final String superName;
+    private final String[] interfaceNames;
+    private final int accessFlags;
+
+    private ClassFileHeader(String name, String superName, String[] interfaceNames, int accessFlags) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames;
+        this.accessFlags = accessFlags;
+    }
+
+    /**
+     * Abstract classes and interfaces
+     */
+    public boolean isAbstract() {
+        return (accessFlags & ACC_ABSTRACT) != 0;
+    }
+
+    /**
+     * Reads the header of the class file from the given stream
+     * @return the header or null if the stream does not contain a class file
+     */
+    @Nullable
+    static ClassFileHeader read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) return null;
+        in.skipBytes(4); // minor and major version
+
+        int poolSize = in.readUnsignedShort();
+        String[] utf8 = new String[poolSize];
+        int[] classes = new int[poolSize];
+        for (int i = 1; i < poolSize; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: utf8[i] = in.readUTF(); break;               // Utf8
+                case 7: classes[i] = in.readUnsignedShort(); break;  // Class
+                case 8:                                              // String
+                case 16:                                             // MethodType
+                case 19:                                             // Module
+                case 20: in.skipBytes(2); break;                     // Package
+                case 15: in.skipBytes(3); break;                     // MethodHandle
+                case 3:                                              // Integer
+                case 4:                                              // Float
+                case 9:                                              // Fieldref
+                case 10:                                             // Methodref
+                case 11:                                             // InterfaceMethodref
+                case 12:                                             // NameAndType
+                case 17:                                             // Dynamic
+                case 18: in.skipBytes(4); break;                     // InvokeDynamic
+                case 5:                                              // Long
+                case 6: in.skipBytes(8); i++; break;                 // Double (two pool entries)
+                default: return null;
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String name = className(in.readUnsignedShort(), utf8, classes);
+        String superName = className(in.readUnsignedShort(), utf8, classes);
+        String[] interfaceNames = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaceNames[i] = className(in.readUnsignedShort(), utf8, classes);
+        }
+        return name == null ? null : new ClassFileHeader(name, superName, interfaceNames, accessFlags);
+    }
+
+    @Nullable
+    private static String className(int index, String[] utf8, int[] classes) {
+        if (index <= 0 || index >= classes.length) return null;
+        return utf8[classes[index]];
+    }
+}
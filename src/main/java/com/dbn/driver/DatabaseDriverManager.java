@@ -21,9 +21,11 @@ import com.dbn.common.component.ApplicationComponentBase;
 import com.dbn.common.component.PersistentState;
 import com.dbn.common.dispose.Disposer;
 import com.dbn.common.util.Files;
+import com.dbn.common.util.Strings;
 import com.dbn.connection.DatabaseType;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -33,12 +35,16 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.dbn.common.component.Components.applicationService;
 import static com.dbn.common.options.setting.Settings.newElement;
 import static com.dbn.common.options.setting.Settings.newStateElement;
+import static com.dbn.common.options.setting.Settings.setStringAttribute;
+import static com.dbn.common.options.setting.Settings.stringAttribute;
 import static com.dbn.common.util.Strings.cachedLowerCase;
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 import static com.dbn.driver.DatabaseDriverManager.COMPONENT_NAME;
@@ -63,7 +69,7 @@ public class DatabaseDriverManager extends ApplicationComponentBase implements P
     public static final String COMPONENT_NAME = "DBNavigator.Application.DatabaseDriverManager";
 
     private final Map<File, DriverBundle> drivers = new ConcurrentHashMap<>();
-    private final Map<File, DriverBundleMetadata> driverMetadata = new ConcurrentHashMap<>();
+    private final Map<String, DriverClassIndexEntry> driverClassIndex = new ConcurrentHashMap<>();
     private final Map<DatabaseType, DriverBundle> bundledDrivers = new ConcurrentHashMap<>();
 
     public static DatabaseDriverManager getInstance() {
@@ -91,17 +97,38 @@ public class DatabaseDriverManager extends ApplicationComponentBase implements P
         }
     }
 
+    /**
+     * Driver classes found in previous scans of a jar with the same content as the given library
+     * @return the driver class names or null if the library content was never scanned
+     */
     @Nullable
-    public DriverBundleMetadata getDriverMetadata(File library) {
-        return driverMetadata.get(library);
+    public Set<String> getIndexedDriverClasses(DriverLibrary library) {
+        DriverClassIndexEntry entry = driverClassIndex.get(library.getContentHash());
+        if (entry == null) return null;
+
+        entry.getJarPaths().add(library.getJar().getPath());
+        return entry.getDriverClasses();
     }
 
-    public void setDriverMetadata(File library, DriverBundleMetadata metadata) {
-        driverMetadata.put(library, metadata);
+    /**
+     * Registers the driver classes found by a complete scan of the given library
+     * (only non-empty scans are indexed, to have empty or failed ones repeated on next load)
+     */
+    public void indexDriverClasses(DriverLibrary library, Set<String> driverClassNames) {
+        if (driverClassNames.isEmpty()) return;
+
+        DriverClassIndexEntry entry = new DriverClassIndexEntry();
+        entry.getDriverClasses().addAll(driverClassNames);
+        entry.getJarPaths().add(library.getJar().getPath());
+        driverClassIndex.put(library.getContentHash(), entry);
     }
 
-    public void resetDriverMetadata(File library) {
-        driverMetadata.remove(library);
+    /**
+     * Adds a driver class discovered on demand to the index of the given library (if the library has been indexed)
+     */
+    public void indexDriverClass(DriverLibrary library, String driverClassName) {
+        DriverClassIndexEntry entry = driverClassIndex.get(library.getContentHash());
+        if (entry != null) entry.getDriverClasses().add(driverClassName);
     }
 
     @Nullable
@@ -154,29 +181,53 @@ public class DatabaseDriverManager extends ApplicationComponentBase implements P
     @Override
     public Element getComponentState() {
         Element element = newStateElement();
-        Element driverClassesElement = newElement(element, "known-driver-classes");
-        for (val entry : driverMetadata.entrySet()) {
-            File file = entry.getKey();
-            if (!file.exists()) continue;
-
-            DriverBundleMetadata metadata = entry.getValue();
-            Element libraryElement = newElement(driverClassesElement, "library");
-            metadata.writeState(libraryElement);
+        Element driverClassesElement = newElement(element, "driver-class-index");
+        for (val entry : driverClassIndex.entrySet()) {
+            DriverClassIndexEntry indexEntry = entry.getValue();
+            Element jarElement = newElement(driverClassesElement, "jar");
+            setStringAttribute(jarElement, "content-hash", entry.getKey());
+            setStringAttribute(jarElement, "driver-classes", String.join(",", indexEntry.getDriverClasses()));
+            for (String jarPath : indexEntry.getJarPaths()) {
+                Element locationElement = newElement(jarElement, "location");
+                setStringAttribute(locationElement, "path", jarPath);
+            }
         }
         return element;
     }
 
     @Override
     public void loadComponentState(@NotNull Element element) {
-        Element driverClassesElement = element.getChild("known-driver-classes");
+        Element driverClassesElement = element.getChild("driver-class-index");
         if (driverClassesElement != null) {
-            for (Element libraryElement : driverClassesElement.getChildren()) {
-                DriverBundleMetadata metadata = new DriverBundleMetadata();
-                metadata.readState(libraryElement);
-                if (!metadata.isValid()) continue;
-
-                driverMetadata.put(metadata.getLibrary(), metadata);
+            for (Element jarElement : driverClassesElement.getChildren()) {
+                String contentHash = stringAttribute(jarElement, "content-hash");
+                if (Strings.isEmpty(contentHash)) continue;
+
+                String driverClasses = stringAttribute(jarElement, "driver-classes");
+                if (Strings.isEmpty(driverClasses)) continue;
+
+                DriverClassIndexEntry entry = new DriverClassIndexEntry();
+                entry.getDriverClasses().addAll(Arrays.asList(driverClasses.split(",")));
+                for (Element locationElement : jarElement.getChildren("location")) {
+                    String jarPath = stringAttribute(locationElement, "path");
+                    if (Strings.isNotEmpty(jarPath)) entry.getJarPaths().add(jarPath);
+                }
+
+                // entries of libraries no longer present on disk are dropped
+                if (entry.isObsolete()) continue;
+                driverClassIndex.put(contentHash, entry);
             }
         }
     }
+
+    @Getter
+    private static final class DriverClassIndexEntry {
+        private final Set<String> driverClasses = ConcurrentHashMap.newKeySet();
+        private final Set<String> jarPaths = ConcurrentHashMap.newKeySet();
+
+        boolean isObsolete() {
+            jarPaths.removeIf(path -> !new File(path).exists());
+            return jarPaths.isEmpty();
+        }
+    }
 }
@@ -84,7 +84,7 @@ public class DriverBundle implements Disposable {
                 return driverClass;
             }
         }
-        return null;
+        return classLoader.findDriver(className);
     }
 
     @NotNull
@@ -16,6 +16,8 @@
 
 package com.dbn.driver;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.sql.Driver;
@@ -30,5 +32,10 @@ public interface DriverClassLoader {
 
     List<Class<Driver>> getDrivers();
 
+    @Nullable
+    default Class<Driver> findDriver(String className) {
+        return null;
+    }
+
     default void close() throws IOException {}
 }
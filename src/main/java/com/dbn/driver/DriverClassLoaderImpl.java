@@ -25,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -33,9 +34,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.dbn.common.util.Unsafe.cast;
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
@@ -45,7 +48,8 @@ import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader {
     private final DriverBundleMetadata metadata;
     private final List<File> jars = new ArrayList<>();
-    private final List<Class<Driver>> drivers = new ArrayList<>();
+    private final List<DriverLibrary> libraries = new ArrayList<>();
+    private final List<Class<Driver>> drivers = new CopyOnWriteArrayList<>();
     private final Set<String> classNames = new HashSet<>();
     private final Map<String, Class> loadedClasses = new HashMap<>();
 
@@ -59,7 +63,6 @@ class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader
     @SneakyThrows
     private void load() {
         ProgressMonitor.setProgressText("Loading jdbc drivers from " + getLibrary());
-        List<DriverLibrary> libraries = new ArrayList<>();
         for (URL url : getURLs()) {
             URI uri = url.toURI();
             File jarFile = new File(uri);
@@ -71,12 +74,6 @@ class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader
         for (DriverLibrary library : libraries) {
             Measured.run("loading library " + library.getJar(), () -> load(library));
         }
-
-        if (!metadata.isEmpty()) {
-            DatabaseDriverManager driverManager = DatabaseDriverManager.getInstance();
-            driverManager.setDriverMetadata(getLibrary(), metadata);
-        }
-
     }
 
     private void load(DriverLibrary library) {
@@ -84,25 +81,27 @@ class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader
         jars.add(jar);
 
         try {
-// TODO: I'm confused by this.  Can't we just do a lookup for the classnames
-     //  that DriverBundleMetadata  knows about rather than going class-by-class?
-            DriverBundleMetadata previousMetadata = getPreviousMetadata();
-
-            for (String className : library.getClassNames()) {
-                if (previousMetadata != null && !previousMetadata.isDriverClass(className)) continue;
+            // only the candidate driver classes are loaded (known from previous scans of the same jar content)
+            DatabaseDriverManager driverManager = DatabaseDriverManager.getInstance();
+            Set<String> driverClassNames = driverManager.getIndexedDriverClasses(library);
+            boolean indexed = driverClassNames != null;
+            if (!indexed) driverClassNames = library.findDriverClassNames();
 
+            Set<String> loadedClassNames = new LinkedHashSet<>();
+            boolean complete = true;
+            for (String className : driverClassNames) {
                 try {
-                    Class<?> clazz = loadClass(className);
-                    if (Driver.class.isAssignableFrom(clazz)) {
-                        Class<Driver> driver = cast(clazz);
-                        drivers.add(driver);
-                        metadata.getDriverClassNames().add(driver.getName());
-                    }
+                    Class<Driver> driver = defineDriver(className);
+                    if (driver != null) loadedClassNames.add(className);
                 } catch (Throwable e) {
                     conditionallyLog(e);
                     log.warn("Failed to load driver class {}. Cause: {}", className, e.getMessage());
+                    complete = false;
                 }
             }
+
+            // the scan is repeated on next load if any of the candidates failed to load
+            if (!indexed && complete) driverManager.indexDriverClasses(library, loadedClassNames);
         } catch (Throwable e) {
             conditionallyLog(e);
             log.warn("Failed to load drivers. Cause: {}", e.getMessage());
@@ -110,14 +109,52 @@ class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader
     }
 
     @Nullable
-    private DriverBundleMetadata getPreviousMetadata() {
-        DatabaseDriverManager driverManager = DatabaseDriverManager.getInstance();
-        DriverBundleMetadata previousMetadata = driverManager.getDriverMetadata(getLibrary());
-        if (previousMetadata == null) return null;
-        if (previousMetadata.isEmpty()) return null;
-        if (!previousMetadata.matchesSignature(metadata)) return null;
+    private Class<Driver> loadDriver(String className) {
+        try {
+            return defineDriver(className);
+        } catch (Throwable e) {
+            conditionallyLog(e);
+            log.warn("Failed to load driver class {}. Cause: {}", className, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the given class and registers it as driver
+     * @return the driver class or null if the class is not a concrete {@link Driver} implementation
+     */
+    @Nullable
+    private Class<Driver> defineDriver(String className) throws ClassNotFoundException {
+        Class<?> clazz = loadClass(className);
+        if (!Driver.class.isAssignableFrom(clazz)) return null;
+        if (Modifier.isAbstract(clazz.getModifiers())) return null;
+
+        Class<Driver> driver = cast(clazz);
+        drivers.add(driver);
+        metadata.getDriverClassNames().add(driver.getName());
+        return driver;
+    }
+
+    /**
+     * Loads a driver class which was not discovered while loading the library
+     * (e.g. legacy driver classes not registered in the service provider configuration of the jar)
+     */
+    @Nullable
+    @Override
+    public synchronized Class<Driver> findDriver(String className) {
+        for (Class<Driver> driver : drivers) {
+            if (driver.getName().equals(className)) return driver;
+        }
+        if (!classNames.contains(className)) return null;
+
+        Class<Driver> driver = loadDriver(className);
+        if (driver == null) return null;
 
-        return previousMetadata;
+        DatabaseDriverManager driverManager = DatabaseDriverManager.getInstance();
+        for (DriverLibrary library : libraries) {
+            if (library.getClassNames().contains(className)) driverManager.indexDriverClass(library, className);
+        }
+        return driver;
     }
 
     @Override
@@ -150,16 +187,6 @@ class DriverClassLoaderImpl extends URLClassLoader implements DriverClassLoader
         //}
     }
 
-    @Override
-    public void close() throws IOException {
-        try {
-            super.close();
-        } finally {
-            DatabaseDriverManager driverManager = DatabaseDriverManager.getInstance();
-            driverManager.resetDriverMetadata(getLibrary());
-        }
-    }
-
     @SneakyThrows
     private static URL[] getUrls(File library) {
         if (library.isDirectory()) {
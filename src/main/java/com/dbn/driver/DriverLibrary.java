@@ -18,34 +18,160 @@ package com.dbn.driver;
 
 import lombok.Getter;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.util.Collections;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.stream.Collectors;
 
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
+
+@Slf4j
 @Getter
 public class DriverLibrary {
+    @NonNls
+    private static final String DRIVER_SERVICE = "META-INF/services/java.sql.Driver";
+    @NonNls
+    private static final String DRIVER_INTERFACE = "java/sql/Driver";
+
     private final File jar;
     private final Set<String> classNames = new LinkedHashSet<>();
+    private final boolean driverService;
+
+    /**
+     * Hash of the jar content, built from the names, sizes and checksums of its entries
+     * (identifies the jar regardless of its location and modification time)
+     */
+    private final String contentHash;
 
     @SneakyThrows
     public DriverLibrary(File jar) {
         this.jar = jar;
+        boolean driverService = false;
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        try (JarFile jarFile = new JarFile(jar)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update(BigInteger.valueOf(entry.getCrc()).toByteArray());
+                digest.update(BigInteger.valueOf(entry.getSize()).toByteArray());
+
+                if (name.equals(DRIVER_SERVICE)) driverService = true;
+                if (!name.endsWith(".class")) continue;
+
+                String className = name.substring(0, name.length() - 6).replace('/', '.');
+                classNames.add(className.intern());
+            }
+        }
+        this.driverService = driverService;
+        this.contentHash = new BigInteger(1, digest.digest()).toString(16);
+    }
+
+    /**
+     * Finds the candidate JDBC driver classes of the library without loading any class.
+     * The drivers registered in the service provider configuration of the jar are returned if present.
+     * Otherwise the class file headers are scanned for concrete classes implementing {@link java.sql.Driver}
+     * (directly or through the super-classes and interfaces contained in the jar)
+     */
+    @NotNull
+    public Set<String> findDriverClassNames() {
         try (JarFile jarFile = new JarFile(jar)) {
-            List<String> classNames = Collections.list(jarFile.entries())
-                    .stream()
-                    .map(e -> e.getName())
-                    .filter(n -> n.endsWith(".class"))
-                    .map(n -> n.replaceAll("/", "."))
-                    .map(n -> n.substring(0, n.length() - 6))
-                    .map(n -> n.intern())
-                    .collect(Collectors.toList());
-
-            this.classNames.addAll(classNames);
+            return driverService ?
+                    readDriverService(jarFile) :
+                    scanClassHeaders(jarFile);
+        } catch (Throwable e) {
+            conditionallyLog(e);
+            log.warn("Failed to scan driver library {}. Cause: {}", jar, e.getMessage());
+            return new LinkedHashSet<>(classNames);
+        }
+    }
+
+    private Set<String> readDriverService(JarFile jarFile) throws IOException {
+        Set<String> driverClassNames = new LinkedHashSet<>();
+        JarEntry entry = jarFile.getJarEntry(DRIVER_SERVICE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentIndex = line.indexOf('#');
+                String className = (commentIndex == -1 ? line : line.substring(0, commentIndex)).trim();
+                if (classNames.contains(className)) driverClassNames.add(className);
+            }
+        }
+        return driverClassNames;
+    }
+
+    private Set<String> scanClassHeaders(JarFile jarFile) throws IOException {
+        Map<String, ClassFileHeader> headers = new HashMap<>();
+        for (String className : classNames) {
+            String entryName = className.replace('.', '/') + ".class";
+            JarEntry entry = jarFile.getJarEntry(entryName);
+            if (entry == null) continue;
+
+            try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                ClassFileHeader header = ClassFileHeader.read(inputStream);
+                if (header != null) headers.put(header.getName(), header);
+            }
+        }
+
+        Map<String, Boolean> drivers = new HashMap<>();
+        Set<String> driverClassNames = new LinkedHashSet<>();
+        for (ClassFileHeader header : headers.values()) {
+            if (header.isAbstract()) continue;
+            if (!implementsDriver(header.getName(), headers, drivers)) continue;
+
+            driverClassNames.add(header.getName().replace('/', '.'));
+        }
+        return driverClassNames;
+    }
+
+    private static boolean implementsDriver(String name, Map<String, ClassFileHeader> headers, Map<String, Boolean> drivers) {
+        if (name == null) return false;
+        if (name.equals(DRIVER_INTERFACE)) return true;
+
+        Boolean driver = drivers.get(name);
+        if (driver != null) return driver;
+
+        // cyclic hierarchies are not valid, still make sure the lookup terminates
+        drivers.put(name, false);
+
+        ClassFileHeader header = headers.get(name);
+        if (header == null) {
+            // type outside the jar - platform types never implement the driver interface
+            driver = !isPlatformType(name);
+        } else {
+            driver = implementsDriver(header.getSuperName(), headers, drivers);
+            for (String interfaceName : header.getInterfaceNames()) {
+                if (driver) break;
+                driver = implementsDriver(interfaceName, headers, drivers);
+            }
         }
+
+        drivers.put(name, driver);
+        return driver;
+    }
+
+    private static boolean isPlatformType(String name) {
+        return
+            name.startsWith("java/") ||
+            name.startsWith("javax/") ||
+            name.startsWith("jdk/") ||
+            name.startsWith("sun/") ||
+            name.startsWith("com/sun/");
     }
 }
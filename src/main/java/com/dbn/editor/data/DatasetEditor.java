@@ -329,6 +329,7 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
                             DatasetEditorTable oldEditorTable = instructions.isRebuild() ? editorForm.beforeRebuild() : null;
                             try {
                                 DatasetEditorModel tableModel = getTableModel();
+                                if (!instructions.isUsePageCache()) tableModel.clearPageCache();
                                 tableModel.load(instructions.isUseCurrentFilter(), instructions.isPreserveChanges());
                                 DatasetEditorTable editorTable = getEditorTable();
                                 editorTable.clearSelection();
@@ -22,7 +22,8 @@ public enum DatasetLoadInstruction implements Property.IntBase {
     USE_CURRENT_FILTER,
     PRESERVE_CHANGES,
     DELIBERATE_ACTION,
-    REBUILD;
+    REBUILD,
+    USE_PAGE_CACHE;
 
     public static final DatasetLoadInstruction[] VALUES = values();
 
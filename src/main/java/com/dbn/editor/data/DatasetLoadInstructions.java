@@ -54,6 +54,10 @@ public class DatasetLoadInstructions extends PropertyHolderBase.IntStore<Dataset
         return is(DatasetLoadInstruction.REBUILD);
     }
 
+    public boolean isUsePageCache() {
+        return is(DatasetLoadInstruction.USE_PAGE_CACHE);
+    }
+
     public void setUseCurrentFilter(boolean value) {
         set(DatasetLoadInstruction.USE_CURRENT_FILTER, value);
     }
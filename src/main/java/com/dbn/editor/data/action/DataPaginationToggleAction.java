@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.action;
+
+import com.dbn.common.action.Lookups;
+import com.dbn.common.action.ToggleAction;
+import com.dbn.editor.data.DatasetEditor;
+import com.dbn.editor.data.DatasetLoadInstructions;
+import com.dbn.editor.data.state.DatasetEditorState;
+import com.dbn.object.DBTable;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.fileEditor.FileEditor;
+import org.jetbrains.annotations.NotNull;
+
+import static com.dbn.editor.data.DatasetLoadInstruction.DELIBERATE_ACTION;
+import static com.dbn.editor.data.DatasetLoadInstruction.PRESERVE_CHANGES;
+import static com.dbn.editor.data.DatasetLoadInstruction.USE_CURRENT_FILTER;
+import static com.dbn.nls.NlsResources.txt;
+
+public class DataPaginationToggleAction extends ToggleAction {
+    private static final DatasetLoadInstructions LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER, PRESERVE_CHANGES, DELIBERATE_ACTION);
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        // reflects the pagination in effect (not applicable to every sorting of the data)
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        return datasetEditor != null &&
+                datasetEditor.getEditorState().isKeysetPagination() &&
+                datasetEditor.getTableModel().isKeysetPaginated();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean selected) {
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        if (datasetEditor == null) return;
+
+        // requested but not applicable pagination is withdrawn rather than requested again
+        DatasetEditorState editorState = datasetEditor.getEditorState();
+        if (selected && editorState.isKeysetPagination()) selected = false;
+
+        editorState.setKeysetPagination(selected);
+        datasetEditor.loadData(LOAD_INSTRUCTIONS);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        super.update(e);
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        Presentation presentation = e.getPresentation();
+        boolean enabled =
+                datasetEditor != null &&
+                datasetEditor.getDataset() instanceof DBTable &&
+                !datasetEditor.isInserting() &&
+                !datasetEditor.isLoading();
+        presentation.setEnabled(enabled);
+
+        boolean notApplicable =
+                enabled &&
+                datasetEditor.getEditorState().isKeysetPagination() &&
+                !datasetEditor.getTableModel().isKeysetPaginated();
+        presentation.setText(notApplicable ?
+                txt("app.dataEditor.action.KeysetPaginationNotApplicable") :
+                txt("app.dataEditor.action.KeysetPagination"));
+    }
+
+    private static DatasetEditor getDatasetEditor(AnActionEvent e) {
+        FileEditor fileEditor = Lookups.getFileEditor(e);
+        return fileEditor instanceof DatasetEditor ? (DatasetEditor) fileEditor : null;
+    }
+}
@@ -36,6 +36,7 @@ public class DatasetEditorOptionsAction extends BasicActionGroup {
         return new AnAction[]{
                 new DataSortingOpenAction(),
                 new ColumnSetupOpenAction(),
+                new DataPaginationToggleAction(),
                 Actions.SEPARATOR,
                 new ProjectSettingsOpenAction(ConfigId.DATA_EDITOR, false)};
     }
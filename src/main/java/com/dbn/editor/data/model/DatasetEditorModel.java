@@ -37,6 +37,7 @@ import com.dbn.database.DatabaseFeature;
 import com.dbn.editor.DBContentType;
 import com.dbn.editor.data.DatasetEditor;
 import com.dbn.editor.data.DatasetEditorError;
+import com.dbn.editor.data.DatasetEditorManager;
 import com.dbn.editor.data.filter.DatasetFilter;
 import com.dbn.editor.data.filter.DatasetFilterInput;
 import com.dbn.editor.data.filter.DatasetFilterManager;
@@ -58,10 +59,18 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static com.dbn.common.dispose.Failsafe.guarded;
 import static com.dbn.connection.ConnectionProperty.RS_TYPE_FORWARD_ONLY;
@@ -77,6 +86,7 @@ import static com.dbn.editor.data.model.RecordStatus.UPDATING;
 public class DatasetEditorModel
         extends ResultSetDataModel<DatasetEditorModelRow, DatasetEditorModelCell>
         implements ListSelectionListener {
+    private static final int PAGE_CACHE_SIZE = 50;
 
     private final boolean isResultSetUpdatable;
     private final WeakRef<DatasetEditor> datasetEditor;
@@ -85,6 +95,8 @@ public class DatasetEditorModel
 
     private CancellableDatabaseCall<Object> loaderCall;
     private ResultSetAdapter resultSetAdapter;
+    private DatasetKeysetPager pager;
+    private final DatasetPageCache pageCache = new DatasetPageCache(PAGE_CACHE_SIZE);
 
     private final List<DatasetEditorModelRow> changedRows = new ArrayList<>();
     private final Latent<List<DBColumn>> uniqueKeyColumns = Latent.basic(() -> loadUniqueKeyColumns());
@@ -124,6 +136,7 @@ public class DatasetEditorModel
 
                     setResultSet(newResultSet);
                     setResultSetExhausted(false);
+                    if (pager != null) pager.start(newResultSet);
                     if (keepChanges) snapshotChanges();
                     else clearChanges();
 
@@ -158,7 +171,7 @@ public class DatasetEditorModel
 
         ConnectionHandler connection = getConnection();
         resultSetAdapter = Disposer.replace(resultSetAdapter,
-                DatabaseFeature.UPDATABLE_RESULT_SETS.isSupported(connection) ?
+                DatabaseFeature.UPDATABLE_RESULT_SETS.isSupported(connection) && pager == null ?
                     new EditableResultSetAdapter(this, resultSet) :
                     new ReadonlyResultSetAdapter(this, resultSet));
 
@@ -198,9 +211,17 @@ public class DatasetEditorModel
             if (filter == null) filter = DatasetFilterManager.EMPTY_FILTER;
         }
 
-        String selectStatement = filter.createSelectStatement(dataset, getState().getSortingState());
+        closePager();
+        DatasetEditorState state = getState();
+        pager = state.isKeysetPagination() ? DatasetKeysetPager.create(this, filter, pageCache) : null;
+
+        String selectStatement = pager == null ?
+                filter.createSelectStatement(dataset, state.getSortingState()) :
+                pager.getSelectStatement();
+
         DBNStatement statement = null;
-        if (isReadonly()) {
+        if (isReadonly() || pager != null) {
+            // keyset pages are edited through primary key based statements
             statement = conn.createStatement();
         } else {
             // ensure we always get a statement,
@@ -240,9 +261,38 @@ public class DatasetEditorModel
         }
 
         statement.setFetchSize(getSettings().getGeneralSettings().getFetchBlockSize().value());
+        if (pager != null) statement.setMaxRows(pager.getPageSize());
         return statement.executeQuery(selectStatement);
     }
 
+    public boolean isKeysetPaginated() {
+        return pager != null;
+    }
+
+    public void clearPageCache() {
+        pageCache.clear();
+    }
+
+    private void closePager() {
+        if (pager == null) return;
+        pager.close();
+        pager = null;
+    }
+
+    @Override
+    protected boolean fetchNextRow() throws SQLException {
+        return pager == null ? super.fetchNextRow() : pager.next();
+    }
+
+    /**
+     * Records a data change performed in the editor (cached pages no longer reflect the content of the dataset)
+     */
+    void notifyDataChanges() {
+        pageCache.clear();
+        DBNConnection conn = getResultConnection();
+        conn.notifyDataChanges(getDataset().getVirtualFile());
+    }
+
     public boolean isDirty() {
         return is(DIRTY);
     }
@@ -268,25 +318,63 @@ public class DatasetEditorModel
     private void restoreChanges() {
         if (!hasChanges()) return;
 
+        // index the pending changes by row key, to avoid matching every reloaded row against every changed row
+        int[] keyColumnIndexes = getRowKeyColumnIndexes();
+        Map<DatasetEditorModelRowKey, Deque<DatasetEditorModelRow>> changedRowsIndex = new HashMap<>(changedRows.size() * 2);
+        for (DatasetEditorModelRow changedRow : changedRows) {
+            if (changedRow.is(DELETED)) continue;
+
+            DatasetEditorModelRowKey key = DatasetEditorModelRowKey.of(changedRow, keyColumnIndexes);
+            changedRowsIndex.computeIfAbsent(key, k -> new ArrayDeque<>()).add(changedRow);
+        }
+
+        Set<DatasetEditorModelRow> restoredRows = Collections.newSetFromMap(new IdentityHashMap<>());
         for (DatasetEditorModelRow row : getRows()) {
             checkDisposed();
 
-            DatasetEditorModelRow changedRow = lookupChangedRow(row);
+            DatasetEditorModelRow changedRow = lookupChangedRow(changedRowsIndex, row, keyColumnIndexes);
             if (changedRow != null) {
                 row.updateStatusFromRow(changedRow);
+                restoredRows.add(changedRow);
             }
         }
+        changedRows.removeIf(r -> restoredRows.contains(r));
         setModified(true);
     }
 
-    private DatasetEditorModelRow lookupChangedRow(DatasetEditorModelRow row) {
-        for (DatasetEditorModelRow changedRow : changedRows) {
-            if (changedRow.isNot(DELETED) && changedRow.matches(row, false)) {
-                changedRows.remove(changedRow);
-                return changedRow;
+    @Nullable
+    private static DatasetEditorModelRow lookupChangedRow(
+            Map<DatasetEditorModelRowKey, Deque<DatasetEditorModelRow>> changedRowsIndex,
+            DatasetEditorModelRow row,
+            int[] keyColumnIndexes) {
+
+        if (changedRowsIndex.isEmpty()) return null;
+
+        DatasetEditorModelRowKey key = DatasetEditorModelRowKey.of(row, keyColumnIndexes);
+        Deque<DatasetEditorModelRow> candidates = changedRowsIndex.get(key);
+        if (candidates == null) return null;
+
+        DatasetEditorModelRow changedRow = candidates.poll();
+        if (candidates.isEmpty()) changedRowsIndex.remove(key);
+        return changedRow;
+    }
+
+    /**
+     * Indexes of the columns identifying a row when matching reloaded rows against changed rows
+     * (the unique key columns for tables, or all the non-audit columns otherwise)
+     * @see DatasetEditorModelRow#matches(com.dbn.data.model.DataModelRow, boolean)
+     */
+    private int[] getRowKeyColumnIndexes() {
+        DatasetEditorModelHeader header = getHeader();
+        if (getDataset() instanceof DBTable) {
+            List<DBColumn> uniqueKeyColumns = getUniqueKeyColumns();
+            if (!uniqueKeyColumns.isEmpty()) {
+                return uniqueKeyColumns.stream().mapToInt(c -> header.indexOfColumn(c)).toArray();
             }
         }
-        return null;
+
+        List<DatasetEditorColumnInfo> columnInfos = header.getColumnInfos();
+        return IntStream.range(0, columnInfos.size()).filter(i -> !columnInfos.get(i).isAuditColumn()).toArray();
     }
 
     @NotNull
@@ -321,6 +409,7 @@ public class DatasetEditorModel
 
     @Override
     protected DatasetEditorModelRow createRow(int resultSetRowIndex) throws SQLException {
+        if (pager != null && isNot(INSERTING)) return pager.createRow(resultSetRowIndex);
         return new DatasetEditorModelRow(this, getResultSet(), resultSetRowIndex);
     }
 
@@ -385,26 +474,67 @@ public class DatasetEditorModel
                 txt("prc.dataEditor.text.DeletingRecordsFrom", dataset.getQualifiedNameWithType()),
                 progress -> {
             progress.setIndeterminate(false);
-            for (int index : rowIndexes) {
-                progress.setFraction(Progress.progressOf(index, rowIndexes.length));
-                DatasetEditorModelRow row = getRowAtIndex(index);
-                if (progress.isCanceled()) break;
-
-                if (row != null && row.isNot(DELETED)) {
-                    int rsRowIndex = row.getResultSetRowIndex();
-                    row.delete();
-                    if (row.is(DELETED)) {
-                        shiftResultSetRowIndex(rsRowIndex, -1);
-                        notifyRowUpdated(index);
+            Map<DatasetEditorModelRow, SQLException> errors = executeBatched(() -> {
+                for (int index : rowIndexes) {
+                    progress.setFraction(Progress.progressOf(index, rowIndexes.length));
+                    DatasetEditorModelRow row = getRowAtIndex(index);
+                    if (progress.isCanceled()) break;
+
+                    if (row != null && row.isNot(DELETED)) {
+                        int rsRowIndex = row.getResultSetRowIndex();
+                        row.delete();
+                        if (row.is(DELETED)) {
+                            shiftResultSetRowIndex(rsRowIndex, -1);
+                            notifyRowUpdated(index);
+                        }
                     }
+                    setModified(true);
                 }
-                setModified(true);
+            });
+            notifyDataChanges();
+
+            if (!errors.isEmpty()) {
+                // rows have already been flagged as deleted - reload to reflect the actual state
+                Map.Entry<DatasetEditorModelRow, SQLException> error = errors.entrySet().iterator().next();
+                DatasetEditorModelRow row = error.getKey();
+                Messages.showErrorDialog(getProject(),
+                        txt("msg.dataEditor.title.CannotDeleteRecord"),
+                        txt("msg.dataEditor.error.CannotDeleteRecord", row == null ? -1 : row.getIndex(), error.getValue().getMessage()));
+
+                DatasetEditorManager editorManager = DatasetEditorManager.getInstance(getProject());
+                editorManager.reloadEditorData(dataset);
             }
-            DBNConnection conn = getResultConnection();
-            conn.notifyDataChanges(dataset.getVirtualFile());
         });
     }
 
+    /**
+     * Runs the given bulk change with the resulting row updates and deletes sent to the database in statement batches.
+     * Errors are notified on the rows they originate from and returned to the caller.
+     */
+    @NotNull
+    public Map<DatasetEditorModelRow, SQLException> executeBatched(Runnable changes) {
+        ResultSetAdapter resultSetAdapter = getResultSetAdapter();
+        Map<DatasetEditorModelRow, SQLException> errors = Collections.emptyMap();
+        resultSetAdapter.startBatch();
+        try {
+            changes.run();
+        } finally {
+            try {
+                errors = resultSetAdapter.executeBatch();
+            } catch (SQLException e) {
+                conditionallyLog(e);
+                log.warn("Failed to execute batch", e);
+            }
+        }
+
+        ConnectionHandler connection = getConnection();
+        errors.forEach((row, e) -> {
+            if (row == null || row.isDisposed()) return;
+            row.notifyError(new DatasetEditorError(connection, e), false, false);
+        });
+        return errors;
+    }
+
     public void insertRecord(int rowIndex) {
         ResultSetAdapter resultSetAdapter = getResultSetAdapter();
         DatasetEditorTable editorTable = getEditorTable();
@@ -422,8 +552,7 @@ public class DatasetEditorModel
 
             editorTable.selectCell(rowIndex, editorTable.getSelectedColumn() == -1 ? 0 : editorTable.getSelectedColumn());
 
-            DBNConnection conn = getResultConnection();
-            conn.notifyDataChanges(dataset.getVirtualFile());
+            notifyDataChanges();
         } catch (SQLException e) {
             conditionallyLog(e);
             set(INSERTING, false);
@@ -450,8 +579,7 @@ public class DatasetEditorModel
             notifyRowsInserted(insertIndex, insertIndex);
 
             editorTable.selectCell(insertIndex, editorTable.getSelectedColumn());
-            DBNConnection conn = getResultConnection();
-            conn.notifyDataChanges(dataset.getVirtualFile());
+            notifyDataChanges();
         } catch (SQLException e) {
             conditionallyLog(e);
             set(INSERTING, false);
@@ -542,7 +670,7 @@ public class DatasetEditorModel
     }
 
     public boolean isResultSetUpdatable() {
-        return isResultSetUpdatable;
+        return isResultSetUpdatable && pager == null;
     }
 
     /*********************************************************
@@ -627,4 +755,11 @@ public class DatasetEditorModel
             //postInsertRecord();
         }
     }
+
+    @Override
+    public void disposeInner() {
+        closePager();
+        pageCache.clear();
+        super.disposeInner();
+    }
 }
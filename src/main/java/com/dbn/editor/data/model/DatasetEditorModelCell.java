@@ -24,7 +24,6 @@ import com.dbn.common.thread.Dispatch;
 import com.dbn.common.util.Commons;
 import com.dbn.common.util.Messages;
 import com.dbn.connection.ConnectionHandler;
-import com.dbn.connection.jdbc.DBNConnection;
 import com.dbn.data.model.resultSet.ResultSetDataModelCell;
 import com.dbn.data.type.DBDataType;
 import com.dbn.data.type.GenericDataType;
@@ -36,6 +35,7 @@ import com.dbn.object.DBColumn;
 import com.dbn.object.DBDataset;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
@@ -59,6 +59,10 @@ public class DatasetEditorModelCell
         super(row, resultSet, columnInfo);
     }
 
+    public DatasetEditorModelCell(DatasetEditorModelRow row, @Nullable Object userValue, DatasetEditorColumnInfo columnInfo) {
+        super(row, userValue, columnInfo);
+    }
+
     @Override
     public DatasetEditorColumnInfo getColumnInfo() {
         return (DatasetEditorColumnInfo) super.getColumnInfo();
@@ -138,8 +142,7 @@ public class DatasetEditorModelCell
             if (!error.isNotified()) notifyError(error, !bulk);
         } finally {
             if (valueChanged) {
-                DBNConnection conn = getResultConnection();
-                conn.notifyDataChanges(getDataset().getVirtualFile());
+                getModel().notifyDataChanges();
                 ProjectEvents.notify(project,
                         DatasetEditorModelCellValueListener.TOPIC,
                         (listener) -> listener.valueChanged(this));
@@ -44,6 +44,10 @@ public class DatasetEditorModelRow extends ResultSetDataModelRow<DatasetEditorMo
         super(model, resultSet, resultSetRowIndex);
     }
 
+    public DatasetEditorModelRow(DatasetEditorModel model, Object[] userValues, int resultSetRowIndex) {
+        super(model, userValues, resultSetRowIndex);
+    }
+
     @NotNull
     @Override
     public DatasetEditorModel getModel() {
@@ -62,6 +66,12 @@ public class DatasetEditorModelRow extends ResultSetDataModelRow<DatasetEditorMo
         return new DatasetEditorModelCell(this, resultSet, (DatasetEditorColumnInfo) columnInfo);
     }
 
+    @NotNull
+    @Override
+    protected DatasetEditorModelCell createCell(@Nullable Object userValue, ColumnInfo columnInfo) {
+        return new DatasetEditorModelCell(this, userValue, (DatasetEditorColumnInfo) columnInfo);
+    }
+
     void updateStatusFromRow(DatasetEditorModelRow oldRow) {
         if (oldRow == null) return;
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.model;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Composite hash key of a {@link DatasetEditorModelRow} built from the user values of its key cells
+ * (the unique key columns of the table, or all non-audit columns if the dataset has no unique key).
+ * Two rows produce equal keys exactly when {@link DatasetEditorModelRow#matches(com.dbn.data.model.DataModelRow, boolean)}
+ * would match them in non-lenient mode.
+ */
+final class DatasetEditorModelRowKey {
+    private static final Object MISSING = new Object();
+
+    private final Object[] values;
+    private final int hashCode;
+
+    private DatasetEditorModelRowKey(Object[] values) {
+        this.values = values;
+        this.hashCode = Arrays.hashCode(values);
+    }
+
+    @NotNull
+    static DatasetEditorModelRowKey of(DatasetEditorModelRow row, int[] columnIndexes) {
+        Object[] values = new Object[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            DatasetEditorModelCell cell = row.getCellAtIndex(columnIndexes[i]);
+            values[i] = cell == null ? MISSING : normalize(cell.getUserValue());
+        }
+        return new DatasetEditorModelRowKey(values);
+    }
+
+    /**
+     * Empty strings match null values (see {@link com.dbn.common.util.Commons#match(Object, Object)})
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof String && ((String) value).isEmpty()) return null;
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DatasetEditorModelRowKey)) return false;
+
+        DatasetEditorModelRowKey that = (DatasetEditorModelRowKey) o;
+        return hashCode == that.hashCode && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
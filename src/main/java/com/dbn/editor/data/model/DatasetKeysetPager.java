@@ -0,0 +1,344 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.model;
+
+import com.dbn.common.util.Lists;
+import com.dbn.connection.Resources;
+import com.dbn.connection.ResultSets;
+import com.dbn.connection.jdbc.DBNConnection;
+import com.dbn.connection.jdbc.DBNPreparedStatement;
+import com.dbn.data.sorting.SortDirection;
+import com.dbn.data.sorting.SortingInstruction;
+import com.dbn.data.sorting.SortingState;
+import com.dbn.data.type.DBNativeDataType;
+import com.dbn.data.type.ResultSetReader;
+import com.dbn.editor.data.filter.DatasetFilter;
+import com.dbn.editor.data.filter.DatasetFilterUtil;
+import com.dbn.editor.data.model.DatasetPageCache.Page;
+import com.dbn.object.DBColumn;
+import com.dbn.object.DBDataset;
+import com.dbn.object.DBTable;
+import lombok.Getter;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dbn.common.dispose.Checks.isNotValid;
+
+/**
+ * Keyset (seek) pagination of the rows of a {@link DatasetEditorModel}.
+ * Rows are ordered by the sorting columns of the editor followed by the primary key columns (making the order total),
+ * and every page after the first one is selected with a range condition on the key of the last row fetched,
+ * i.e. one indexed range query per page instead of reading through all the preceding rows.
+ * Pages are kept in the {@link DatasetPageCache} of the model and served from there when revisited.
+ * Only applicable to tables with primary key, sorted by columns not accepting null values - see {@link #create}
+ */
+final class DatasetKeysetPager {
+    private final DatasetEditorModel model;
+    private final DatasetPageCache pageCache;
+    private final List<DBColumn> keyColumns;
+    private final int[] bindOrder;
+    private final int timeout;
+
+    @Getter
+    private final int pageSize;
+    @Getter
+    private final String selectStatement;
+    private final String seekStatement;
+
+    private int[] keyIndexes;
+    private ResultSetReader[] keyReaders;
+
+    private ResultSet resultSet;
+    private DBNPreparedStatement<?> pageStatement;
+    private Page cachedPage;
+    private List<Object[]> fetchedRows;
+    private Object[] startKey;
+    private Object[] lastKey;
+    private int pageRows;
+    private boolean exhausted;
+
+    private DatasetKeysetPager(DatasetEditorModel model, DatasetFilter filter, DatasetPageCache pageCache, List<DBColumn> keyColumns, List<SortDirection> keyDirections) {
+        this.model = model;
+        this.pageCache = pageCache;
+        this.keyColumns = keyColumns;
+        this.bindOrder = createBindOrder(keyColumns.size());
+        this.pageSize = model.getSettings().getGeneralSettings().getFetchBlockSize().value();
+        this.timeout = model.getSettings().getGeneralSettings().getFetchTimeout().value();
+
+        SortingState keySortingState = new SortingState();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            keySortingState.addSortingInstruction(keyColumns.get(i).getName(), keyDirections.get(i));
+        }
+
+        DBDataset dataset = model.getDataset();
+        List<String> keyColumnNames = Lists.convert(keyColumns, c -> c.getName(true));
+        this.selectStatement = filter.createSelectStatement(dataset, keySortingState);
+        this.seekStatement = createSeekStatement(dataset, filter, keySortingState, createSeekCondition(keyColumnNames, keyDirections));
+    }
+
+    /**
+     * Creates a pager for the dataset of the given model, according to its current sorting state
+     * @return the pager or null if keyset pagination is not applicable to the dataset
+     */
+    @Nullable
+    static DatasetKeysetPager create(DatasetEditorModel model, DatasetFilter filter, DatasetPageCache pageCache) {
+        DBDataset dataset = model.getDataset();
+        if (!(dataset instanceof DBTable)) return null;
+
+        DBTable table = (DBTable) dataset;
+        List<DBColumn> primaryKeyColumns = table.getPrimaryKeyColumns();
+        if (primaryKeyColumns.isEmpty()) return null;
+
+        List<DBColumn> keyColumns = new ArrayList<>();
+        List<SortDirection> keyDirections = new ArrayList<>();
+        SortingState sortingState = model.getState().getSortingState();
+        for (SortingInstruction instruction : sortingState.getInstructions()) {
+            DBColumn column = dataset.getColumn(instruction.getColumnName());
+            if (isNotValid(column) || instruction.getDirection().isIndefinite()) continue;
+
+            // null values can not be sought with range conditions
+            if (column.isNullable()) return null;
+            keyColumns.add(column);
+            keyDirections.add(instruction.getDirection());
+        }
+        appendPrimaryKey(keyColumns, keyDirections, primaryKeyColumns);
+
+        for (DBColumn column : keyColumns) {
+            DBNativeDataType nativeType = column.getDataType().getNativeType();
+            if (nativeType == null || nativeType.isLargeObject()) return null;
+        }
+
+        return new DatasetKeysetPager(model, filter, pageCache, keyColumns, keyDirections);
+    }
+
+    /**
+     * Starts the pagination with the result set of the first page (owned by the model)
+     */
+    void start(ResultSet resultSet) throws SQLException {
+        List<String> columnNames = ResultSets.getColumnNames(resultSet);
+        int keySize = keyColumns.size();
+        keyIndexes = new int[keySize];
+        keyReaders = new ResultSetReader[keySize];
+        for (int i = 0; i < keySize; i++) {
+            DBColumn column = keyColumns.get(i);
+            keyIndexes[i] = Lists.indexOf(columnNames, column.getName(), true) + 1;
+            keyReaders[i] = column.getDataType().getResultSetReader();
+            if (keyIndexes[i] == 0) throw new SQLException("Key column " + column.getName() + " not found in result");
+        }
+
+        this.resultSet = resultSet;
+        this.fetchedRows = null;
+        this.startKey = null;
+        this.lastKey = null;
+        this.pageRows = 0;
+        this.exhausted = false;
+    }
+
+    /**
+     * Moves to the next row, opening the next page (from the cache or the database) when the current one is consumed
+     * @return false if no more rows are available
+     */
+    boolean next() throws SQLException {
+        while (!exhausted) {
+            boolean available = cachedPage == null ?
+                    resultSet != null && resultSet.next() :
+                    pageRows < cachedPage.getRows().size();
+
+            if (available) {
+                pageRows++;
+                return true;
+            }
+
+            boolean complete = pageRows == pageSize;
+            closePage();
+            if (complete && lastKey != null) {
+                openPage(lastKey);
+            } else {
+                exhausted = true;
+            }
+        }
+        return false;
+    }
+
+    DatasetEditorModelRow createRow(int resultSetRowIndex) throws SQLException {
+        if (cachedPage != null) {
+            Object[] userValues = DatasetPageCache.copy(cachedPage.getRows().get(pageRows - 1));
+            return new DatasetEditorModelRow(model, userValues, resultSetRowIndex);
+        }
+
+        DatasetEditorModelRow row = new DatasetEditorModelRow(model, resultSet, resultSetRowIndex);
+        lastKey = readKey();
+        if (fetchedRows != null) capture(row);
+        return row;
+    }
+
+    void close() {
+        closePage();
+        exhausted = true;
+    }
+
+    private void openPage(Object[] startKey) throws SQLException {
+        this.startKey = startKey;
+        this.pageRows = 0;
+
+        cachedPage = pageCache.get(seekStatement, startKey);
+        if (cachedPage != null) return;
+
+        DBNConnection connection = model.getResultConnection();
+        DBNPreparedStatement<?> statement = connection.prepareStatement(seekStatement);
+        pageStatement = statement;
+        statement.setMaxRows(pageSize);
+        statement.setFetchSize(pageSize);
+        if (timeout > 0) statement.setQueryTimeout(timeout);
+        bindKey(statement, startKey);
+
+        fetchedRows = new ArrayList<>(pageSize);
+        resultSet = statement.executeQuery();
+    }
+
+    private void closePage() {
+        if (cachedPage != null) {
+            lastKey = cachedPage.getLastKey();
+        } else if (startKey != null && fetchedRows != null && pageRows > 0) {
+            pageCache.put(seekStatement, startKey, new Page(fetchedRows, lastKey));
+        }
+
+        // the result set of the first page is owned (and closed) by the model
+        if (pageStatement != null) Resources.close(pageStatement);
+        pageStatement = null;
+        resultSet = null;
+        cachedPage = null;
+        fetchedRows = null;
+    }
+
+    private Object[] readKey() throws SQLException {
+        Object[] key = new Object[keyIndexes.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = keyReaders[i].read(resultSet, keyIndexes[i]);
+        }
+        return key;
+    }
+
+    /**
+     * Keeps the values of the row for the page cache (the page is not cached if any of the values is not cacheable)
+     */
+    private void capture(DatasetEditorModelRow row) {
+        List<DatasetEditorModelCell> cells = row.getCells();
+        Object[] userValues = new Object[cells.size()];
+        for (int i = 0; i < userValues.length; i++) {
+            Object userValue = cells.get(i).getUserValue();
+            if (!DatasetPageCache.isCacheable(userValue)) {
+                fetchedRows = null;
+                return;
+            }
+            userValues[i] = DatasetPageCache.copy(userValue);
+        }
+
+        for (Object keyValue : lastKey) {
+            if (!DatasetPageCache.isCacheable(keyValue)) {
+                fetchedRows = null;
+                return;
+            }
+        }
+        fetchedRows.add(userValues);
+    }
+
+    private void bindKey(DBNPreparedStatement<?> statement, Object[] key) throws SQLException {
+        for (int i = 0; i < bindOrder.length; i++) {
+            int keyIndex = bindOrder[i];
+            keyColumns.get(keyIndex).getDataType().setValueToPreparedStatement(statement, i + 1, key[keyIndex]);
+        }
+    }
+
+    private static String createSeekStatement(DBDataset dataset, DatasetFilter filter, SortingState keySortingState, String seekCondition) {
+        @NonNls StringBuilder buffer = new StringBuilder();
+        buffer.append("select * from (");
+        buffer.append(filter.createSelectStatement(dataset, new SortingState()));
+        buffer.append(") page where ");
+        buffer.append(seekCondition);
+
+        DatasetFilterUtil.addOrderByClause(dataset, buffer, keySortingState);
+        return buffer.toString();
+    }
+
+    /**
+     * Appends the primary key columns which are not yet part of the key (ascending), making the order of the key total
+     */
+    static <C> void appendPrimaryKey(List<C> keyColumns, List<SortDirection> keyDirections, List<C> primaryKeyColumns) {
+        for (C column : primaryKeyColumns) {
+            if (keyColumns.contains(column)) continue;
+            keyColumns.add(column);
+            keyDirections.add(SortDirection.ASCENDING);
+        }
+    }
+
+    /**
+     * Creates the condition selecting the rows after a given key: the lexicographic comparison of the key columns
+     * (k1 > ?) or (k1 = ? and k2 > ?) or ... (inverted comparison for descending columns), preceded for composite keys
+     * by the redundant bound k1 >= ? (k1 <= ? for descending), for the database to seek on the first column
+     * @see #createBindOrder(int)
+     */
+    static String createSeekCondition(List<String> columnNames, List<SortDirection> directions) {
+        @NonNls StringBuilder buffer = new StringBuilder();
+        int keySize = columnNames.size();
+        if (keySize > 1) {
+            buffer.append(columnNames.get(0));
+            buffer.append(isDescending(directions.get(0)) ? " <= ?" : " >= ?");
+            buffer.append(" and (");
+        }
+
+        for (int i = 0; i < keySize; i++) {
+            buffer.append(i == 0 ? "(" : " or (");
+            for (int j = 0; j < i; j++) {
+                buffer.append(columnNames.get(j));
+                buffer.append(" = ? and ");
+            }
+            buffer.append(columnNames.get(i));
+            buffer.append(isDescending(directions.get(i)) ? " < ?" : " > ?");
+            buffer.append(")");
+        }
+
+        if (keySize > 1) buffer.append(")");
+        return buffer.toString();
+    }
+
+    /**
+     * Resolves the indexes of the key values to be bound to the parameters of the {@link #createSeekCondition}
+     * @return the key value index for every parameter position
+     */
+    static int[] createBindOrder(int keySize) {
+        int[] bindOrder = new int[(keySize > 1 ? 1 : 0) + keySize * (keySize + 1) / 2];
+        int parameterIndex = 0;
+        if (keySize > 1) bindOrder[parameterIndex++] = 0;
+
+        for (int i = 0; i < keySize; i++) {
+            for (int j = 0; j <= i; j++) {
+                bindOrder[parameterIndex++] = j;
+            }
+        }
+        return bindOrder;
+    }
+
+    private static boolean isDescending(SortDirection direction) {
+        return direction == SortDirection.DESCENDING;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of the pages fetched by the {@link DatasetKeysetPager}.
+ * Pages are identified by the statement they were selected with and the key of the row they start after,
+ * and hold the user values of the rows along with the key of their last row
+ * (only pages of plain values are cached - see {@link #isCacheable(Object)}, the mutable dates being copied
+ * on the way in and out of the cache - see {@link #copy(Object)})
+ */
+final class DatasetPageCache {
+    private final Map<PageKey, Page> pages;
+
+    DatasetPageCache(int capacity) {
+        this.pages = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, Page> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Nullable
+    synchronized Page get(String statement, Object[] startKey) {
+        return pages.get(new PageKey(statement, startKey));
+    }
+
+    synchronized void put(String statement, Object[] startKey, Page page) {
+        pages.put(new PageKey(statement, startKey), page);
+    }
+
+    synchronized void clear() {
+        pages.clear();
+    }
+
+    synchronized int size() {
+        return pages.size();
+    }
+
+    static boolean isCacheable(@Nullable Object value) {
+        return value == null ||
+                value instanceof String ||
+                value instanceof Number ||
+                value instanceof Boolean ||
+                value instanceof Date;
+    }
+
+    /**
+     * Copies the given cacheable value if mutable (dates), for the cached values not to be shared with the rows
+     * they were captured from or served to ({@link Date#clone()} preserving the sql date types and timestamp nanos)
+     */
+    @Nullable
+    static Object copy(@Nullable Object value) {
+        return value instanceof Date ? ((Date) value).clone() : value;
+    }
+
+    static Object[] copy(Object[] values) {
+        Object[] copy = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = copy(values[i]);
+        }
+        return copy;
+    }
+
+    @Getter
+    static final class Page {
+        private final List<Object[]> rows;
+        private final Object[] lastKey;
+
+        Page(List<Object[]> rows, Object[] lastKey) {
+            this.rows = rows;
+            this.lastKey = lastKey;
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class PageKey {
+        private final String statement;
+        private final List<Object> startKey;
+
+        private PageKey(String statement, Object[] startKey) {
+            this.statement = statement;
+            this.startKey = Arrays.asList(startKey);
+        }
+    }
+}
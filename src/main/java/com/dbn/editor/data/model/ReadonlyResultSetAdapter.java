@@ -22,6 +22,7 @@ import com.dbn.connection.ConnectionHandler;
 import com.dbn.connection.Resources;
 import com.dbn.connection.Savepoints;
 import com.dbn.connection.jdbc.DBNConnection;
+import com.dbn.connection.jdbc.DBNPreparedStatement;
 import com.dbn.connection.jdbc.DBNResultSet;
 import com.dbn.connection.security.DatabaseIdentifierCache;
 import com.dbn.data.model.ColumnInfo;
@@ -34,20 +35,38 @@ import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.sql.PreparedStatement;
+import java.sql.BatchUpdateException;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.dbn.common.dispose.Failsafe.nd;
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 
 @NonNls
 public class ReadonlyResultSetAdapter extends ResultSetAdapter {
     private DBNConnection connection;
     private Row currentRow;
 
+    /**
+     * Pending statement batches, grouped by statement (i.e. by the shape of the changed and key columns).
+     * Guarded by the adapter monitor
+     */
+    private final Map<String, List<BatchEntry>> batches = new LinkedHashMap<>();
+
+    /**
+     * Thread running the bulk operation which started the batch
+     * (changes issued from other threads in the meantime are executed immediately)
+     */
+    private Thread batchOwner;
+
     ReadonlyResultSetAdapter(DatasetEditorModel model, DBNResultSet resultSet) {
         super(model);
         this.connection = resultSet.getConnection();
@@ -63,7 +82,7 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
             throw new SQLException("Could not scroll to row index " + rowIndex);
         }
 
-        currentRow = new Row();
+        currentRow = new Row(modelRow);
         List<DatasetEditorModelCell> modelCells = modelRow.getCells();
         for (DatasetEditorModelCell modelCell : modelCells) {
             DatasetEditorColumnInfo columnInfo = modelCell.getColumnInfo();
@@ -97,7 +116,7 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
         if (isObsolete()) return;
 
         setInsertMode(true);
-        currentRow = new Row();
+        currentRow = new Row(null);
     }
 
     @Override
@@ -157,6 +176,97 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
         return getModel().getHeader().getResultSetColumnInfo(columnIndex);
     }
 
+    @Override
+    public synchronized void startBatch() {
+        batchOwner = Thread.currentThread();
+    }
+
+    @NotNull
+    @Override
+    public synchronized Map<DatasetEditorModelRow, SQLException> executeBatch() throws SQLException {
+        if (!isBatchMode()) return Collections.emptyMap();
+        if (isObsolete()) return Collections.emptyMap();
+
+        Map<DatasetEditorModelRow, SQLException> errors = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, List<BatchEntry>> batch : batches.entrySet()) {
+                executeBatch(batch.getKey(), batch.getValue(), errors);
+            }
+        } finally {
+            batches.clear();
+            batchOwner = null;
+        }
+        return errors;
+    }
+
+    private boolean isBatchMode() {
+        return batchOwner != null && batchOwner == Thread.currentThread();
+    }
+
+    private void executeBatch(String sql, List<BatchEntry> entries, Map<DatasetEditorModelRow, SQLException> errors) throws SQLException {
+        DBNPreparedStatement<?> statement = connection.prepareStatementCached(sql);
+        try {
+            if (isUseSavePoints()) {
+                Savepoints.run(connection, () -> statement.executeBatch());
+            } else {
+                statement.executeBatch();
+            }
+        } catch (SQLException e) {
+            conditionallyLog(e);
+            statement.clearBatch();
+
+            // replay the rows one by one to map the failures to the rows causing them
+            // (all rows if the batch has been rolled back to the savepoint, otherwise only the rows not applied)
+            List<BatchEntry> replayEntries = isUseSavePoints() ? entries : getUnappliedEntries(entries, e);
+            if (replayEntries == null) {
+                // not known which rows have been applied - none is replayed rather than risking to apply rows twice
+                entries.forEach(entry -> errors.put(entry.getModelRow(), e));
+                return;
+            }
+
+            for (BatchEntry entry : replayEntries) {
+                try {
+                    if (isUseSavePoints()) {
+                        Savepoints.run(connection, () -> executeEntry(statement, entry));
+                    } else {
+                        executeEntry(statement, entry);
+                    }
+                } catch (SQLException ex) {
+                    conditionallyLog(ex);
+                    errors.put(entry.getModelRow(), ex);
+                }
+            }
+        } finally {
+            statement.park();
+        }
+    }
+
+    /**
+     * Resolves the entries of a failed batch which have not been applied, from the update counts of the exception:
+     * the entries from the failing one on if the driver stopped processing the batch at the failure,
+     * or the entries flagged {@link Statement#EXECUTE_FAILED} if the driver continued processing
+     * @return the unapplied entries or null if the driver did not report the update counts
+     */
+    @Nullable
+    private static List<BatchEntry> getUnappliedEntries(List<BatchEntry> entries, SQLException exception) {
+        if (!(exception instanceof BatchUpdateException)) return null;
+
+        int[] updateCounts = ((BatchUpdateException) exception).getUpdateCounts();
+        if (updateCounts == null) return null;
+        if (updateCounts.length < entries.size()) return entries.subList(updateCounts.length, entries.size());
+
+        List<BatchEntry> unappliedEntries = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) unappliedEntries.add(entries.get(i));
+        }
+        return unappliedEntries;
+    }
+
+    private void executeEntry(DBNPreparedStatement<?> statement, BatchEntry entry) throws SQLException {
+        bindParameters(statement, entry.getParameterCells());
+        statement.executeUpdate();
+    }
+
     private void executeUpdate() throws SQLException {
         List<Cell> keyCells = currentRow.getKeyCells();
         if (keyCells.isEmpty()) {
@@ -187,19 +297,9 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
             }
         }
 
-        PreparedStatement preparedStatement = connection.prepareStatement(buffer.toString());
-        int paramIndex = 0;
-        for (Cell cell : changedCells) {
-            paramIndex++;
-            DBNativeDataType nativeDataType = cell.getDataType();
-            nativeDataType.setValueToStatement(preparedStatement, paramIndex, cell.getValue());
-        }
-        for (Cell cell : keyCells) {
-            paramIndex++;
-            DBNativeDataType nativeDataType = cell.getDataType();
-            nativeDataType.setValueToStatement(preparedStatement, paramIndex, cell.getValue());
-        }
-        preparedStatement.executeUpdate();
+        List<Cell> parameterCells = new ArrayList<>(changedCells);
+        parameterCells.addAll(keyCells);
+        execute(buffer.toString(), parameterCells, true);
     }
 
     private void executeInsert() throws SQLException {
@@ -228,15 +328,7 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
         buffer.delete(buffer.length() -2, buffer.length());
         buffer.append(")");
 
-
-        PreparedStatement preparedStatement = connection.prepareStatement(buffer.toString());
-        int paramIndex = 0;
-        for (Cell cell : changedCells) {
-            paramIndex++;
-            DBNativeDataType nativeDataType = cell.getDataType();
-            nativeDataType.setValueToStatement(preparedStatement, paramIndex, cell.getValue());
-        }
-        preparedStatement.executeUpdate();
+        execute(buffer.toString(), changedCells, false);
     }
 
     private void executeDelete() throws SQLException {
@@ -253,17 +345,55 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
 
         for (Cell cell : keyCells) {
             buffer.append(cell.getColumnName());
-            buffer.append(" = ? ");
+            buffer.append(" = ?");
+            if (!Lists.isLast(keyCells, cell)) {
+                buffer.append(" and ");
+            }
         }
 
-        PreparedStatement preparedStatement = connection.prepareStatement(buffer.toString());
+        execute(buffer.toString(), keyCells, true);
+    }
+
+    /**
+     * Executes the given statement with the values of the given cells as parameters,
+     * or adds it to the pending batch of the statement if in batch mode.
+     * Statements are prepared once per shape and reused across rows.
+     */
+    private synchronized void execute(String sql, List<Cell> parameterCells, boolean batchable) throws SQLException {
+        if (batchable && isBatchMode()) {
+            // statement stays in use (not evictable from the statement cache) until the batch is executed
+            DBNPreparedStatement<?> statement = connection.prepareStatementCached(sql);
+            bindParameters(statement, parameterCells);
+            statement.addBatch();
+            BatchEntry entry = new BatchEntry(currentRow.getModelRow(), parameterCells);
+            batches.computeIfAbsent(sql, s -> new ArrayList<>()).add(entry);
+        } else if (batches.containsKey(sql)) {
+            // the cached statement is holding the pending batch of another operation
+            DBNPreparedStatement<?> statement = connection.prepareStatement(sql);
+            try {
+                bindParameters(statement, parameterCells);
+                statement.executeUpdate();
+            } finally {
+                Resources.close(statement);
+            }
+        } else {
+            DBNPreparedStatement<?> statement = connection.prepareStatementCached(sql);
+            try {
+                bindParameters(statement, parameterCells);
+                statement.executeUpdate();
+            } finally {
+                statement.park();
+            }
+        }
+    }
+
+    private void bindParameters(DBNPreparedStatement<?> statement, List<Cell> parameterCells) throws SQLException {
         int paramIndex = 0;
-        for (Cell cell : keyCells) {
+        for (Cell cell : parameterCells) {
             paramIndex++;
             DBNativeDataType nativeDataType = cell.getDataType();
-            nativeDataType.setValueToStatement(preparedStatement, paramIndex, cell.getValue());
+            nativeDataType.setValueToStatement(statement, paramIndex, cell.getValue());
         }
-        preparedStatement.executeUpdate();
     }
 
     @Getter
@@ -293,16 +423,41 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
         }
     }
 
+    @Getter
+    private class BatchEntry {
+        private final DatasetEditorModelRow modelRow;
+        private final List<Cell> parameterCells;
+
+        BatchEntry(DatasetEditorModelRow modelRow, List<Cell> parameterCells) {
+            this.modelRow = modelRow;
+            this.parameterCells = parameterCells;
+        }
+    }
+
     private class Row {
         private final Set<Cell> keyCells = new HashSet<>();
         private final Set<Cell> changedCells = new HashSet<>();
+        private final @Getter DatasetEditorModelRow modelRow;
+
+        Row(@Nullable DatasetEditorModelRow modelRow) {
+            this.modelRow = modelRow;
+        }
 
         List<Cell> getKeyCells() {
-            return new ArrayList<>(keyCells);
+            return sorted(keyCells);
         }
 
         List<Cell> getChangedCells() {
-            return new ArrayList<>(changedCells);
+            return sorted(changedCells);
+        }
+
+        /**
+         * Cells in column order, to produce the same statement for rows with the same column shape
+         */
+        private List<Cell> sorted(Set<Cell> cells) {
+            List<Cell> list = new ArrayList<>(cells);
+            list.sort(Comparator.comparingInt(c -> c.getColumnInfo().getIndex()));
+            return list;
         }
 
         void addKeyCell(ColumnInfo columnInfo, Object value) {
@@ -331,6 +486,9 @@ public class ReadonlyResultSetAdapter extends ResultSetAdapter {
     @Override
     public void disposeInner() {
         currentRow = null;
+        synchronized (this) {
+            batches.clear();
+        }
         connection = null;
         super.disposeInner();
     }
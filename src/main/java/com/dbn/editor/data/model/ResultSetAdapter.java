@@ -29,6 +29,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -64,4 +66,19 @@ public abstract class ResultSetAdapter extends ResultSets implements StatefulDis
     public abstract void setValue(int columnIndex, @NotNull ValueAdapter valueAdapter, @Nullable Object value) throws SQLException;
 
     public abstract void setValue(int columnIndex, @NotNull DBDataType dataType, @Nullable Object value) throws SQLException;
+
+    /**
+     * Starts collecting subsequent row updates and deletes in statement batches, to be sent with {@link #executeBatch()}.
+     * Adapters not supporting batches keep executing the changes immediately.
+     */
+    public void startBatch() {}
+
+    /**
+     * Executes the changes collected since {@link #startBatch()}
+     * @return the errors of the failed changes, mapped to the model rows they originate from
+     */
+    @NotNull
+    public Map<DatasetEditorModelRow, SQLException> executeBatch() throws SQLException {
+        return Collections.emptyMap();
+    }
 }
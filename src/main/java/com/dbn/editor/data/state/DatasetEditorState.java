@@ -43,6 +43,7 @@ public class DatasetEditorState extends SortableDataModelState implements FileEd
     public static final DatasetEditorState VOID = new DatasetEditorState();
 
     private DatasetColumnSetup columnSetup = new DatasetColumnSetup();
+    private boolean keysetPagination;
 
     @Override
     public boolean canBeMergedWith(@NotNull FileEditorState fileEditorState, @NotNull FileEditorStateLevel fileEditorStateLevel) {
@@ -53,6 +54,7 @@ public class DatasetEditorState extends SortableDataModelState implements FileEd
     public void readState(@NotNull Element element) {
         setRowCount(integerAttribute(element, "row-count", 100));
         setReadonly(booleanAttribute(element, "readonly", false));
+        setKeysetPagination(booleanAttribute(element, "keyset-pagination", false));
 
         Element columnsElement = element.getChild("columns");
         columnSetup.readState(columnsElement);
@@ -75,6 +77,7 @@ public class DatasetEditorState extends SortableDataModelState implements FileEd
     public void writeState(Element element) {
         element.setAttribute("row-count", Integer.toString(getRowCount()));
         element.setAttribute("readonly", Boolean.toString(isReadonly()));
+        element.setAttribute("keyset-pagination", Boolean.toString(keysetPagination));
 
         Element columnsElement = newElement(element, "columns");
         columnSetup.writeState(columnsElement);
@@ -100,6 +103,7 @@ public class DatasetEditorState extends SortableDataModelState implements FileEd
         DatasetEditorState clone = new DatasetEditorState();
         clone.setReadonly(isReadonly());
         clone.setRowCount(getRowCount());
+        clone.setKeysetPagination(keysetPagination);
         clone.setSortingState(getSortingState());
         clone.columnSetup = columnSetup.clone();
         if (contentTypesMap != null) {
@@ -89,12 +89,13 @@ import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 import static com.dbn.editor.data.DatasetLoadInstruction.DELIBERATE_ACTION;
 import static com.dbn.editor.data.DatasetLoadInstruction.PRESERVE_CHANGES;
 import static com.dbn.editor.data.DatasetLoadInstruction.USE_CURRENT_FILTER;
+import static com.dbn.editor.data.DatasetLoadInstruction.USE_PAGE_CACHE;
 import static com.dbn.editor.data.model.RecordStatus.INSERTING;
 import static com.dbn.editor.data.model.RecordStatus.UPDATING;
 import static com.dbn.nls.NlsResources.txt;
 
 public class DatasetEditorTable extends ResultSetTable<DatasetEditorModel> {
-    private static final DatasetLoadInstructions SORT_LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER, PRESERVE_CHANGES, DELIBERATE_ACTION);
+    private static final DatasetLoadInstructions SORT_LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER, PRESERVE_CHANGES, DELIBERATE_ACTION, USE_PAGE_CACHE);
     private final WeakRef<DatasetEditor> datasetEditor;
 
     private final DatasetTableCellEditorFactory cellEditorFactory = new DatasetTableCellEditorFactory();
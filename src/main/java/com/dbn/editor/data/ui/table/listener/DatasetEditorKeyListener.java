@@ -88,9 +88,11 @@ public class DatasetEditorKeyListener extends KeyAdapter {
                             }
                         }
                     }
-                    for (DatasetEditorModelCell cell : cells) {
-                        cell.updateUserValue(null, true);
-                    }
+                    model.executeBatched(() -> {
+                        for (DatasetEditorModelCell cell : cells) {
+                            cell.updateUserValue(null, true);
+                        }
+                    });
 
                 });
             }
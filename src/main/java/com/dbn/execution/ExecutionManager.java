@@ -23,7 +23,6 @@ import com.dbn.common.dispose.Disposer;
 import com.dbn.common.latent.Latent;
 import com.dbn.common.navigation.NavigationInstructions;
 import com.dbn.common.thread.Dispatch;
-import com.dbn.common.util.Strings;
 import com.dbn.connection.ConnectionId;
 import com.dbn.execution.common.options.ExecutionEngineSettings;
 import com.dbn.execution.common.result.ui.ExecutionResultForm;
@@ -154,20 +153,9 @@ public class ExecutionManager extends ProjectComponentBase implements Persistent
             showExecutionConsole();
             ExecutionConsoleForm executionConsoleForm = getExecutionConsoleForm();
             if (executionResult.isLoggingActive()) {
+                // log output has been streamed while reading (see StatementExecutionBasicProcessor)
                 LogOutputContext context = new LogOutputContext(executionResult.getConnection());
                 context.setHideEmptyLines(false);
-                String loggingOutput = executionResult.getLoggingOutput();
-
-                executionConsoleForm.displayLogOutput(
-                        context, LogOutput.createSysOutput(context,
-                                executionResult.getExecutionContext().getExecutionTimestamp(),
-                                " - Statement execution started", false));
-
-                if (Strings.isNotEmptyOrSpaces(loggingOutput)) {
-                    executionConsoleForm.displayLogOutput(context,
-                            LogOutput.createStdOutput(loggingOutput));
-                }
-
                 executionConsoleForm.displayLogOutput(context,
                         LogOutput.createSysOutput(context, " - Statement execution finished\n", false));
             }
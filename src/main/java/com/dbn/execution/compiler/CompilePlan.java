@@ -0,0 +1,245 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.execution.compiler;
+
+import com.dbn.common.thread.Progress;
+import com.dbn.common.thread.Threads;
+import com.dbn.editor.DBContentType;
+import com.dbn.object.DBSchema;
+import com.dbn.object.common.DBObject;
+import com.dbn.object.common.DBSchemaObject;
+import com.dbn.object.common.status.DBObjectStatus;
+import com.dbn.object.common.status.DBObjectStatusHolder;
+import com.dbn.object.dependency.ObjectDependencyManager;
+import com.dbn.object.lookup.DBObjectRef;
+import com.intellij.openapi.progress.ProgressIndicator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.dbn.common.util.Unsafe.warned;
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
+
+/**
+ * Compilation plan for the invalid objects of a schema.
+ * The invalid objects are arranged in dependency levels (topological order of the dependency graph),
+ * so that every object is compiled only after the invalid objects it depends on.
+ * Objects within one level are independent of each other and are compiled in parallel, with a bounded number of
+ * compilations in flight (see {@link #MAX_PARALLEL_COMPILATIONS}, never more than the connection pool allows).
+ * Objects involved in dependency cycles are compiled together in a last level.
+ */
+@Slf4j
+@Getter
+class CompilePlan {
+    private static final int MAX_PARALLEL_COMPILATIONS = 4;
+    private static final long LEVEL_TIMEOUT_MINUTES = 30;
+
+    private final List<List<DBSchemaObject>> levels;
+    private final int parallelism;
+    private final Map<DBObjectRef<DBSchemaObject>, Long> timings = new ConcurrentHashMap<>();
+    private final AtomicInteger processed = new AtomicInteger();
+    private long elapsedTime;
+
+    private CompilePlan(List<List<DBSchemaObject>> levels, int parallelism) {
+        this.levels = levels;
+        this.parallelism = parallelism;
+    }
+
+    public static CompilePlan create(@NotNull DBSchema schema) {
+        Map<DBObjectRef<DBSchemaObject>, DBSchemaObject> objects = new LinkedHashMap<>();
+        collectInvalidObjects(schema.getPackages(), objects);
+        collectInvalidObjects(schema.getFunctions(), objects);
+        collectInvalidObjects(schema.getProcedures(), objects);
+        collectInvalidObjects(schema.getDatasetTriggers(), objects);
+        collectInvalidObjects(schema.getDatabaseTriggers(), objects);
+        collectInvalidObjects(schema.getJavaClasses(), objects);
+
+        // number of invalid objects each object is waiting for
+        Map<DBObjectRef<DBSchemaObject>, Integer> pending = new LinkedHashMap<>();
+        // reverse edges: invalid object -> invalid objects depending on it
+        Map<DBObjectRef<DBSchemaObject>, List<DBObjectRef<DBSchemaObject>>> dependents = new LinkedHashMap<>();
+
+        for (DBObjectRef<DBSchemaObject> ref : objects.keySet()) {
+            DBSchemaObject object = objects.get(ref);
+            int count = 0;
+            for (DBObject referencedObject : loadReferencedObjects(object, schema)) {
+                if (!(referencedObject instanceof DBSchemaObject)) continue;
+
+                DBObjectRef<DBSchemaObject> referencedRef = DBObjectRef.of((DBSchemaObject) referencedObject);
+                if (referencedRef.equals(ref) || !objects.containsKey(referencedRef)) continue;
+
+                dependents.computeIfAbsent(referencedRef, r -> new ArrayList<>()).add(ref);
+                count++;
+            }
+            pending.put(ref, count);
+        }
+
+        List<List<DBSchemaObject>> levels = new ArrayList<>();
+        List<DBObjectRef<DBSchemaObject>> level = new ArrayList<>();
+        pending.forEach((ref, count) -> {if (count == 0) level.add(ref);});
+
+        List<DBObjectRef<DBSchemaObject>> current = level;
+        while (!current.isEmpty()) {
+            List<DBSchemaObject> levelObjects = new ArrayList<>(current.size());
+            List<DBObjectRef<DBSchemaObject>> next = new ArrayList<>();
+            for (DBObjectRef<DBSchemaObject> ref : current) {
+                levelObjects.add(objects.get(ref));
+                pending.remove(ref);
+
+                List<DBObjectRef<DBSchemaObject>> refDependents = dependents.get(ref);
+                if (refDependents == null) continue;
+
+                for (DBObjectRef<DBSchemaObject> dependent : refDependents) {
+                    int count = pending.merge(dependent, -1, Integer::sum);
+                    if (count == 0) next.add(dependent);
+                }
+            }
+            levels.add(levelObjects);
+            current = next;
+        }
+
+        if (!pending.isEmpty()) {
+            // dependency cycles - no compile order can satisfy all dependencies
+            List<DBSchemaObject> levelObjects = new ArrayList<>(pending.size());
+            pending.keySet().forEach(ref -> levelObjects.add(objects.get(ref)));
+            levels.add(levelObjects);
+        }
+
+        // leave one pool connection for user initiated database access
+        int poolSize = schema.getConnection().getSettings().getDetailSettings().getMaxConnectionPoolSize();
+        int parallelism = Math.max(1, Math.min(MAX_PARALLEL_COMPILATIONS, poolSize - 1));
+        return new CompilePlan(levels, parallelism);
+    }
+
+    private static void collectInvalidObjects(List<? extends DBSchemaObject> objects, Map<DBObjectRef<DBSchemaObject>, DBSchemaObject> collector) {
+        for (DBSchemaObject object : objects) {
+            if (!isInvalid(object)) continue;
+            collector.put(DBObjectRef.of(object), object);
+        }
+    }
+
+    static boolean isInvalid(DBSchemaObject object) {
+        DBObjectStatusHolder objectStatus = object.getStatus();
+        DBContentType objectContentType = object.getContentType();
+        if (objectContentType.isBundle()) {
+            for (DBContentType contentType : objectContentType.getSubContentTypes()) {
+                if (objectStatus.isNot(contentType, DBObjectStatus.VALID)) return true;
+            }
+            return false;
+        }
+        return objectStatus.isNot(DBObjectStatus.VALID);
+    }
+
+    @NotNull
+    private static Collection<DBObject> loadReferencedObjects(DBSchemaObject object, DBSchema schema) {
+        ObjectDependencyManager dependencyManager = ObjectDependencyManager.getInstance(object.getProject());
+        return dependencyManager.getReferencedObjects(object, schema);
+    }
+
+    public int getObjectCount() {
+        return levels.stream().mapToInt(l -> l.size()).sum();
+    }
+
+    /**
+     * Cumulated compile time of all objects (i.e. the time a one-by-one compilation would have taken)
+     */
+    public long getCumulatedTime() {
+        return timings.values().stream().mapToLong(t -> t).sum();
+    }
+
+    public void execute(@NotNull ProgressIndicator progress, @NotNull Consumer<DBSchemaObject> compiler) {
+        long start = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < levels.size(); i++) {
+                if (progress.isCanceled()) break;
+
+                List<DBSchemaObject> level = levels.get(i);
+                progress.setText("Compiling invalid objects (level " + (i + 1) + " of " + levels.size() + ")...");
+                executeLevel(level, progress, compiler);
+            }
+        } catch (InterruptedException e) {
+            conditionallyLog(e);
+            Thread.currentThread().interrupt();
+        } finally {
+            elapsedTime = System.currentTimeMillis() - start;
+            log.info("Compiled {} invalid objects in {} dependency levels. Elapsed time {} ms (cumulated object compile time {} ms)",
+                    processed.get(), levels.size(), elapsedTime, getCumulatedTime());
+        }
+    }
+
+    /**
+     * Compiles the objects of one level on the background pool, holding a permit per compilation in flight,
+     * and waits for all of them to complete before returning (i.e. until all permits are released)
+     */
+    private void executeLevel(List<DBSchemaObject> level, ProgressIndicator progress, Consumer<DBSchemaObject> compiler) throws InterruptedException {
+        ExecutorService executor = Threads.backgroundExecutor();
+        Semaphore permits = new Semaphore(parallelism);
+        for (DBSchemaObject object : level) {
+            if (progress.isCanceled()) break;
+
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        compile(object, progress, compiler);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // background pool saturated - compile in the current thread rather than aborting the level
+                conditionallyLog(e);
+                try {
+                    compile(object, progress, compiler);
+                } finally {
+                    permits.release();
+                }
+            }
+        }
+
+        if (!permits.tryAcquire(parallelism, LEVEL_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            log.warn("Timed out waiting for the compilation of {} objects", level.size());
+        }
+    }
+
+    private void compile(DBSchemaObject object, ProgressIndicator progress, Consumer<DBSchemaObject> compiler) {
+        if (progress.isCanceled()) return;
+
+        long objectStart = System.currentTimeMillis();
+        try {
+            warned(() -> compiler.accept(object));
+        } finally {
+            long objectTime = System.currentTimeMillis() - objectStart;
+            timings.put(DBObjectRef.of(object), objectTime);
+            progress.setFraction(Progress.progressOf(processed.incrementAndGet(), getObjectCount()));
+            log.info("Compiled {} in {} ms", object.getQualifiedNameWithType(), objectTime);
+        }
+    }
+}
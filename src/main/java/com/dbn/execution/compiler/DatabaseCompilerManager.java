@@ -54,6 +54,7 @@ import java.util.List;
 import static com.dbn.common.Priority.HIGH;
 import static com.dbn.common.Priority.LOW;
 import static com.dbn.common.component.Components.projectService;
+import static com.dbn.common.notification.NotificationGroup.COMPILER;
 import static com.dbn.common.util.Strings.cachedUpperCase;
 import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 import static com.dbn.nls.NlsResources.txt;
@@ -266,12 +267,7 @@ public class DatabaseCompilerManager extends ProjectComponentBase {
                                 txt("prc.execution.text.CompilingInvalidObjectsIn", schema.getQualifiedNameWithType()),
                                 progress -> {
                                     progress.setIndeterminate(false);
-                                    doCompileInvalidObjects(schema.getPackages(), "packages", progress, type);
-                                    doCompileInvalidObjects(schema.getFunctions(), "functions", progress, type);
-                                    doCompileInvalidObjects(schema.getProcedures(), "procedures", progress, type);
-                                    doCompileInvalidObjects(schema.getDatasetTriggers(), "dataset triggers", progress, type);
-                                    doCompileInvalidObjects(schema.getDatabaseTriggers(), "database triggers", progress, type);
-                                    doCompileInvalidObjects(schema.getJavaClasses(), "java classes", progress, type);
+                                    doCompileInvalidObjects(schema, progress, type);
                                     ConnectionHandler connection = schema.getConnection();
                                     ProjectEvents.notify(project,
                                             CompileManagerListener.TOPIC,
@@ -285,35 +281,39 @@ public class DatabaseCompilerManager extends ProjectComponentBase {
                 });
     }
 
-    private void doCompileInvalidObjects(List<? extends DBSchemaObject> objects, String description, ProgressIndicator progress, CompileType compileType) {
+    private void doCompileInvalidObjects(DBSchema schema, ProgressIndicator progress, CompileType compileType) {
         if (progress.isCanceled()) return;
 
-        progress.setText("Compiling invalid " + description + "...");
-        int count = objects.size();
-        for (int i=0; i< count; i++) {
-            if (progress.isCanceled() || objects.size() == 0 /* may be disposed meanwhile*/) {
-                break;
-            } else {
-                DBSchemaObject object = objects.get(i);
-                progress.setFraction(Progress.progressOf(i, count));
-                DBObjectStatusHolder objectStatus = object.getStatus();
-                DBContentType objectContentType = object.getContentType();
-                if (objectContentType.isBundle()) {
-                    for (DBContentType contentType : objectContentType.getSubContentTypes()) {
-                        if (objectStatus.isNot(contentType, DBObjectStatus.VALID)) {
-                            CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, contentType);
-                            doCompileObject(object, compileType, compilerAction);
-                            progress.setText("Compiling " + object.getQualifiedNameWithType());
-                        }
-                    }
-                } else {
-                    if (objectStatus.isNot(DBObjectStatus.VALID)) {
-                        CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, objectContentType);
-                        doCompileObject(object, compileType, compilerAction);
-                        progress.setText("Compiling " + object.getQualifiedNameWithType());
-                    }
+        progress.setText("Building compile plan...");
+        CompilePlan compilePlan = CompilePlan.create(schema);
+        int objectCount = compilePlan.getObjectCount();
+        if (objectCount == 0) return;
+
+        compilePlan.execute(progress, object -> doCompileInvalidObject(object, progress, compileType));
+
+        sendInfoNotification(COMPILER, txt("ntf.compiler.info.InvalidObjectsCompiled",
+                compilePlan.getProcessed().get(),
+                compilePlan.getLevels().size(),
+                compilePlan.getElapsedTime(),
+                compilePlan.getCumulatedTime()));
+    }
+
+    private void doCompileInvalidObject(DBSchemaObject object, ProgressIndicator progress, CompileType compileType) {
+        DBObjectStatusHolder objectStatus = object.getStatus();
+        DBContentType objectContentType = object.getContentType();
+        progress.setText2("Compiling " + object.getQualifiedNameWithType());
+        if (objectContentType.isBundle()) {
+            for (DBContentType contentType : objectContentType.getSubContentTypes()) {
+                if (objectStatus.isNot(contentType, DBObjectStatus.VALID)) {
+                    CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, contentType);
+                    doCompileObject(object, compileType, compilerAction);
                 }
             }
+        } else {
+            if (objectStatus.isNot(DBObjectStatus.VALID)) {
+                CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, objectContentType);
+                doCompileObject(object, compileType, compilerAction);
+            }
         }
     }
 
@@ -29,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
+import java.util.function.Consumer;
 
 import static com.dbn.common.component.Components.projectService;
 import static com.dbn.common.notification.NotificationGroup.LOGGING;
@@ -39,6 +40,7 @@ import static com.dbn.nls.NlsResources.txt;
 public class DatabaseLoggingManager extends ProjectComponentBase {
 
     public static final String COMPONENT_NAME = "DBNavigator.Project.DatabaseLoggingManager";
+    private static final int LOG_CHUNK_SIZE = 1000;
 
     private DatabaseLoggingManager(Project project) {
         super(project, COMPONENT_NAME);
@@ -82,18 +84,34 @@ public class DatabaseLoggingManager extends ProjectComponentBase {
         }
     }
 
+    /**
+     * Reads the entire log output of the given session
+     */
     public String readLoggerOutput(ConnectionHandler connection, DBNConnection conn) {
+        StringBuilder output = new StringBuilder();
+        readLoggerOutput(connection, conn, chunk -> output.append(chunk));
+        return output.toString();
+    }
+
+    /**
+     * Reads the log output of the given session in chunks of lines, handing over every chunk to the given consumer
+     * as soon as it is fetched (the log output is never buffered entirely)
+     */
+    public void readLoggerOutput(ConnectionHandler connection, DBNConnection conn, Consumer<String> consumer) {
         try {
             DatabaseMetadataInterface metadata = connection.getMetadataInterface();
-            return metadata.readLoggerOutput(conn);
+            while (true) {
+                String chunk = metadata.readLoggerOutput(conn, LOG_CHUNK_SIZE);
+                if (chunk == null) break;
+
+                consumer.accept(chunk);
+            }
         } catch (SQLException e) {
             conditionallyLog(e);
             log.warn("Error reading database log output: {}", e.getMessage());
             String logName = getLogName(connection);
             sendWarningNotification(LOGGING, txt("ntf.logging.error.FailedToLoadLogContent", logName, e));
         }
-
-        return null;
     }
 
     @NotNull
@@ -54,6 +54,8 @@ import com.dbn.execution.compiler.CompilerActionSource;
 import com.dbn.execution.compiler.CompilerResult;
 import com.dbn.execution.compiler.DatabaseCompilerManager;
 import com.dbn.execution.logging.DatabaseLoggingManager;
+import com.dbn.execution.logging.LogOutput;
+import com.dbn.execution.logging.LogOutputContext;
 import com.dbn.execution.statement.DataDefinitionChangeListener;
 import com.dbn.execution.statement.StatementExecutionContext;
 import com.dbn.execution.statement.StatementExecutionInput;
@@ -532,9 +534,19 @@ public class StatementExecutionBasicProcessor extends StatefulDisposableBase imp
         DBNConnection conn = context.getConnection();
         ConnectionHandler connection = getTargetConnection();
 
+        // stream the log output to the console chunk by chunk
+        ExecutionManager executionManager = ExecutionManager.getInstance(project);
+        LogOutputContext logContext = new LogOutputContext(connection);
+        logContext.setHideEmptyLines(false);
+        executionManager.writeLogOutput(logContext, LogOutput.createSysOutput(logContext,
+                context.getExecutionTimestamp(),
+                " - Statement execution started", false));
+
         DatabaseLoggingManager loggingManager = DatabaseLoggingManager.getInstance(project);
-        String logOutput = loggingManager.readLoggerOutput(connection, conn);
-        executionResult.setLoggingOutput(logOutput);
+        loggingManager.readLoggerOutput(connection, conn, chunk -> {
+            if (Strings.isEmptyOrSpaces(chunk)) return;
+            executionManager.writeLogOutput(logContext, LogOutput.createStdOutput(chunk));
+        });
     }
 
     private void notifyDataManipulationChanges(StatementExecutionContext context) {
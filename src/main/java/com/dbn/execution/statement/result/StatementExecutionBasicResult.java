@@ -51,7 +51,6 @@ public class StatementExecutionBasicResult extends ExecutionResultBase<Statement
     private StatementExecutionStatus executionStatus;
     private int executionDuration;
     private CompilerResult compilerResult;
-    private String loggingOutput;
     private boolean loggingActive;
 
     private StatementExecutionProcessor executionProcessor;
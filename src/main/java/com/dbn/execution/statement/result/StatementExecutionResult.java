@@ -52,8 +52,6 @@ public interface StatementExecutionResult extends ExecutionResult<StatementExecu
     boolean hasCompilerResult();
     boolean isBulkExecution();
 
-    String getLoggingOutput();
-    void setLoggingOutput(String loggerOutput);
     boolean isLoggingActive();
     void setLoggingActive(boolean databaseLogActive);
 }
@@ -16,6 +16,7 @@
 
 package com.dbn.execution.statement.variables;
 
+import com.dbn.common.collections.NamePool;
 import lombok.experimental.UtilityClass;
 
 import static com.dbn.common.util.Strings.toLowerCase;
@@ -26,6 +27,6 @@ public class VariableNames {
     public static String adjust(String name) {
         name = toLowerCase(name.trim());
         if (name.startsWith(":")) name = name.substring(1);
-        return name.intern();
+        return NamePool.pooled(name);
     }
 }
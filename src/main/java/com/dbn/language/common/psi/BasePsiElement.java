@@ -23,7 +23,7 @@ import com.dbn.common.dispose.AlreadyDisposedException;
 import com.dbn.common.dispose.Failsafe;
 import com.dbn.common.editor.BasicTextEditor;
 import com.dbn.common.navigation.NavigationInstructions;
-import com.dbn.common.ref.WeakRefCache;
+import com.dbn.common.ref.WeakRef;
 import com.dbn.common.thread.Read;
 import com.dbn.common.util.Editors;
 import com.dbn.common.util.Strings;
@@ -90,10 +90,6 @@ import java.util.function.Predicate;
 import static com.dbn.common.util.Unsafe.cast;
 
 public abstract class BasePsiElement<T extends ElementTypeBase> extends ASTWrapperPsiElement implements DatabaseContextBase, ItemPresentation, FormattingProviderPsiElement {
-    private static final WeakRefCache<BasePsiElement, DBVirtualObject> underlyingObjectCache = WeakRefCache.weakKey();
-    private static final WeakRefCache<BasePsiElement, FormattingAttributes> formattingAttributesCache = WeakRefCache.weakKey();
-    private static final WeakRefCache<BasePsiElement, BasePsiElement> enclosingScopePsiElements = WeakRefCache.weakKeyValue();
-
     // TODO: check if any other visitor relevant
     public static final PsiElementVisitors visitors = PsiElementVisitors.create(
             "SpellCheckingInspection",
@@ -102,6 +98,11 @@ public abstract class BasePsiElement<T extends ElementTypeBase> extends ASTWrapp
 
     public T elementType;
 
+    // lazily computed, element owned state (same lifecycle as the element itself)
+    private volatile DBVirtualObject underlyingObject;
+    private volatile FormattingAttributes formattingAttributes;
+    private volatile WeakRef<BasePsiElement> enclosingScopeElement; // weak, not to keep detached elements alive
+
     public enum MatchType {
         STRONG,
         CACHED,
@@ -133,10 +134,12 @@ public abstract class BasePsiElement<T extends ElementTypeBase> extends ASTWrapp
         FormattingDefinition formatting = elementType.getFormatting();
         if (formatting == null) return null;
 
-        return formattingAttributesCache.get(this, e -> {
-            FormattingAttributes attributes = e.elementType.getFormatting().getAttributes();
-            return FormattingAttributes.copy(attributes);
-        });
+        FormattingAttributes formattingAttributes = this.formattingAttributes;
+        if (formattingAttributes == null) {
+            formattingAttributes = FormattingAttributes.copy(formatting.getAttributes());
+            this.formattingAttributes = formattingAttributes;
+        }
+        return formattingAttributes;
     }
 
     @Override
@@ -541,7 +544,12 @@ public abstract class BasePsiElement<T extends ElementTypeBase> extends ASTWrapp
 
     @Nullable
     public <E extends BasePsiElement> E getEnclosingScopeElement() {
-        return cast(enclosingScopePsiElements.computeIfAbsent(this, e -> e.findEnclosingScopeElement()));
+        BasePsiElement enclosingScopeElement = WeakRef.get(this.enclosingScopeElement);
+        if (enclosingScopeElement == null) {
+            enclosingScopeElement = findEnclosingScopeElement();
+            this.enclosingScopeElement = WeakRef.of(enclosingScopeElement);
+        }
+        return cast(enclosingScopeElement);
     }
 
     @Nullable
@@ -673,13 +681,19 @@ public abstract class BasePsiElement<T extends ElementTypeBase> extends ASTWrapp
     public DBObject getUnderlyingObject() {
         if (!isVirtualObject()) return null;
 
-        return underlyingObjectCache.compute(this, (k, v) -> {
-            if (v != null && v.isValid()) return v;
+        DBVirtualObject underlyingObject = this.underlyingObject;
+        if (underlyingObject != null && underlyingObject.isValid()) return underlyingObject;
+
+        synchronized (this) {
+            underlyingObject = this.underlyingObject;
+            if (underlyingObject != null && underlyingObject.isValid()) return underlyingObject;
 
             Project project = getProject();
             VirtualObjectFactory factory = VirtualObjectFactory.getInstance(project);
-            return factory.createVirtualObject(k);
-        });
+            underlyingObject = factory.createVirtualObject(this);
+            this.underlyingObject = underlyingObject;
+            return underlyingObject;
+        }
     }
 
     public QuoteDefinition getIdentifierQuotes() {
@@ -36,6 +36,8 @@ import com.dbn.common.thread.Read;
 import com.dbn.common.ui.tree.TreeEventType;
 import com.dbn.common.util.Lists;
 import com.dbn.connection.ConnectionHandler;
+import com.dbn.connection.ConnectionHandlerStatus;
+import com.dbn.connection.ConnectionHandlerStatusListener;
 import com.dbn.connection.ConnectionId;
 import com.dbn.connection.ConnectionPool;
 import com.dbn.connection.ConnectionRef;
@@ -60,6 +62,8 @@ import com.dbn.object.DBUser;
 import com.dbn.object.common.list.DBObjectList;
 import com.dbn.object.common.list.DBObjectListContainer;
 import com.dbn.object.common.list.DBObjectListImpl;
+import com.dbn.object.common.list.DBObjectListPreloader;
+import com.dbn.object.common.loader.DatabasePrefetchManager;
 import com.dbn.object.event.ObjectChangeListener;
 import com.dbn.object.impl.DBObjectLoaders;
 import com.dbn.object.status.ObjectStatusManager;
@@ -118,6 +122,7 @@ public class DBObjectBundleImpl extends StatefulDisposableBase implements DBObje
 
     private final DBObjectListContainer objectLists;
     private final DBObjectInitializer objectInitializer;
+    private final DBObjectListPreloader objectListPreloader;
     private final long configSignature;
     private final Latent<PsiFile> fakeObjectFile = Latent.basic(() -> createFakePsiFile());
 
@@ -130,6 +135,7 @@ public class DBObjectBundleImpl extends StatefulDisposableBase implements DBObje
 
         this.objectLists = new DBObjectListContainer(this);
         this.objectInitializer = new DBObjectInitializer(connection);
+        this.objectListPreloader = new DBObjectListPreloader(connection);
         this.consoles = objectLists.createObjectList(CONSOLE, this);
         this.users = objectLists.createObjectList(USER, this);
         this.schemas = objectLists.createObjectList(SCHEMA, this);
@@ -152,8 +158,12 @@ public class DBObjectBundleImpl extends StatefulDisposableBase implements DBObje
         ProjectEvents.subscribe(project, this, SourceCodeManagerListener.TOPIC, sourceCodeManagerListener());
         ProjectEvents.subscribe(project, this, CompileManagerListener.TOPIC, compileManagerListener());
         ProjectEvents.subscribe(project, this, ObjectChangeListener.TOPIC, objectChangeListener());
+        ProjectEvents.subscribe(project, this, ConnectionHandlerStatusListener.TOPIC, connectionStatusListener());
 
         Disposer.register(connection, this);
+
+        // the bundle is created lazily, possibly after the connection status event has been fired
+        preload(connection);
     }
 
     private PsiFile createFakePsiFile() {
@@ -224,6 +234,27 @@ public class DBObjectBundleImpl extends StatefulDisposableBase implements DBObje
         };
     }
 
+    private ConnectionHandlerStatusListener connectionStatusListener() {
+        return connectionId -> {
+            if (isDisposed()) return;
+
+            ConnectionHandler connection = getConnection();
+            if (connection.getConnectionId() != connectionId) return;
+
+            preload(connection);
+        };
+    }
+
+    /**
+     * Bulk preload of the schema metadata and prefetch of the frequently used objects if connected (and enabled)
+     */
+    private void preload(ConnectionHandler connection) {
+        if (!connection.getConnectionStatus().is(ConnectionHandlerStatus.CONNECTED)) return;
+
+        objectListPreloader.start();
+        DatabasePrefetchManager.getInstance(connection.getProject()).prefetch(connection);
+    }
+
     @Override
     public DynamicContentType<?> getDynamicContentType() {
         return CONNECTION;
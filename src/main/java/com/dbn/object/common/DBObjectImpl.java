@@ -29,7 +29,6 @@ import com.dbn.common.content.DynamicContentType;
 import com.dbn.common.dispose.Disposer;
 import com.dbn.common.dispose.Failsafe;
 import com.dbn.common.environment.EnvironmentType;
-import com.dbn.common.ref.WeakRefCache;
 import com.dbn.common.routine.Consumer;
 import com.dbn.common.string.StringDeBuilder;
 import com.dbn.common.util.Strings;
@@ -50,7 +49,6 @@ import com.dbn.object.common.list.DBObjectList;
 import com.dbn.object.common.list.DBObjectListContainer;
 import com.dbn.object.common.list.DBObjectListVisitor;
 import com.dbn.object.common.list.DBObjectNavigationList;
-import com.dbn.object.common.property.DBObjectProperties;
 import com.dbn.object.common.property.DBObjectProperty;
 import com.dbn.object.filter.type.ObjectTypeFilterSettings;
 import com.dbn.object.lookup.DBObjectRef;
@@ -74,6 +72,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.stream.Collectors;
 
 import static com.dbn.common.dispose.Failsafe.nd;
@@ -85,10 +84,12 @@ import static java.util.Collections.emptyList;
 
 public abstract class DBObjectImpl<M extends DBObjectMetadata> extends DBObjectTreeNodeBase implements DBObject, ToolTipProvider {
 
-    protected DBObjectRef<?> ref;
-    protected DBObjectProperties properties = new DBObjectProperties();
+    private static final AtomicLongFieldUpdater<DBObjectImpl> PROPERTIES = AtomicLongFieldUpdater.newUpdater(DBObjectImpl.class, "properties");
 
-    private static final WeakRefCache<DBObjectImpl, DBObjectListContainer> childObjects = WeakRefCache.weakKey();
+    protected DBObjectRef<?> ref;
+    /** {@link DBObjectProperty} bits, held inline rather than in a separate property holder (millions of columns and arguments) */
+    private volatile long properties;
+    private DBObjectListContainer childObjects;
 
     protected DBObjectImpl(@NotNull DBObject parentObject, M metadata) throws SQLException {
         init(parentObject.getConnection(), parentObject, metadata);
@@ -122,12 +123,18 @@ public abstract class DBObjectImpl<M extends DBObjectMetadata> extends DBObjectT
 
     @Override
     public boolean set(DBObjectProperty status, boolean value) {
-        return properties.set(status, value);
+        long mask = status.maskOn();
+        while (true) {
+            long current = properties;
+            long updated = value ? current | mask : current & ~mask;
+            if (current == updated) return false;
+            if (PROPERTIES.compareAndSet(this, current, updated)) return true;
+        }
     }
 
     @Override
     public boolean is(DBObjectProperty property) {
-        return properties.is(property);
+        return (properties & property.maskOn()) != 0;
     }
 
     @Override
@@ -328,12 +335,15 @@ public abstract class DBObjectImpl<M extends DBObjectMetadata> extends DBObjectT
             initLists(getConnection());
             set(LISTS_LOADED, true);
         }
-        return childObjects.get(this);
+        return childObjects;
     }
 
     @NotNull
-    protected DBObjectListContainer ensureChildObjects() {
-        return childObjects.computeIfAbsent(this, k -> new DBObjectListContainer(k));
+    protected synchronized DBObjectListContainer ensureChildObjects() {
+        if (childObjects == null) {
+            childObjects = new DBObjectListContainer(this);
+        }
+        return childObjects;
     }
 
     public void visitChildObjects(DBObjectListVisitor visitor, boolean visitInternal) {
@@ -707,19 +717,18 @@ public abstract class DBObjectImpl<M extends DBObjectMetadata> extends DBObjectT
 
     @Override
     public boolean isDisposed() {
-        return properties.is(DISPOSED);
+        return is(DISPOSED);
     }
 
     @Override
     public void setDisposed(boolean disposed) {
-        properties.set(DISPOSED, true);
+        set(DISPOSED, true);
     }
 
     @Override
     public void disposeInner() {
         super.disposeInner();
         DBObjectPsiCache.clear(this);
-        DBObjectListContainer childObjects = DBObjectImpl.childObjects.remove(this);
         Disposer.dispose(childObjects);
         nullify();
     }
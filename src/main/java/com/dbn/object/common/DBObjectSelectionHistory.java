@@ -16,6 +16,7 @@
 
 package com.dbn.object.common;
 
+import com.dbn.object.common.loader.DatabasePrefetchManager;
 import com.dbn.object.lookup.DBObjectRef;
 import com.intellij.openapi.Disposable;
 import org.jetbrains.annotations.Nullable;
@@ -42,6 +43,7 @@ public class DBObjectSelectionHistory implements Disposable{
             }
             history.add(objectRef);
             offset = history.size() -1;
+            DatabasePrefetchManager.getInstance(object.getProject()).recordUsage(object);
         }
     }
 
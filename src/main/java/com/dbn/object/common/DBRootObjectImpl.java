@@ -16,19 +16,17 @@
 
 package com.dbn.object.common;
 
-import com.dbn.common.dispose.Disposer;
 import com.dbn.connection.ConnectionHandler;
 import com.dbn.database.common.metadata.DBObjectMetadata;
-import com.dbn.object.common.list.DBObjectListContainer;
 import com.dbn.object.type.DBObjectType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 
-public abstract class DBRootObjectImpl<M extends DBObjectMetadata> extends DBObjectImpl<M> implements DBRootObject {
+import static com.dbn.object.common.property.DBObjectProperty.LISTS_LOADED;
 
-    private DBObjectListContainer childObjects;
+public abstract class DBRootObjectImpl<M extends DBObjectMetadata> extends DBObjectImpl<M> implements DBRootObject {
 
     protected DBRootObjectImpl(@NotNull ConnectionHandler connection, M metadata) throws SQLException {
         super(connection, metadata);
@@ -36,6 +34,7 @@ public abstract class DBRootObjectImpl<M extends DBObjectMetadata> extends DBObj
 
     protected DBRootObjectImpl(@Nullable ConnectionHandler connection, DBObjectType objectType, String name) {
         super(connection, objectType, name);
+        set(LISTS_LOADED, true);
     }
 
     protected DBRootObjectImpl(@NotNull DBObject parentObject, M metadata) throws SQLException {
@@ -46,28 +45,8 @@ public abstract class DBRootObjectImpl<M extends DBObjectMetadata> extends DBObj
     protected void init(ConnectionHandler connection, DBObject parentObject, M metadata) throws SQLException {
         super.init(connection, parentObject, metadata);
         initLists(connection);
-    }
 
-    @Override
-    @Nullable
-    public synchronized DBObjectListContainer getChildObjects() {
-        // Fortify code correctness (non-synchronized method overrides)
-        // NOTE: do not transform this into a lazy initialized for childObjects
-        //       (there are many cases when this is not needed)
-        return childObjects;
-    }
-
-    @NotNull
-    protected synchronized DBObjectListContainer ensureChildObjects() {
-        if (childObjects == null) {
-            childObjects = new DBObjectListContainer(this);
-        }
-        return childObjects;
-    }
-
-    @Override
-    public void disposeInner() {
-        super.disposeInner();
-        Disposer.dispose(childObjects);
+        // child object lists of root objects are initialized eagerly (not on first access)
+        set(LISTS_LOADED, true);
     }
 }
@@ -70,9 +70,9 @@ public abstract class DBSchemaObjectImpl<M extends DBObjectMetadata> extends DBO
 
     @Override
     protected void initProperties() {
-        properties.set(EDITABLE, true);
-        properties.set(REFERENCEABLE, true);
-        properties.set(SCHEMA_OBJECT, true);
+        set(EDITABLE, true);
+        set(REFERENCEABLE, true);
+        set(SCHEMA_OBJECT, true);
     }
 
     @Override
@@ -45,6 +45,12 @@ public interface DBObjectList<T extends DBObject> extends BrowserTreeNode, Dynam
     @Nullable
     Filter<T> getConfigFilter();
 
+    /**
+     * SQL predicate to be applied by the metadata query loading the list (see {@link com.dbn.connection.config.ConnectionFilterSettings#getDatabaseFilter(DBObjectType)})
+     */
+    @Nullable
+    String getDatabaseFilter();
+
     @Nullable
     ObjectQuickFilter<T> getQuickFilter();
 
@@ -64,6 +64,7 @@ public final class DBObjectListContainer implements StatefulDisposable, Unlisted
     private DatabaseEntity owner;
     private DBObjectList<?>[] objects;
     private DBObjectRelationList[] relations;
+    private volatile DBObjectNamespace namespace;
 
     public DBObjectListContainer(@NotNull DatabaseEntity owner) {
         this.owner = owner;
@@ -117,19 +118,50 @@ public final class DBObjectListContainer implements StatefulDisposable, Unlisted
                 findObject(objectType, name, overload, Direction.ANY);
     }
 
+    /**
+     * Looks up the object in the name index of the loaded lists first.
+     * If the name is not known to the index, the lists which are not indexed (not loaded yet or dirty) are probed,
+     * loading them on demand
+     */
     @Nullable
     private <T extends DBObject> T findAnyObject(String name, short overload) {
-        for (DBObjectList<?> objectList : getObjects()) {
+        DBObjectList<?>[] objects = this.objects;
+        if (objects == null || objects == DISPOSED_OBJECTS) return null;
+
+        DBObjectNamespace namespace = ensureNamespace();
+        DBObject object = namespace.find(objects, name, overload);
+        if (object != null) return cast(object);
+
+        for (int slot = 0; slot < objects.length; slot++) {
+            DBObjectList<?> objectList = objects[slot];
             if (objectList == null) continue;
             if (objectList.isDependency()) continue;
             if (objectList.isHidden()) continue;
+            if (namespace.isIndexed(objects, slot)) continue;
 
-            DBObject object = objectList.getObject(name, overload);
+            object = objectList.getObject(name, overload);
             if (object != null) return cast(object);
         }
         return null;
     }
 
+    /**
+     * The name index is only created for containers queried by name across all their lists (mainly schemas)
+     */
+    private DBObjectNamespace ensureNamespace() {
+        DBObjectNamespace namespace = this.namespace;
+        if (namespace == null) {
+            synchronized (this) {
+                namespace = this.namespace;
+                if (namespace == null) {
+                    namespace = new DBObjectNamespace();
+                    this.namespace = namespace;
+                }
+            }
+        }
+        return namespace;
+    }
+
     @Nullable
     private <T extends DBObject> T findObject(DBObjectType objectType, String name, short overload, Direction direction) {
         DBObjectList<?> objectList = getObjectList(objectType);
@@ -482,6 +514,7 @@ public final class DBObjectListContainer implements StatefulDisposable, Unlisted
     public void disposeInner() {
         this.objects = Disposer.replace(this.objects, DISPOSED_OBJECTS);
         this.relations = Disposer.replace(this.relations, DISPOSED_RELATIONS);
+        this.namespace = null;
         this.owner = null;
     }
 }
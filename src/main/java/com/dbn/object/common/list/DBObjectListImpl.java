@@ -33,7 +33,6 @@ import com.dbn.common.event.ProjectEvents;
 import com.dbn.common.filter.CompositeFilter;
 import com.dbn.common.filter.Filter;
 import com.dbn.common.range.Range;
-import com.dbn.common.ref.WeakRefCache;
 import com.dbn.common.search.Search;
 import com.dbn.common.search.SearchAdapter;
 import com.dbn.common.string.StringDeBuilder;
@@ -82,6 +81,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import static com.dbn.common.content.DynamicContentProperty.DEPENDENCY;
+import static com.dbn.common.content.DynamicContentProperty.FILTERED;
 import static com.dbn.common.content.DynamicContentProperty.GROUPED;
 import static com.dbn.common.content.DynamicContentProperty.HIDDEN;
 import static com.dbn.common.content.DynamicContentProperty.INTERNAL;
@@ -100,9 +100,8 @@ import static java.util.Collections.emptyList;
 @Getter
 @Setter
 public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T> implements DBObjectList<T> {
-    private static final WeakRefCache<DBObjectList, ObjectQuickFilter> quickFilterCache = WeakRefCache.weakKey();
-
     private final DBObjectType objectType;
+    private ObjectQuickFilter<T> quickFilter;
 
     DBObjectListImpl(
             @NotNull DBObjectType objectType,
@@ -157,12 +156,12 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T>
     @Nullable
     @Override
     public ObjectQuickFilter<T> getQuickFilter() {
-        return quickFilterCache.get(this);
+        return quickFilter;
     }
 
     @Override
     public void setQuickFilter(@Nullable ObjectQuickFilter<T> quickFilter) {
-        quickFilterCache.set(this, quickFilter);
+        this.quickFilter = quickFilter;
 
     }
 
@@ -177,6 +176,17 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T>
         return null;
     }
 
+    @Override
+    @Nullable
+    public String getDatabaseFilter() {
+        ConnectionHandler connection = this.getConnection();
+        if (isLiveConnection(connection)) {
+            ConnectionFilterSettings filterSettings = connection.getSettings().getFilterSettings();
+            return filterSettings.getDatabaseFilter(objectType);
+        }
+        return null;
+    }
+
     @Override
     @NotNull
     public List<T> getObjects() {
@@ -300,6 +310,12 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T>
         return is(SEARCHABLE);
     }
 
+    @Override
+    protected void beforeUpdate() {
+        // elements loaded through a database-side filter (see DBObjectLoaders)
+        set(FILTERED, getDatabaseFilter() != null);
+    }
+
     @Override
     protected void sortElements(List<T> elements) {
         if (is(VIRTUAL)) {
@@ -477,6 +493,8 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T>
         if (!isLoaded()) return;
 
         if (objectType.isOneOf(objectTypes)) {
+            // objects rejected by the database-side filters have not been loaded
+            if (is(FILTERED) || getDatabaseFilter() != null) markDirty();
             notifyChangeListeners();
         }
 
@@ -598,7 +616,7 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentBase<T>
     @Override
     public void disposeInner() {
         super.disposeInner();
-        quickFilterCache.remove(this);
+        quickFilter = null;
         changeSignature();
     }
 
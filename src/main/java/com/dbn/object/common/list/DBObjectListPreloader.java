@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.common.list;
+
+import com.dbn.common.content.DynamicContent;
+import com.dbn.common.content.DynamicContentProperty;
+import com.dbn.common.routine.AsyncTaskExecutor;
+import com.dbn.common.thread.Background;
+import com.dbn.common.thread.Threads;
+import com.dbn.connection.ConnectionHandler;
+import com.dbn.connection.ConnectionRef;
+import com.dbn.connection.SchemaId;
+import com.dbn.object.DBSchema;
+import com.dbn.object.common.DBObjectBundle;
+import com.dbn.object.type.DBObjectRelationType;
+import com.dbn.object.type.DBObjectType;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.dbn.common.dispose.Checks.isNotValid;
+import static com.dbn.object.type.DBObjectRelationType.CONSTRAINT_COLUMN;
+import static com.dbn.object.type.DBObjectRelationType.INDEX_COLUMN;
+import static com.dbn.object.type.DBObjectType.ARGUMENT;
+import static com.dbn.object.type.DBObjectType.COLUMN;
+import static com.dbn.object.type.DBObjectType.CONSTRAINT;
+import static com.dbn.object.type.DBObjectType.DATASET_TRIGGER;
+import static com.dbn.object.type.DBObjectType.FUNCTION;
+import static com.dbn.object.type.DBObjectType.INDEX;
+import static com.dbn.object.type.DBObjectType.MATERIALIZED_VIEW;
+import static com.dbn.object.type.DBObjectType.NESTED_TABLE;
+import static com.dbn.object.type.DBObjectType.PACKAGE;
+import static com.dbn.object.type.DBObjectType.PACKAGE_FUNCTION;
+import static com.dbn.object.type.DBObjectType.PACKAGE_PROCEDURE;
+import static com.dbn.object.type.DBObjectType.PACKAGE_TYPE;
+import static com.dbn.object.type.DBObjectType.PROCEDURE;
+import static com.dbn.object.type.DBObjectType.TABLE;
+import static com.dbn.object.type.DBObjectType.TYPE;
+import static com.dbn.object.type.DBObjectType.TYPE_ATTRIBUTE;
+import static com.dbn.object.type.DBObjectType.TYPE_FUNCTION;
+import static com.dbn.object.type.DBObjectType.TYPE_PROCEDURE;
+import static com.dbn.object.type.DBObjectType.VIEW;
+
+/**
+ * Bulk preload of the master object lists of the user (and default) schema, fired right after connecting.
+ * The lists are loaded in stages following their dependencies (datasets and programs before their columns,
+ * constraints and methods, methods before their arguments), the lists of one stage being loaded in parallel
+ * (each load allocating its own pool connection through the database interface queue).
+ * While the preload is in flight, the pending lists are flagged {@link DynamicContentProperty#PRELOADING}, for the
+ * subcontent loaders to wait for the master list instead of falling back to per-object queries.
+ */
+@Slf4j
+public final class DBObjectListPreloader {
+    private static final DBObjectType[][] OBJECT_STAGES = {
+            {TABLE, VIEW, MATERIALIZED_VIEW, PACKAGE, PROCEDURE, FUNCTION, TYPE},
+            {COLUMN, CONSTRAINT, INDEX, DATASET_TRIGGER, NESTED_TABLE, PACKAGE_PROCEDURE, PACKAGE_FUNCTION, PACKAGE_TYPE, TYPE_ATTRIBUTE, TYPE_PROCEDURE, TYPE_FUNCTION},
+            {ARGUMENT}};
+
+    private static final DBObjectRelationType[][] RELATION_STAGES = {
+            {},
+            {},
+            {CONSTRAINT_COLUMN, INDEX_COLUMN}};
+
+    private final ConnectionRef connection;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DBObjectListPreloader(@NotNull ConnectionHandler connection) {
+        this.connection = connection.ref();
+    }
+
+    /**
+     * Starts the preload in background, unless disabled in the connection settings or already running.
+     * Lists which are already loaded (and not dirty) are not loaded again
+     */
+    public void start() {
+        ConnectionHandler connection = this.connection.get();
+        if (!ConnectionHandler.canConnect(connection)) return;
+        if (!connection.getSettings().getDetailSettings().isPreloadMasterLists()) return;
+        if (!running.compareAndSet(false, true)) return;
+
+        Background.run(() -> {
+            try {
+                preload();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void preload() {
+        ConnectionHandler connection = this.connection.ensure();
+        List<DBSchema> schemas = getSchemas(connection);
+        List<List<DynamicContent<?>>> stages = plan(schemas);
+
+        long start = System.currentTimeMillis();
+        int count = 0;
+        try {
+            for (List<DynamicContent<?>> stage : stages) {
+                if (!ConnectionHandler.canConnect(connection)) break;
+
+                AsyncTaskExecutor executor = new AsyncTaskExecutor(Threads.backgroundExecutor(), 10, TimeUnit.MINUTES);
+                for (DynamicContent<?> content : stage) {
+                    executor.submit(() -> load(content));
+                }
+                executor.complete();
+                count += stage.size();
+            }
+        } finally {
+            // release waiting subcontent loaders also if the preload got interrupted
+            stages.forEach(stage -> stage.forEach(content -> content.set(DynamicContentProperty.PRELOADING, false)));
+            log.info("Preloaded {} object lists of connection {} in {} stages. Elapsed time {} ms",
+                    count, connection.getName(), stages.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private static void load(DynamicContent<?> content) {
+        try {
+            if (isNotValid(content)) return;
+            content.load();
+        } finally {
+            content.set(DynamicContentProperty.PRELOADING, false);
+        }
+    }
+
+    /**
+     * Resolves the lists to be loaded, stage by stage, flagging them as {@link DynamicContentProperty#PRELOADING}
+     */
+    private static List<List<DynamicContent<?>>> plan(List<DBSchema> schemas) {
+        List<List<DynamicContent<?>>> stages = new ArrayList<>();
+        for (int i = 0; i < OBJECT_STAGES.length; i++) {
+            List<DynamicContent<?>> stage = new ArrayList<>();
+            for (DBSchema schema : schemas) {
+                for (DBObjectType objectType : OBJECT_STAGES[i]) {
+                    addContent(stage, schema.getChildObjectList(objectType));
+                }
+
+                DBObjectListContainer childObjects = schema.getChildObjects();
+                if (childObjects == null) continue;
+                for (DBObjectRelationType relationType : RELATION_STAGES[i]) {
+                    addContent(stage, childObjects.getRelations(relationType));
+                }
+            }
+            if (!stage.isEmpty()) stages.add(stage);
+        }
+        return stages;
+    }
+
+    private static void addContent(List<DynamicContent<?>> stage, DynamicContent<?> content) {
+        if (content == null) return;
+        if (content.isReady()) return;
+
+        content.set(DynamicContentProperty.PRELOADING, true);
+        stage.add(content);
+    }
+
+    private static List<DBSchema> getSchemas(ConnectionHandler connection) {
+        DBObjectBundle objectBundle = connection.getObjectBundle();
+        Set<DBSchema> schemas = new LinkedHashSet<>();
+        DBSchema userSchema = objectBundle.getUserSchema();
+        if (userSchema != null) schemas.add(userSchema);
+
+        SchemaId defaultSchema = connection.getDefaultSchema();
+        if (defaultSchema != null) {
+            DBSchema schema = objectBundle.getSchema(defaultSchema.getName());
+            if (schema != null) schemas.add(schema);
+        }
+        return new ArrayList<>(schemas);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.common.list;
+
+import com.dbn.common.util.Strings;
+import com.dbn.object.common.DBObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.dbn.common.dispose.Checks.isNotValid;
+
+/**
+ * Name index over the object lists of a {@link DBObjectListContainer}.
+ * Maps the (upper-cased) object names to compact (list slot, position) entries, where the slot is the position
+ * of the list in the container and the position is the index of the object in the elements of the list.
+ * Only lists which are loaded (and not dirty) are indexed. The index is synchronized lazily on lookup by comparing
+ * the current elements of every list with the elements it was indexed from, hence it never triggers any list load.
+ */
+final class DBObjectNamespace {
+    private static final long[] NO_ENTRIES = new long[0];
+
+    private final Map<String, long[]> entries = new HashMap<>();
+    private List<?>[] snapshots = new List[0];
+
+    /**
+     * Looks up an object by name in the loaded lists, in the order of the list slots
+     * @return the first matching object or null if none of the loaded lists contains the name
+     */
+    @Nullable
+    synchronized DBObject find(DBObjectList<?>[] objectLists, String name, short overload) {
+        if (name == null) return null;
+        sync(objectLists);
+
+        long[] entries = this.entries.getOrDefault(Strings.toUpperCase(name), NO_ENTRIES);
+        for (long entry : entries) {
+            int slot = slot(entry);
+            DBObjectList<?> objectList = objectLists[slot];
+            if (objectList.isHidden()) continue;
+
+            DBObject object = (DBObject) snapshots[slot].get(position(entry));
+            if (overload == 0 || overload == object.getOverload()) return object;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given list was indexed from its current elements
+     */
+    synchronized boolean isIndexed(DBObjectList<?>[] objectLists, int slot) {
+        sync(objectLists);
+        return slot < snapshots.length && snapshots[slot] != null;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        snapshots = new List[0];
+    }
+
+    private void sync(DBObjectList<?>[] objectLists) {
+        if (snapshots.length < objectLists.length) {
+            snapshots = Arrays.copyOf(snapshots, objectLists.length);
+        }
+
+        boolean rebuild = false;
+        for (int slot = 0; slot < objectLists.length; slot++) {
+            List<?> snapshot = snapshot(objectLists[slot]);
+            List<?> indexed = snapshots[slot];
+            if (snapshot == indexed) continue;
+
+            snapshots[slot] = snapshot;
+            if (indexed != null) {
+                // list content replaced or invalidated - stale entries have to be dropped
+                rebuild = true;
+            } else if (!rebuild) {
+                index(slot, snapshot);
+            }
+        }
+
+        if (rebuild) {
+            entries.clear();
+            for (int slot = 0; slot < snapshots.length; slot++) {
+                List<?> snapshot = snapshots[slot];
+                if (snapshot != null) index(slot, snapshot);
+            }
+        }
+    }
+
+    private void index(int slot, List<?> snapshot) {
+        for (int position = 0; position < snapshot.size(); position++) {
+            DBObject object = (DBObject) snapshot.get(position);
+            String name = object.getName();
+            if (name == null) continue;
+
+            long entry = entry(slot, position);
+            entries.merge(Strings.toUpperCase(name), new long[]{entry}, (e1, e2) -> append(e1, entry));
+        }
+    }
+
+    @Nullable
+    private static List<?> snapshot(DBObjectList<?> objectList) {
+        if (objectList == null) return null;
+        if (isNotValid(objectList)) return null;
+        if (objectList.isDependency()) return null;
+        if (!objectList.isLoaded() || objectList.isDirty()) return null;
+
+        List<?> elements = objectList.getAllElements();
+        return elements.isEmpty() ? null : elements;
+    }
+
+    private static long[] append(long[] entries, long entry) {
+        long[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        // keep entries in slot order (lists may get indexed in any order)
+        if (entries.length > 0 && entries[entries.length - 1] > entry) Arrays.sort(result);
+        return result;
+    }
+
+    private static long entry(int slot, int position) {
+        return ((long) slot << 32) | position;
+    }
+
+    private static int slot(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int position(long entry) {
+        return (int) entry;
+    }
+}
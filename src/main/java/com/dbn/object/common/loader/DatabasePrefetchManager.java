@@ -0,0 +1,348 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.common.loader;
+
+import com.dbn.DatabaseNavigator;
+import com.dbn.common.collections.UsageRanking;
+import com.dbn.common.component.PersistentState;
+import com.dbn.common.component.ProjectComponentBase;
+import com.dbn.common.event.ProjectEvents;
+import com.dbn.common.listener.DBNFileEditorManagerListener;
+import com.dbn.common.project.ProjectRef;
+import com.dbn.common.thread.Background;
+import com.dbn.common.thread.ThreadMonitor;
+import com.dbn.common.thread.ThreadProperty;
+import com.dbn.connection.ConnectionHandler;
+import com.dbn.connection.ConnectionId;
+import com.dbn.connection.ConnectionRef;
+import com.dbn.connection.SchemaId;
+import com.dbn.database.interfaces.DatabaseInterfaceQueue;
+import com.dbn.object.DBDataset;
+import com.dbn.object.DBMethod;
+import com.dbn.object.DBProgram;
+import com.dbn.object.DBSchema;
+import com.dbn.object.common.DBObject;
+import com.dbn.object.common.DBSchemaObject;
+import com.dbn.object.common.list.DBObjectList;
+import com.dbn.object.lookup.DBObjectRef;
+import com.dbn.object.type.DBObjectType;
+import com.dbn.vfs.file.DBConsoleVirtualFile;
+import com.dbn.vfs.file.DBObjectVirtualFile;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import lombok.extern.slf4j.Slf4j;
+import org.jdom.Element;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dbn.common.component.Components.projectService;
+import static com.dbn.common.dispose.Checks.isNotValid;
+import static com.dbn.common.options.setting.Settings.longAttribute;
+import static com.dbn.common.options.setting.Settings.newElement;
+import static com.dbn.common.options.setting.Settings.newStateElement;
+import static com.dbn.common.options.setting.Settings.setLongAttribute;
+import static com.dbn.common.options.setting.Settings.setStringAttribute;
+import static com.dbn.common.options.setting.Settings.stringAttribute;
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
+import static com.dbn.object.common.loader.DatabasePrefetchManager.COMPONENT_NAME;
+import static com.dbn.object.type.DBObjectType.ARGUMENT;
+import static com.dbn.object.type.DBObjectType.COLUMN;
+import static com.dbn.object.type.DBObjectType.DATABASE_TRIGGER;
+import static com.dbn.object.type.DBObjectType.FUNCTION;
+import static com.dbn.object.type.DBObjectType.MATERIALIZED_VIEW;
+import static com.dbn.object.type.DBObjectType.PACKAGE;
+import static com.dbn.object.type.DBObjectType.PROCEDURE;
+import static com.dbn.object.type.DBObjectType.SEQUENCE;
+import static com.dbn.object.type.DBObjectType.SYNONYM;
+import static com.dbn.object.type.DBObjectType.TABLE;
+import static com.dbn.object.type.DBObjectType.TYPE;
+import static com.dbn.object.type.DBObjectType.VIEW;
+
+/**
+ * Usage driven prefetch of database object content.
+ * Keeps a (persisted) per-connection frequency / recency ranking of the objects the user works with
+ * (selected in the database browser or opened in editors) and, right after connecting, loads in background
+ * the content most likely to be needed next:
+ * <ul>
+ *     <li>the child object lists of the hot schemas (browser nodes, code completion)</li>
+ *     <li>the columns of the hot datasets</li>
+ *     <li>the methods and arguments of the hot programs</li>
+ * </ul>
+ * The prefetch loads are issued one at a time with {@link ThreadProperty#PREFETCH} (low interface priority),
+ * and only while the database interface queue has spare capacity (the prefetch is stopped as soon as the queue is busy).
+ * The effectiveness is reported as the latency to the first completed object and the ratio of objects
+ * accessed by the user after having been prefetched.
+ */
+@Slf4j
+@State(
+    name = COMPONENT_NAME,
+    storages = @Storage(DatabaseNavigator.STORAGE_FILE)
+)
+public class DatabasePrefetchManager extends ProjectComponentBase implements PersistentState {
+    public static final String COMPONENT_NAME = "DBNavigator.Project.DatabasePrefetchManager";
+
+    private static final int MAX_RANKED_OBJECTS = 200;
+    private static final int MAX_PREFETCHED_OBJECTS = 20;
+    private static final long USAGE_HALF_LIFE = TimeUnit.DAYS.toMillis(7);
+    private static final DBObjectType[] SCHEMA_CONTENT_TYPES = {TABLE, VIEW, MATERIALIZED_VIEW, SYNONYM, SEQUENCE, PROCEDURE, FUNCTION, PACKAGE, TYPE, DATABASE_TRIGGER};
+
+    private final Map<ConnectionId, UsageRanking<DBObjectRef<?>>> rankings = new ConcurrentHashMap<>();
+    private final Map<ConnectionId, Prefetch> prefetches = new ConcurrentHashMap<>();
+
+    private DatabasePrefetchManager(Project project) {
+        super(project, COMPONENT_NAME);
+        ProjectEvents.subscribe(project, this, FileEditorManagerListener.FILE_EDITOR_MANAGER, fileEditorManagerListener());
+    }
+
+    public static DatabasePrefetchManager getInstance(@NotNull Project project) {
+        return projectService(project, DatabasePrefetchManager.class);
+    }
+
+    @NotNull
+    private FileEditorManagerListener fileEditorManagerListener() {
+        return new DBNFileEditorManagerListener() {
+            @Override
+            public void whenFileOpened(FileEditorManager source, VirtualFile file) {
+                // resolving the objects may load the schema list (not to be done on the dispatch thread)
+                if (file instanceof DBConsoleVirtualFile) {
+                    DBConsoleVirtualFile consoleFile = (DBConsoleVirtualFile) file;
+                    ConnectionHandler connection = consoleFile.getConnection();
+                    SchemaId schemaId = consoleFile.getSchemaId();
+                    if (isNotValid(connection) || schemaId == null) return;
+
+                    Background.run(() -> recordUsage(connection.getObjectBundle().getSchema(schemaId.getName())));
+
+                } else if (file instanceof DBObjectVirtualFile) {
+                    DBObjectVirtualFile<?> objectFile = (DBObjectVirtualFile<?>) file;
+                    DBObjectRef<?> objectRef = objectFile.getObjectRef();
+                    Background.run(() -> recordUsage(objectRef.get()));
+                }
+            }
+        };
+    }
+
+    /**
+     * Records the usage of the given object (or of the prefetch relevant object it belongs to, e.g. the table of a column)
+     */
+    public void recordUsage(@Nullable DBObject object) {
+        DBObject target = resolveTarget(object);
+        if (target == null) return;
+
+        long timestamp = System.currentTimeMillis();
+        ConnectionId connectionId = target.getConnectionId();
+        UsageRanking<DBObjectRef<?>> ranking = getRanking(connectionId);
+        List<DBObjectRef<?>> objectRefs = new ArrayList<>(2);
+        objectRefs.add(target.ref());
+        if (target instanceof DBSchemaObject) {
+            DBSchema schema = ((DBSchemaObject) target).getSchema();
+            if (schema != null) objectRefs.add(schema.ref());
+        }
+
+        Prefetch prefetch = prefetches.get(connectionId);
+        for (DBObjectRef<?> objectRef : objectRefs) {
+            ranking.record(objectRef, timestamp);
+            if (prefetch != null) prefetch.accessed(objectRef);
+        }
+    }
+
+    /**
+     * Starts the prefetch of the hot objects of the given connection in background
+     * (unless disabled in the connection settings or already in progress)
+     */
+    public synchronized void prefetch(@NotNull ConnectionHandler connection) {
+        if (!ConnectionHandler.canConnect(connection)) return;
+        if (!connection.getSettings().getDetailSettings().isPrefetchUsedObjects()) return;
+
+        ConnectionId connectionId = connection.getConnectionId();
+        UsageRanking<DBObjectRef<?>> ranking = rankings.get(connectionId);
+        if (ranking == null || ranking.size() == 0) return;
+
+        Prefetch current = prefetches.get(connectionId);
+        if (current != null && current.isRunning()) return;
+
+        List<DBObjectRef<?>> objectRefs = ranking.getTop(MAX_PREFETCHED_OBJECTS, System.currentTimeMillis());
+        Prefetch prefetch = new Prefetch(connection, objectRefs);
+        prefetches.put(connectionId, prefetch);
+        Background.run(() -> ThreadMonitor.surround(ThreadProperty.PREFETCH, () -> prefetch.run()));
+    }
+
+    @NotNull
+    private UsageRanking<DBObjectRef<?>> getRanking(ConnectionId connectionId) {
+        return rankings.computeIfAbsent(connectionId, id -> new UsageRanking<>(MAX_RANKED_OBJECTS, USAGE_HALF_LIFE));
+    }
+
+    @Nullable
+    private static DBObject resolveTarget(@Nullable DBObject object) {
+        while (object != null) {
+            if (isNotValid(object)) return null;
+            if (object instanceof DBSchema) return object;
+            if (object instanceof DBDataset) return object;
+            if (object instanceof DBProgram) return object;
+            if (object instanceof DBMethod && object.getParentObject() instanceof DBSchema) return object;
+            object = object.getParentObject();
+        }
+        return null;
+    }
+
+    private static void prefetchContent(DBObject object) {
+        if (object instanceof DBSchema) {
+            load(object, SCHEMA_CONTENT_TYPES);
+
+        } else if (object instanceof DBDataset) {
+            load(object, COLUMN);
+
+        } else if (object instanceof DBProgram) {
+            DBProgram<?, ?, ?> program = (DBProgram<?, ?, ?>) object;
+            List<DBMethod> methods = new ArrayList<>();
+            methods.addAll(program.getProcedures());
+            methods.addAll(program.getFunctions());
+            for (DBMethod method : methods) {
+                load(method, ARGUMENT);
+            }
+
+        } else if (object instanceof DBMethod) {
+            load(object, ARGUMENT);
+        }
+    }
+
+    private static void load(DBObject object, DBObjectType ... objectTypes) {
+        for (DBObjectType objectType : objectTypes) {
+            DBObjectList<?> objectList = object.getChildObjectList(objectType);
+            if (objectList == null || objectList.isLoaded()) continue;
+
+            objectList.load();
+        }
+    }
+
+    /**
+     * Checks if the interface queue has spare capacity (leaving one slot for user initiated loads)
+     */
+    private static boolean hasCapacity(ConnectionHandler connection) {
+        DatabaseInterfaceQueue interfaceQueue = connection.getInterfaceQueue();
+        return interfaceQueue.size() + interfaceQueue.counters().active() < interfaceQueue.maxActiveTasks() - 1;
+    }
+
+    private static final class Prefetch {
+        private final ProjectRef project;
+        private final ConnectionRef connection;
+        private final List<DBObjectRef<?>> objectRefs;
+        private final Set<DBObjectRef<?>> completed = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private final long start = System.currentTimeMillis();
+        private volatile long firstCompletion = -1;
+        private volatile boolean running = true;
+
+        Prefetch(ConnectionHandler connection, List<DBObjectRef<?>> objectRefs) {
+            this.project = ProjectRef.of(connection.getProject());
+            this.connection = connection.ref();
+            this.objectRefs = objectRefs;
+        }
+
+        boolean isRunning() {
+            return running;
+        }
+
+        void run() {
+            ConnectionHandler connection = this.connection.ensure();
+            try {
+                for (DBObjectRef<?> objectRef : objectRefs) {
+                    if (isNotValid(project.get())) break;
+                    if (isNotValid(connection)) break;
+                    if (!ConnectionHandler.canConnect(connection)) break;
+
+                    // stop rather than wait for a busy queue (user initiated loads take precedence)
+                    if (!hasCapacity(connection)) break;
+
+                    DBObject object = objectRef.get();
+                    if (isNotValid(object)) continue;
+
+                    prefetchContent(object);
+                    completed.add(objectRef);
+                    if (firstCompletion == -1) firstCompletion = System.currentTimeMillis() - start;
+                }
+            } finally {
+                running = false;
+                log.info("Prefetched {} of {} frequently used objects of connection {}. First completion after {} ms, elapsed time {} ms",
+                        completed.size(), objectRefs.size(), connection.getName(), firstCompletion, System.currentTimeMillis() - start);
+            }
+        }
+
+        void accessed(DBObjectRef<?> objectRef) {
+            if (!objectRefs.contains(objectRef)) return;
+
+            // first access of a prefetched object is served without waiting for the database
+            boolean hit = completed.remove(objectRef);
+            if (hit) hits.incrementAndGet(); else misses.incrementAndGet();
+            log.debug("Prefetch {} for {} ({} hits, {} misses)", hit ? "hit" : "miss", objectRef.getQualifiedName(), hits.get(), misses.get());
+        }
+    }
+
+    /****************************************
+     *       PersistentStateComponent       *
+     *****************************************/
+    @Nullable
+    @Override
+    public Element getComponentState() {
+        Element element = newStateElement();
+        Element usagesElement = newElement(element, "object-usages");
+        for (UsageRanking<DBObjectRef<?>> ranking : rankings.values()) {
+            ranking.visit((objectRef, usage) -> {
+                Element objectElement = newElement(usagesElement, "object");
+                objectRef.writeState(objectElement);
+                setStringAttribute(objectElement, "score", Double.toString(usage.getScore()));
+                setLongAttribute(objectElement, "timestamp", usage.getTimestamp());
+            });
+        }
+        return element;
+    }
+
+    @Override
+    public void loadComponentState(@NotNull Element element) {
+        rankings.clear();
+        Element usagesElement = element.getChild("object-usages");
+        if (usagesElement == null) return;
+
+        for (Element objectElement : usagesElement.getChildren()) {
+            DBObjectRef<?> objectRef = DBObjectRef.from(objectElement);
+            if (objectRef == null) continue;
+
+            String score = stringAttribute(objectElement, "score");
+            if (score == null) continue;
+
+            try {
+                double value = Double.parseDouble(score);
+                long timestamp = longAttribute(objectElement, "timestamp", 0);
+                getRanking(objectRef.getConnectionId()).restore(objectRef, value, timestamp);
+            } catch (NumberFormatException e) {
+                conditionallyLog(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.dependency;
+
+import com.dbn.object.type.DBObjectType;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory adjacency index of the object dependencies of one schema.
+ * Every object participating in a dependency (owned by the schema or referenced by / referencing a schema object)
+ * is assigned a position. Forward (referenced objects) and reverse (referencing objects) edges are kept
+ * as primitive position arrays, so traversals do not touch the database nor allocate object references.
+ */
+public final class ObjectDependencyGraph {
+    private static final int[] NO_EDGES = new int[0];
+
+    private final Map<String, Integer> positions = new HashMap<>();
+    private @Getter final long timestamp = System.currentTimeMillis();
+
+    private String[] owners = new String[256];
+    private String[] names = new String[256];
+    private DBObjectType[] types = new DBObjectType[256];
+
+    private int[][] forward = new int[256][];
+    private int[] forwardCounts = new int[256];
+    private int[][] reverse = new int[256][];
+    private int[] reverseCounts = new int[256];
+
+    private int size;
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the given object, or -1 if the object does not participate in any dependency
+     */
+    public synchronized int find(String owner, DBObjectType type, String name) {
+        Integer position = positions.get(key(owner, type, name));
+        return position == null ? -1 : position;
+    }
+
+    synchronized int ensure(String owner, DBObjectType type, String name) {
+        type = normalize(type);
+        String key = key(owner, type, name);
+        Integer position = positions.get(key);
+        if (position != null) return position;
+
+        if (size == owners.length) grow();
+
+        int index = size++;
+        owners[index] = owner;
+        names[index] = name;
+        types[index] = type;
+        positions.put(key, index);
+        return index;
+    }
+
+    synchronized void addDependency(int source, int target) {
+        if (source == target) return;
+        if (contains(forward[source], forwardCounts[source], target)) return;
+
+        forward[source] = append(forward[source], forwardCounts[source]++, target);
+        reverse[target] = append(reverse[target], reverseCounts[target]++, source);
+    }
+
+    /**
+     * Replaces the referenced objects of the given source (used for incremental refresh after DDL on the source object)
+     */
+    synchronized void replaceDependencies(int source, int[] targets) {
+        int[] previous = forward[source];
+        int previousCount = forwardCounts[source];
+        for (int i = 0; i < previousCount; i++) {
+            int target = previous[i];
+            reverseCounts[target] = remove(reverse[target], reverseCounts[target], source);
+        }
+        forward[source] = null;
+        forwardCounts[source] = 0;
+
+        for (int target : targets) {
+            addDependency(source, target);
+        }
+    }
+
+    /**
+     * Positions of the objects the given object depends on
+     */
+    public synchronized int[] getReferenced(int position) {
+        return edges(forward, forwardCounts, position);
+    }
+
+    /**
+     * Positions of the objects depending on the given object
+     */
+    public synchronized int[] getReferencing(int position) {
+        return edges(reverse, reverseCounts, position);
+    }
+
+    public synchronized String getOwner(int position) {
+        return owners[position];
+    }
+
+    public synchronized String getName(int position) {
+        return names[position];
+    }
+
+    public synchronized DBObjectType getType(int position) {
+        return types[position];
+    }
+
+    private static int[] edges(int[][] edges, int[] counts, int position) {
+        if (position < 0) return NO_EDGES;
+
+        int count = counts[position];
+        return count == 0 ? NO_EDGES : Arrays.copyOf(edges[position], count);
+    }
+
+    private static boolean contains(int[] edges, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (edges[i] == value) return true;
+        }
+        return false;
+    }
+
+    private static int[] append(int[] edges, int count, int value) {
+        if (edges == null) {
+            edges = new int[4];
+        } else if (count == edges.length) {
+            edges = Arrays.copyOf(edges, count * 2);
+        }
+        edges[count] = value;
+        return edges;
+    }
+
+    private static int remove(int[] edges, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (edges[i] == value) {
+                System.arraycopy(edges, i + 1, edges, i, count - i - 1);
+                return count - 1;
+            }
+        }
+        return count;
+    }
+
+    private void grow() {
+        int capacity = owners.length * 2;
+        owners = Arrays.copyOf(owners, capacity);
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        forward = Arrays.copyOf(forward, capacity);
+        forwardCounts = Arrays.copyOf(forwardCounts, capacity);
+        reverse = Arrays.copyOf(reverse, capacity);
+        reverseCounts = Arrays.copyOf(reverseCounts, capacity);
+    }
+
+    @NotNull
+    private static String key(String owner, DBObjectType type, String name) {
+        // generic type (e.g. DATASET_TRIGGER -> TRIGGER) as the dictionary does not distinguish between the specialized types
+        return owner + '.' + normalize(type).getGenericType().name() + '.' + name;
+    }
+
+    /**
+     * Bodies are registered under their specification (same as the dependency loaders in DBObjectLoaders)
+     */
+    private static DBObjectType normalize(DBObjectType type) {
+        if (type == DBObjectType.PACKAGE_BODY) return DBObjectType.PACKAGE;
+        if (type == DBObjectType.TYPE_BODY) return DBObjectType.TYPE;
+        return type;
+    }
+}
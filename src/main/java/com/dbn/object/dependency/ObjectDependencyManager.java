@@ -20,31 +20,68 @@ import com.dbn.DatabaseNavigator;
 import com.dbn.common.component.Components;
 import com.dbn.common.component.PersistentState;
 import com.dbn.common.component.ProjectComponentBase;
+import com.dbn.common.event.ProjectEvents;
+import com.dbn.common.latent.Latent;
 import com.dbn.common.options.setting.Settings;
+import com.dbn.common.ref.WeakRef;
 import com.dbn.common.util.Dialogs;
 import com.dbn.connection.ConnectionAction;
+import com.dbn.connection.ConnectionHandler;
+import com.dbn.connection.ConnectionHandlerStatusListener;
+import com.dbn.connection.ConnectionId;
+import com.dbn.connection.Resources;
+import com.dbn.database.interfaces.DatabaseInterfaceInvoker;
+import com.dbn.database.interfaces.DatabaseMetadataInterface;
+import com.dbn.execution.compiler.CompileManagerListener;
+import com.dbn.execution.statement.DataDefinitionChangeListener;
+import com.dbn.object.DBSchema;
+import com.dbn.object.common.DBObject;
+import com.dbn.object.common.DBObjectBundle;
 import com.dbn.object.common.DBSchemaObject;
 import com.dbn.object.dependency.ui.ObjectDependencyTreeDialog;
+import com.dbn.object.lookup.DBObjectRef;
+import com.dbn.object.type.DBObjectType;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
 import com.intellij.openapi.project.Project;
+import lombok.extern.slf4j.Slf4j;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dbn.common.Priority.HIGH;
+import static com.dbn.common.Priority.LOW;
 import static com.dbn.common.options.setting.Settings.newStateElement;
+import static com.dbn.database.DatabaseFeature.OBJECT_DEPENDENCIES;
+import static com.dbn.diagnostics.Diagnostics.conditionallyLog;
 import static com.dbn.nls.NlsResources.txt;
 
+@Slf4j
 @State(
     name = ObjectDependencyManager.COMPONENT_NAME,
     storages = @Storage(DatabaseNavigator.STORAGE_FILE)
 )
 public class ObjectDependencyManager extends ProjectComponentBase implements PersistentState {
     public static final String COMPONENT_NAME = "DBNavigator.Project.ObjectDependencyManager";
+    private static final int MAX_CACHED_GRAPHS = 5;
 
     private ObjectDependencyType lastUserDependencyType = ObjectDependencyType.INCOMING;
+    private final Map<DBObjectRef<DBSchema>, SchemaDependencies> dependencyGraphs = new ConcurrentHashMap<>();
 
     private ObjectDependencyManager(final Project project) {
         super(project, COMPONENT_NAME);
+
+        ProjectEvents.subscribe(project, this, CompileManagerListener.TOPIC, compileManagerListener());
+        ProjectEvents.subscribe(project, this, DataDefinitionChangeListener.TOPIC, dataDefinitionChangeListener());
+        ProjectEvents.subscribe(project, this, ConnectionHandlerStatusListener.TOPIC, connectionStatusListener());
     }
 
     public static ObjectDependencyManager getInstance(@NotNull Project project) {
@@ -64,6 +101,265 @@ public class ObjectDependencyManager extends ProjectComponentBase implements Per
                 action -> Dialogs.show(() -> new ObjectDependencyTreeDialog(getProject(), schemaObject)));
     }
 
+    @NotNull
+    private CompileManagerListener compileManagerListener() {
+        return (connection, object) -> {
+            if (object == null) return;
+            refreshDependencies(object);
+        };
+    }
+
+    @NotNull
+    private DataDefinitionChangeListener dataDefinitionChangeListener() {
+        return new DataDefinitionChangeListener() {
+            @Override
+            public void dataDefinitionChanged(@NotNull DBSchemaObject schemaObject) {
+                refreshDependencies(schemaObject);
+            }
+
+            @Override
+            public void dataDefinitionChanged(DBSchema schema, DBObjectType objectType) {
+                if (schema == null) return;
+                dependencyGraphs.remove(DBObjectRef.of(schema));
+            }
+        };
+    }
+
+    @NotNull
+    private ConnectionHandlerStatusListener connectionStatusListener() {
+        return connectionId -> {
+            ConnectionHandler connection = ConnectionHandler.get(connectionId);
+            if (connection != null && connection.isConnected()) return;
+
+            // graphs (and failed loads) are reloaded after reconnect
+            removeDependencyGraphs(connectionId);
+        };
+    }
+
+    private void removeDependencyGraphs(ConnectionId connectionId) {
+        dependencyGraphs.keySet().removeIf(ref -> ref.getConnectionId() == connectionId);
+    }
+
+    /**
+     * Objects the given object depends on, loaded with the object's own dependency query
+     */
+    @NotNull
+    public List<DBObject> getReferencedObjects(@NotNull DBSchemaObject object) {
+        return getReferencedObjects(object, null);
+    }
+
+    /**
+     * Objects the given object depends on, resolved from the dependency graph of the scope schema
+     * if the object belongs to it (falls back to the object's own dependency query for objects of other schemas,
+     * or if the graph cannot be loaded)
+     * @param scope the schema the navigation of the dependencies started from
+     */
+    @NotNull
+    public List<DBObject> getReferencedObjects(@NotNull DBSchemaObject object, @Nullable DBSchema scope) {
+        ObjectDependencyGraph graph = getScopedDependencyGraph(object, scope);
+        if (graph == null) return object.getReferencedObjects();
+
+        int position = graph.find(object.getSchemaName(), object.getObjectType(), object.getName());
+        return resolveObjects(object.getObjectBundle(), graph, graph.getReferenced(position));
+    }
+
+    /**
+     * Objects depending on the given object, loaded with the object's own dependency query
+     */
+    @NotNull
+    public List<DBObject> getReferencingObjects(@NotNull DBSchemaObject object) {
+        return getReferencingObjects(object, null);
+    }
+
+    /**
+     * Objects depending on the given object, resolved from the dependency graph of the scope schema
+     * if the object belongs to it (see {@link #getReferencedObjects(DBSchemaObject, DBSchema)})
+     */
+    @NotNull
+    public List<DBObject> getReferencingObjects(@NotNull DBSchemaObject object, @Nullable DBSchema scope) {
+        ObjectDependencyGraph graph = getScopedDependencyGraph(object, scope);
+        if (graph == null) return object.getReferencingObjects();
+
+        int position = graph.find(object.getSchemaName(), object.getObjectType(), object.getName());
+        return resolveObjects(object.getObjectBundle(), graph, graph.getReferencing(position));
+    }
+
+    /**
+     * The dependency graph is only built for the scope schema itself, and never for system or public schemas
+     * (objects referencing e.g. SYS would otherwise pull the entire dependency set of SYS into memory)
+     */
+    @Nullable
+    private ObjectDependencyGraph getScopedDependencyGraph(@NotNull DBSchemaObject object, @Nullable DBSchema scope) {
+        if (scope == null) return null;
+        if (scope.isSystemSchema() || scope.isPublicSchema()) return null;
+        if (!scope.equals(object.getSchema())) return null;
+        return getDependencyGraph(scope);
+    }
+
+    /**
+     * Returns the dependency graph of the given schema, loading all its dependencies in one go on first access
+     * (a failed load is not retried until the schema is reloaded or the connection is reestablished)
+     */
+    @Nullable
+    public ObjectDependencyGraph getDependencyGraph(@Nullable DBSchema schema) {
+        if (schema == null) return null;
+        if (!OBJECT_DEPENDENCIES.isSupported(schema)) return null;
+
+        SchemaDependencies dependencies = dependencyGraphs.compute(DBObjectRef.of(schema), (ref, current) ->
+                current == null || current.isStale(schema) ? new SchemaDependencies(schema) : current);
+        evictDependencyGraphs();
+
+        // loaded outside the map, blocking only the callers interested in the same schema
+        return dependencies.getGraph();
+    }
+
+    /**
+     * Drops the least recently used graphs exceeding {@link #MAX_CACHED_GRAPHS}
+     */
+    private void evictDependencyGraphs() {
+        while (dependencyGraphs.size() > MAX_CACHED_GRAPHS) {
+            dependencyGraphs.entrySet()
+                    .stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().getLastAccess()))
+                    .ifPresent(e -> dependencyGraphs.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    @Nullable
+    private ObjectDependencyGraph getLoadedDependencyGraph(DBSchema schema) {
+        SchemaDependencies dependencies = dependencyGraphs.get(DBObjectRef.of(schema));
+        if (dependencies == null || dependencies.isStale(schema)) return null;
+        return dependencies.getLoadedGraph();
+    }
+
+    @Nullable
+    private static ObjectDependencyGraph loadDependencyGraph(@Nullable DBSchema schema) {
+        if (schema == null) return null;
+        try {
+            return DatabaseInterfaceInvoker.load(HIGH,
+                    "Loading data dictionary",
+                    "Loading object dependencies of " + schema.getQualifiedNameWithType(),
+                    schema.getProject(),
+                    schema.getConnectionId(),
+                    conn -> {
+                        ObjectDependencyGraph graph = new ObjectDependencyGraph();
+                        ResultSet resultSet = null;
+                        try {
+                            DatabaseMetadataInterface metadata = schema.getMetadataInterface();
+                            resultSet = metadata.loadAllObjectDependencies(schema.getName(), conn);
+                            while (resultSet.next()) {
+                                int source = graph.ensure(
+                                        resultSet.getString("OBJECT_OWNER"),
+                                        DBObjectType.get(resultSet.getString("OBJECT_TYPE")),
+                                        resultSet.getString("OBJECT_NAME"));
+                                int target = graph.ensure(
+                                        resultSet.getString("REFERENCED_OWNER"),
+                                        DBObjectType.get(resultSet.getString("REFERENCED_TYPE")),
+                                        resultSet.getString("REFERENCED_NAME"));
+                                graph.addDependency(source, target);
+                            }
+                        } finally {
+                            Resources.close(resultSet);
+                        }
+                        return graph;
+                    });
+        } catch (SQLException e) {
+            conditionallyLog(e);
+            log.warn("Failed to load dependency graph of {}: {}", schema.getQualifiedNameWithType(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reloads the referenced objects of the given object into the graph of its schema (if already loaded)
+     */
+    private void refreshDependencies(@NotNull DBSchemaObject object) {
+        DBSchema schema = object.getSchema();
+        if (schema == null) return;
+
+        ObjectDependencyGraph graph = getLoadedDependencyGraph(schema);
+        if (graph == null) return;
+
+        try {
+            ConnectionHandler connection = object.getConnection();
+            DatabaseInterfaceInvoker.execute(LOW,
+                    "Loading data dictionary",
+                    "Refreshing object dependencies of " + object.getQualifiedNameWithType(),
+                    getProject(),
+                    connection.getConnectionId(),
+                    conn -> {
+                        ResultSet resultSet = null;
+                        try {
+                            DatabaseMetadataInterface metadata = connection.getMetadataInterface();
+                            resultSet = metadata.loadReferencedObjects(object.getSchemaName(), object.getName(), conn);
+
+                            List<Integer> targets = new ArrayList<>();
+                            while (resultSet.next()) {
+                                targets.add(graph.ensure(
+                                        resultSet.getString("OBJECT_OWNER"),
+                                        DBObjectType.get(resultSet.getString("OBJECT_TYPE")),
+                                        resultSet.getString("OBJECT_NAME")));
+                            }
+                            int source = graph.ensure(object.getSchemaName(), object.getObjectType(), object.getName());
+                            graph.replaceDependencies(source, targets.stream().mapToInt(t -> t).toArray());
+                        } finally {
+                            Resources.close(resultSet);
+                        }
+                    });
+        } catch (SQLException e) {
+            conditionallyLog(e);
+            // drop the graph rather than keeping it stale
+            dependencyGraphs.remove(DBObjectRef.of(schema));
+        }
+    }
+
+    @NotNull
+    private static List<DBObject> resolveObjects(DBObjectBundle objectBundle, ObjectDependencyGraph graph, int[] positions) {
+        List<DBObject> objects = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            DBSchema schema = objectBundle.getSchema(graph.getOwner(position));
+            if (schema == null) continue;
+
+            DBObject object = schema.getChildObject(graph.getType(position), graph.getName(position), (short) 0, true);
+            if (object != null) objects.add(object);
+        }
+        return objects;
+    }
+
+    /**
+     * Dependency graph of a schema, bound to the schema instance it was loaded for
+     * (schema instances are replaced when the object bundle reloads the schemas)
+     */
+    private static final class SchemaDependencies {
+        private final WeakRef<DBSchema> schema;
+        private final Latent<ObjectDependencyGraph> graph;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private SchemaDependencies(DBSchema schema) {
+            this.schema = WeakRef.of(schema);
+            this.graph = Latent.basic(() -> loadDependencyGraph(this.schema.get()));
+        }
+
+        private boolean isStale(DBSchema schema) {
+            return this.schema.get() != schema;
+        }
+
+        @Nullable
+        private ObjectDependencyGraph getGraph() {
+            lastAccess = System.currentTimeMillis();
+            return graph.get();
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+
+        @Nullable
+        private ObjectDependencyGraph getLoadedGraph() {
+            return graph.loaded() ? graph.value() : null;
+        }
+    }
+
     @Override
     public Element getComponentState() {
         Element element = newStateElement();
@@ -20,6 +20,7 @@ import com.dbn.object.action.NavigateToObjectAction;
 import com.dbn.object.action.ObjectListShowAction;
 import com.dbn.object.common.DBObject;
 import com.dbn.object.common.DBSchemaObject;
+import com.dbn.object.dependency.ObjectDependencyManager;
 import com.intellij.openapi.actionSystem.AnAction;
 
 import java.util.List;
@@ -33,7 +34,9 @@ public class ReferencedObjectsListShowAction extends ObjectListShowAction {
 
     @Override
     public List<DBObject> getObjectList() {
-        return ((DBSchemaObject) getSourceObject()).getReferencedObjects();
+        DBSchemaObject object = (DBSchemaObject) getSourceObject();
+        ObjectDependencyManager dependencyManager = ObjectDependencyManager.getInstance(object.getProject());
+        return dependencyManager.getReferencedObjects(object);
     }
 
     @Override
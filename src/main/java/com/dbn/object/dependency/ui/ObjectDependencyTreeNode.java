@@ -22,8 +22,10 @@ import com.dbn.common.dispose.StatefulDisposable;
 import com.dbn.common.dispose.StatefulDisposableBase;
 import com.dbn.common.dispose.UnlistedDisposable;
 import com.dbn.common.thread.Background;
+import com.dbn.object.DBSchema;
 import com.dbn.object.common.DBObject;
 import com.dbn.object.common.DBSchemaObject;
+import com.dbn.object.dependency.ObjectDependencyManager;
 import com.dbn.object.dependency.ObjectDependencyType;
 import com.dbn.object.lookup.DBObjectRef;
 import com.intellij.openapi.project.Project;
@@ -43,7 +45,6 @@ public class ObjectDependencyTreeNode extends StatefulDisposableBase implements
     private ObjectDependencyTreeNode parent;
     private boolean shouldLoad = true;
     private boolean loading = false;
-    private static int loaderCount = 0;
 
     private ObjectDependencyTreeNode(ObjectDependencyTreeNode parent, DBObject object) {
         this.parent = parent;
@@ -98,36 +99,29 @@ public class ObjectDependencyTreeNode extends StatefulDisposableBase implements
         if (load && shouldLoad) {
             loading = true;
 
-            if (loaderCount < 10) {
-                shouldLoad = false;
-                loaderCount++;
-                Background.run(() -> {
-                    try {
-                        DBObject object = getObject();
-                        if (object instanceof DBSchemaObject) {
-                            List<ObjectDependencyTreeNode> newDependencies = new ArrayList<>();
-                            DBSchemaObject schemaObject = (DBSchemaObject) object;
-                            List<DBObject> dependentObjects = loadDependencies(schemaObject);
-
-                            if (dependentObjects != null) {
-                                for (DBObject dependentObject : dependentObjects) {
-                                        /*if (dependentObject instanceof DBSchemaObject) {
-                                            loadDependencies((DBSchemaObject) dependentObject);
-                                        }*/
-                                    ObjectDependencyTreeNode node = new ObjectDependencyTreeNode(ObjectDependencyTreeNode.this, dependentObject);
-                                    newDependencies.add(node);
-                                }
+            shouldLoad = false;
+            Background.run(() -> {
+                try {
+                    DBObject object = getObject();
+                    if (object instanceof DBSchemaObject) {
+                        List<ObjectDependencyTreeNode> newDependencies = new ArrayList<>();
+                        DBSchemaObject schemaObject = (DBSchemaObject) object;
+                        List<DBObject> dependentObjects = loadDependencies(schemaObject);
+
+                        if (dependentObjects != null) {
+                            for (DBObject dependentObject : dependentObjects) {
+                                ObjectDependencyTreeNode node = new ObjectDependencyTreeNode(ObjectDependencyTreeNode.this, dependentObject);
+                                newDependencies.add(node);
                             }
-
-                            dependencies = replace(dependencies, newDependencies);
-                            getModel().notifyNodeLoaded(ObjectDependencyTreeNode.this);
                         }
-                    } finally {
-                        loading = false;
-                        loaderCount--;
+
+                        dependencies = replace(dependencies, newDependencies);
+                        getModel().notifyNodeLoaded(ObjectDependencyTreeNode.this);
                     }
-                });
-            }
+                } finally {
+                    loading = false;
+                }
+            });
         }
         return dependencies;
     }
@@ -138,10 +132,15 @@ public class ObjectDependencyTreeNode extends StatefulDisposableBase implements
 
     @Nullable
     private List<DBObject> loadDependencies(DBSchemaObject schemaObject) {
-        ObjectDependencyType dependencyType = getModel().getDependencyType();
+        // dependencies within the schema of the root object are loaded in one go and resolved from the in-memory graph
+        ObjectDependencyManager dependencyManager = ObjectDependencyManager.getInstance(schemaObject.getProject());
+        ObjectDependencyTreeModel model = getModel();
+        ObjectDependencyType dependencyType = model.getDependencyType();
+        DBSchemaObject rootObject = model.getObject();
+        DBSchema scope = rootObject == null ? null : rootObject.getSchema();
         return
-            dependencyType == ObjectDependencyType.INCOMING ? schemaObject.getReferencedObjects() :
-            dependencyType == ObjectDependencyType.OUTGOING ? schemaObject.getReferencingObjects() : null;
+            dependencyType == ObjectDependencyType.INCOMING ? dependencyManager.getReferencedObjects(schemaObject, scope) :
+            dependencyType == ObjectDependencyType.OUTGOING ? dependencyManager.getReferencingObjects(schemaObject, scope) : null;
     }
 
     private boolean isRecursive(DBObject object) {
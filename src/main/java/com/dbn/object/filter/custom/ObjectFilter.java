@@ -36,10 +36,13 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.dbn.common.options.setting.Settings.booleanAttribute;
@@ -59,6 +62,9 @@ public class ObjectFilter<T extends DBObject> implements Filter<T>, PersistentCo
     private boolean active = true;
     private final transient WeakRef<ObjectFilterSettings> settings;
 
+    @EqualsAndHashCode.Exclude
+    private transient volatile BoundAttributes boundAttributes;
+
     public ObjectFilter(ObjectFilterSettings settings) {
         this.settings = WeakRef.of(settings);
     }
@@ -92,17 +98,41 @@ public class ObjectFilter<T extends DBObject> implements Filter<T>, PersistentCo
 
     private ExpressionEvaluatorContext createEvaluatorContext(T object) {
         ObjectFilterDefinition<T> definition = getDefinition();
-        List<ObjectFilterAttribute> attributeTypes = definition.getAttributes();
+        List<String> attributeNames = getBoundAttributes().getNames();
 
-        Map<String, Object> bindVariables = new HashMap<>();
-        for (ObjectFilterAttribute attribute : attributeTypes) {
-            String attributeName = attribute.getName();
+        Map<String, Object> bindVariables = new HashMap<>(attributeNames.size() * 2);
+        for (String attributeName : attributeNames) {
             Object attributeValue = definition.getAttributeValue(object, attributeName);
             bindVariables.put(attributeName, attributeValue);
         }
         return new ExpressionEvaluatorContext(bindVariables);
     }
 
+    /**
+     * Attributes referenced by the current expression, resolved once per expression and object type
+     * (attribute values which are not used by the expression are not computed for every filtered object)
+     * along with the database-side translation of the expression
+     */
+    private BoundAttributes getBoundAttributes() {
+        BoundAttributes boundAttributes = this.boundAttributes;
+        if (boundAttributes == null || !boundAttributes.matches(objectType, expression)) {
+            boundAttributes = new BoundAttributes(objectType, expression, getDefinition());
+            this.boundAttributes = boundAttributes;
+        }
+        return boundAttributes;
+    }
+
+    /**
+     * SQL predicate to be appended to the metadata query loading the objects, for the parts
+     * of the expression which can be evaluated by the database (see {@link ObjectFilterTranslator})
+     * @return the predicate or null if the filter is inactive or cannot be evaluated by the database
+     */
+    @Nullable
+    public String getDatabasePredicate() {
+        if (!active) return null;
+        return getBoundAttributes().getDatabasePredicate();
+    }
+
     public ObjectFilterDefinition<T> getDefinition() {
         return ObjectFilterDefinition.of(objectType);
     }
@@ -133,6 +163,30 @@ public class ObjectFilter<T extends DBObject> implements Filter<T>, PersistentCo
         return getSettings().getConnection();
     }
 
+    @Getter
+    private static final class BoundAttributes {
+        private final DBObjectType objectType;
+        private final String expression;
+        private final List<String> names;
+        private final String databasePredicate;
+
+        BoundAttributes(DBObjectType objectType, String expression, ObjectFilterDefinition<?> definition) {
+            this.objectType = objectType;
+            this.expression = expression;
+            this.names = definition.getAttributeNames().stream().filter(n -> isReferenced(expression, n)).collect(Collectors.toList());
+            this.databasePredicate = ObjectFilterTranslator.translate(definition, expression);
+        }
+
+        boolean matches(DBObjectType objectType, String expression) {
+            return this.objectType == objectType && Objects.equals(this.expression, expression);
+        }
+
+        private static boolean isReferenced(String expression, String attributeName) {
+            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(attributeName) + "\\b", Pattern.CASE_INSENSITIVE);
+            return pattern.matcher(expression).find();
+        }
+    }
+
     public DBLanguagePsiFile createPreviewFile() {
         DBLanguage language = SQLLanguage.INSTANCE;
         ConnectionHandler connection = getConnection();
@@ -19,6 +19,7 @@ package com.dbn.object.filter.custom;
 import com.dbn.object.common.DBObject;
 import com.dbn.object.type.DBObjectType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -29,6 +30,12 @@ public interface ObjectFilterDefinition<T extends DBObject> {
     List<String> getAttributeNames();
     Object getAttributeValue(T source, String attributeName);
 
+    /**
+     * Name of the metadata query column the given attribute is read from, if the attribute can be evaluated by the database
+     */
+    @Nullable
+    String getAttributeColumn(String attributeName);
+
     @NotNull
     static <T extends DBObject> ObjectFilterDefinition<T> of(DBObjectType objectType) {
         return ObjectFilterDefinitions.attributesOf(objectType);
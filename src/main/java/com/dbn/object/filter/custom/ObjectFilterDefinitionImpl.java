@@ -21,6 +21,7 @@ import com.dbn.object.type.DBObjectType;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ final class ObjectFilterDefinitionImpl<T extends DBObject> implements ObjectFilt
     private final String sampleExpression;
     private final List<ObjectFilterAttribute> attributes = new ArrayList<>();
     private final Map<String, Function<T, Object>> valueProviders = new LinkedHashMap<>();
+    private final Map<String, String> columns = new HashMap<>();
 
     public ObjectFilterDefinitionImpl(DBObjectType objectType, String sampleExpression) {
         this.objectType = objectType;
@@ -53,10 +55,20 @@ final class ObjectFilterDefinitionImpl<T extends DBObject> implements ObjectFilt
         return valueProvider == null ? null : valueProvider.apply(source);
     }
 
+    @Override
+    public String getAttributeColumn(String attributeName) {
+        return columns.get(attributeName);
+    }
+
     public ObjectFilterDefinitionImpl<T> withAttribute(Class type, String name, String description, Function<T, Object> valueProvider) {
         ObjectFilterAttribute attribute = new ObjectFilterAttribute(type, name, description);
         attributes.add(attribute);
         valueProviders.put(name, valueProvider);
         return this;
     }
+
+    public ObjectFilterDefinitionImpl<T> withColumn(String attributeName, String columnName) {
+        columns.put(attributeName, columnName);
+        return this;
+    }
 }
@@ -53,15 +53,23 @@ class ObjectFilterDefinitions {
                 .withAttribute(Boolean.class, "USER_SCHEMA",     "is user / own schema", o -> o.isUserSchema())
                 .withAttribute(Boolean.class, "PUBLIC_SCHEMA",   "is public schema", o -> o.isPublicSchema())
                 .withAttribute(Boolean.class, "SYSTEM_SCHEMA",   "is system schema", o -> o.isSystemSchema())
-                .withAttribute(Boolean.class, "EMPTY_SCHEMA",    "is empty schema", o -> o.isEmptySchema());
+                .withAttribute(Boolean.class, "EMPTY_SCHEMA",    "is empty schema", o -> o.isEmptySchema())
+                .withColumn("SCHEMA_NAME",   "SCHEMA_NAME")
+                .withColumn("PUBLIC_SCHEMA", "IS_PUBLIC")
+                .withColumn("SYSTEM_SCHEMA", "IS_SYSTEM")
+                .withColumn("EMPTY_SCHEMA",  "IS_EMPTY");
 
         create(DBTable.class, DBObjectType.TABLE, "TABLE_NAME in ('TBL1', 'TBL2') or TABLE_NAME like 'TAB_%' or TEMPORARY_TABLE")
                 .withAttribute(String.class,  "TABLE_NAME",      "table name", o -> o.getName())
-                .withAttribute(Boolean.class, "TEMPORARY_TABLE", "is temporary table", o -> o.isTemporary());
+                .withAttribute(Boolean.class, "TEMPORARY_TABLE", "is temporary table", o -> o.isTemporary())
+                .withColumn("TABLE_NAME",      "TABLE_NAME")
+                .withColumn("TEMPORARY_TABLE", "IS_TEMPORARY");
 
         create(DBView.class, DBObjectType.VIEW, "VIEW_NAME in ('VIEW1', 'VIEW2') or VIEW_NAME like 'VW_%' or SYSTEM_VIEW")
                 .withAttribute(String.class,  "VIEW_NAME",       "view name", o -> o.getName())
-                .withAttribute(Boolean.class, "SYSTEM_VIEW",     "is system level view", o -> o.isSystemView());
+                .withAttribute(Boolean.class, "SYSTEM_VIEW",     "is system level view", o -> o.isSystemView())
+                .withColumn("VIEW_NAME",   "VIEW_NAME")
+                .withColumn("SYSTEM_VIEW", "IS_SYSTEM_VIEW");
 
         create(DBColumn.class, DBObjectType.COLUMN, "COLUM_NAME in ('COL1', 'COL2') or COLUM_NAME like 'COL_%' or PRIMARY_KEY")
                 .withAttribute(String.class,  "COLUM_NAME",      "column name", o -> o.getName())
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.filter.custom;
+
+import com.dbn.common.util.Strings;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates object filter expressions to SQL predicates on the columns of the metadata queries
+ * (see {@link ObjectFilterDefinition#getAttributeColumn(String)}), to be evaluated by the database while loading the objects.
+ * The translation is lenient: conditions which cannot be translated with the exact semantics of the client-side
+ * evaluation are left out of the conjunctions they belong to, hence the resulting predicate may accept more objects
+ * than the expression, but never less. The filter expression is still evaluated for every loaded object.
+ * Supported conditions: boolean attributes (optionally negated), string equality, IN lists and (NOT) LIKE patterns.
+ */
+@NonNls
+public final class ObjectFilterTranslator {
+    private static final String LITERAL = "'[^'\\\\]*'";
+    private static final Pattern FLAG = Pattern.compile("(NOT\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EQUALS = Pattern.compile("(\\w+)\\s*=\\s*(" + LITERAL + ")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IN = Pattern.compile("(\\w+)\\s+IN\\s*\\(\\s*(" + LITERAL + "(?:\\s*,\\s*" + LITERAL + ")*)\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LIKE = Pattern.compile("(\\w+)\\s+(NOT\\s+)?LIKE\\s+'([\\w%* #-]*)'", Pattern.CASE_INSENSITIVE);
+
+    private ObjectFilterTranslator() {}
+
+    /**
+     * Translates the given filter expression
+     * @return the SQL predicate or null if no part of the expression can be evaluated by the database
+     */
+    @Nullable
+    public static String translate(ObjectFilterDefinition<?> definition, @Nullable String expression) {
+        if (Strings.isEmptyOrSpaces(expression)) return null;
+        return translateDisjunction(definition, expression.trim());
+    }
+
+    @Nullable
+    private static String translateDisjunction(ObjectFilterDefinition<?> definition, String expression) {
+        List<String> disjuncts = split(expression, "OR");
+        if (disjuncts == null) return null;
+        if (disjuncts.size() == 1) return translateConjunction(definition, disjuncts.get(0));
+
+        List<String> predicates = new ArrayList<>(disjuncts.size());
+        for (String disjunct : disjuncts) {
+            // a disjunct which cannot be translated may accept any object
+            String predicate = translateConjunction(definition, disjunct);
+            if (predicate == null) return null;
+            predicates.add(predicate);
+        }
+        return "(" + String.join(" or ", predicates) + ")";
+    }
+
+    @Nullable
+    private static String translateConjunction(ObjectFilterDefinition<?> definition, String expression) {
+        List<String> conjuncts = split(expression, "AND");
+        if (conjuncts == null) return null;
+
+        List<String> predicates = new ArrayList<>(conjuncts.size());
+        for (String conjunct : conjuncts) {
+            // conditions which cannot be translated are left to the client-side evaluation
+            String predicate = translateCondition(definition, conjunct);
+            if (predicate != null) predicates.add(predicate);
+        }
+        return predicates.isEmpty() ? null : String.join(" and ", predicates);
+    }
+
+    @Nullable
+    private static String translateCondition(ObjectFilterDefinition<?> definition, String condition) {
+        if (condition.startsWith("(") && closingParenthesis(condition) == condition.length() - 1) {
+            String predicate = translateDisjunction(definition, condition.substring(1, condition.length() - 1).trim());
+            return predicate == null ? null : predicate.startsWith("(") ? predicate : "(" + predicate + ")";
+        }
+
+        Matcher matcher = FLAG.matcher(condition);
+        if (matcher.matches()) {
+            String column = column(definition, matcher.group(2), Boolean.class);
+            if (column == null) return null;
+            return matcher.group(1) == null ?
+                    column + " = 'Y'" :
+                    "coalesce(" + column + ", 'N') <> 'Y'";
+        }
+
+        matcher = EQUALS.matcher(condition);
+        if (matcher.matches()) {
+            String column = column(definition, matcher.group(1), String.class);
+            if (column == null) return null;
+            return column + " = " + matcher.group(2);
+        }
+
+        matcher = IN.matcher(condition);
+        if (matcher.matches()) {
+            String column = column(definition, matcher.group(1), String.class);
+            if (column == null) return null;
+            return column + " in (" + matcher.group(2) + ")";
+        }
+
+        matcher = LIKE.matcher(condition);
+        if (matcher.matches()) {
+            // client-side LIKE is case-insensitive, with '%' and '*' as the only wildcards
+            String column = column(definition, matcher.group(1), String.class);
+            if (column == null) return null;
+            String pattern = matcher.group(3).replace('*', '%').replace("_", "!_");
+            String operator = matcher.group(2) == null ? "like" : "not like";
+            return "upper(" + column + ") " + operator + " upper('" + pattern + "') escape '!'";
+        }
+
+        // NOT IN and inequality conditions are case-insensitive on some databases and cannot be translated exactly
+        return null;
+    }
+
+    @Nullable
+    private static String column(ObjectFilterDefinition<?> definition, String attributeName, Class<?> type) {
+        attributeName = Strings.toUpperCase(attributeName);
+        for (ObjectFilterAttribute attribute : definition.getAttributes()) {
+            if (!attribute.getName().equals(attributeName)) continue;
+            if (!type.isAssignableFrom(attribute.getType())) return null;
+            return definition.getAttributeColumn(attributeName);
+        }
+        return null;
+    }
+
+    /**
+     * Splits the expression by the given logical operator, ignoring the operators within parentheses and literals
+     * @return the operands or null if the expression is not well-formed
+     */
+    @Nullable
+    private static List<String> split(String expression, String operator) {
+        List<String> operands = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        boolean literal = false;
+        for (int i = 0; i < expression.length(); i++) {
+            char chr = expression.charAt(i);
+            if (chr == '\'') {
+                literal = !literal;
+            } else if (literal) {
+                continue;
+            } else if (chr == '(') {
+                depth++;
+            } else if (chr == ')') {
+                depth--;
+                if (depth < 0) return null;
+            } else if (depth == 0 && isOperatorAt(expression, i, operator)) {
+                operands.add(expression.substring(start, i).trim());
+                i = i + operator.length() - 1;
+                start = i + 1;
+            }
+        }
+        if (depth != 0 || literal) return null;
+
+        operands.add(expression.substring(start).trim());
+        return operands.stream().anyMatch(o -> o.isEmpty()) ? null : operands;
+    }
+
+    private static boolean isOperatorAt(String expression, int index, String operator) {
+        int end = index + operator.length();
+        if (end > expression.length()) return false;
+        if (!expression.regionMatches(true, index, operator, 0, operator.length())) return false;
+        if (index > 0 && isWordChar(expression.charAt(index - 1))) return false;
+        return end == expression.length() || !isWordChar(expression.charAt(end));
+    }
+
+    private static boolean isWordChar(char chr) {
+        return Character.isLetterOrDigit(chr) || chr == '_';
+    }
+
+    private static int closingParenthesis(String expression) {
+        int depth = 0;
+        boolean literal = false;
+        for (int i = 0; i < expression.length(); i++) {
+            char chr = expression.charAt(i);
+            if (chr == '\'') {
+                literal = !literal;
+            } else if (!literal && chr == '(') {
+                depth++;
+            } else if (!literal && chr == ')') {
+                depth--;
+                if (depth == 0) return i;
+            }
+        }
+        return -1;
+    }
+}
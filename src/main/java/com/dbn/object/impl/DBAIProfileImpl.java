@@ -114,8 +114,8 @@ public class DBAIProfileImpl extends DBSchemaObjectImpl<DBProfileMetadata> imple
 
     @Override
     protected void initProperties() {
-        properties.set(SCHEMA_OBJECT, true);
-        properties.set(DISABLEABLE, true);
+        set(SCHEMA_OBJECT, true);
+        set(DISABLEABLE, true);
     }
 
     @Override
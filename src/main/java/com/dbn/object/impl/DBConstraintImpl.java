@@ -111,8 +111,8 @@ class DBConstraintImpl extends DBSchemaObjectImpl<DBConstraintMetadata> implemen
 
     @Override
     protected void initProperties() {
-        properties.set(SCHEMA_OBJECT, true);
-        properties.set(DISABLEABLE, true);
+        set(SCHEMA_OBJECT, true);
+        set(DISABLEABLE, true);
     }
 
     @NotNull
@@ -64,8 +64,8 @@ public class DBCredentialImpl extends DBSchemaObjectImpl<DBCredentialMetadata> i
 
     @Override
     protected void initProperties() {
-        properties.set(SCHEMA_OBJECT, true);
-        properties.set(DISABLEABLE, true);
+        set(SCHEMA_OBJECT, true);
+        set(DISABLEABLE, true);
     }
 
     @Override
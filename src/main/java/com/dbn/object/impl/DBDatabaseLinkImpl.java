@@ -49,7 +49,7 @@ class DBDatabaseLinkImpl extends DBSchemaObjectImpl<DBDatabaseLinkMetadata> impl
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.SCHEMA_OBJECT, true);
+        set(DBObjectProperty.SCHEMA_OBJECT, true);
     }
 
     @NotNull
@@ -57,8 +57,8 @@ class DBIndexImpl extends DBSchemaObjectImpl<DBIndexMetadata> implements DBIndex
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.SCHEMA_OBJECT, true);
-        properties.set(DBObjectProperty.INVALIDABLE, true);
+        set(DBObjectProperty.SCHEMA_OBJECT, true);
+        set(DBObjectProperty.INVALIDABLE, true);
     }
 
     @Override
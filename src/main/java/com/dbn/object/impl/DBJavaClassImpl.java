@@ -119,10 +119,10 @@ public class DBJavaClassImpl extends DBSchemaObjectImpl<DBJavaClassMetadata> imp
 
 	public void initProperties() {
 		super.initProperties();
-		properties.set(COMPILABLE, true);
-		properties.set(INVALIDABLE, true);
-		properties.set(DEBUGABLE, true);
-		properties.set(EDITABLE, !isInner());
+		set(COMPILABLE, true);
+		set(INVALIDABLE, true);
+		set(DEBUGABLE, true);
+		set(EDITABLE, !isInner());
 	}
 
 	public void initStatus(DBJavaClassMetadata metadata) throws SQLException {
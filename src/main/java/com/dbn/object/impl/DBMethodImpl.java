@@ -70,9 +70,9 @@ abstract class DBMethodImpl<M extends DBMethodMetadata> extends DBSchemaObjectIm
     @Override
     public void initProperties() {
         super.initProperties();
-        properties.set(COMPILABLE, true);
-        properties.set(INVALIDABLE, true);
-        properties.set(DEBUGABLE, true);
+        set(COMPILABLE, true);
+        set(INVALIDABLE, true);
+        set(DEBUGABLE, true);
     }
 
     @Override
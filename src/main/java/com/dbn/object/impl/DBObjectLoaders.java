@@ -16,6 +16,7 @@
 
 package com.dbn.object.impl;
 
+import com.dbn.common.content.DynamicContent;
 import com.dbn.common.content.loader.DynamicContentLoaderImpl;
 import com.dbn.common.content.loader.DynamicContentResultSetLoader;
 import com.dbn.common.content.loader.DynamicSubcontentLoader;
@@ -101,10 +102,12 @@ import com.dbn.object.DBUser;
 import com.dbn.object.DBView;
 import com.dbn.object.common.DBObject;
 import com.dbn.object.common.DBObjectBundle;
+import com.dbn.object.common.list.DBObjectList;
 import com.dbn.object.common.list.loader.DBObjectListFromRelationListLoader;
 import com.dbn.object.type.DBObjectRelationType;
 import com.dbn.object.type.DBObjectType;
 import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -127,7 +130,7 @@ public class DBObjectLoaders {
 
         DynamicContentResultSetLoader.<DBSchema, DBSchemaMetadata>create(
                 "SCHEMAS", null, DBObjectType.SCHEMA, true, true,
-                (content, conn, mdi) -> mdi.loadSchemas(conn),
+                (content, conn, mdi) -> mdi.loadSchemas(databaseFilter(content), conn),
                 (content, cache, md) -> new DBSchemaImpl(content.getConnection(), cast(md)));
 
         DynamicContentResultSetLoader.<DBUser, DBUserMetadata>create(
@@ -232,12 +235,12 @@ public class DBObjectLoaders {
     static {
         DynamicContentResultSetLoader.<DBTable, DBTableMetadata>create(
                 "TABLES", DBObjectType.SCHEMA, DBObjectType.TABLE, true, true,
-                (content, conn, mdi) -> mdi.loadTables(content.ensureParentEntity().getName(), conn),
+                (content, conn, mdi) -> mdi.loadTables(content.ensureParentEntity().getName(), databaseFilter(content), conn),
                 (content, cache, md) -> new DBTableImpl(content.getParentEntity(), md));
 
         DynamicContentResultSetLoader.<DBView, DBViewMetadata>create(
                 "VIEWS", DBObjectType.SCHEMA, DBObjectType.VIEW, true, true,
-                (content, conn, mdi) -> mdi.loadViews(content.ensureParentEntity().getName(), conn),
+                (content, conn, mdi) -> mdi.loadViews(content.ensureParentEntity().getName(), databaseFilter(content), conn),
                 (content, cache, md) -> new DBViewImpl(content.getParentEntity(), md));
 
         DynamicContentResultSetLoader.<DBMaterializedView, DBMaterializedViewMetadata>create(
@@ -705,6 +708,14 @@ public class DBObjectLoaders {
         DBObjectListFromRelationListLoader.create("USER_PRIVILEGES", DBObjectType.USER, DBObjectType.GRANTED_PRIVILEGE);
     }
 
+    /**
+     * Resolves the database-side filter to be applied when loading the given object list (see {@link DBObjectList#getDatabaseFilter()})
+     */
+    @Nullable
+    private static String databaseFilter(DynamicContent<?> content) {
+        DBObjectList<?> objectList = cast(content);
+        return objectList.getDatabaseFilter();
+    }
 
     private static <T> T valid(T element) {
         if (element == null || isNotValid(element)) throw ElementSkippedException.INSTANCE;
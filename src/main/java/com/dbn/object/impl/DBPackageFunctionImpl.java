@@ -39,7 +39,7 @@ class DBPackageFunctionImpl extends DBFunctionImpl implements DBPackageFunction
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.NAVIGABLE, true);
+        set(DBObjectProperty.NAVIGABLE, true);
     }
 
     @Override
@@ -37,7 +37,7 @@ class DBPackageProcedureImpl extends DBProcedureImpl implements DBPackageProcedu
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.NAVIGABLE, true);
+        set(DBObjectProperty.NAVIGABLE, true);
     }
 
     @Override
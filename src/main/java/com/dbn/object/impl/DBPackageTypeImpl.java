@@ -51,7 +51,7 @@ class DBPackageTypeImpl extends DBTypeImpl implements DBPackageType {
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.NAVIGABLE, true);
+        set(DBObjectProperty.NAVIGABLE, true);
     }
 
     @Override
@@ -52,9 +52,9 @@ abstract class DBProgramImpl<M extends DBProgramMetadata, P extends DBProcedure,
     @Override
     public void initProperties() {
         super.initProperties();
-        properties.set(INVALIDABLE, true);
-        properties.set(COMPILABLE, true);
-        properties.set(DEBUGABLE, true);
+        set(INVALIDABLE, true);
+        set(COMPILABLE, true);
+        set(DEBUGABLE, true);
     }
 
     @Override
@@ -66,7 +66,7 @@ class DBRoleImpl extends DBRootObjectImpl<DBRoleMetadata> implements DBRole {
 
     @Override
     protected void initProperties() {
-        properties.set(DBObjectProperty.ROOT_OBJECT, true);
+        set(DBObjectProperty.ROOT_OBJECT, true);
     }
 
     @NotNull
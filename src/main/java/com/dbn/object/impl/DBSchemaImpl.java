@@ -203,7 +203,7 @@ class DBSchemaImpl extends DBRootObjectImpl<DBSchemaMetadata> implements DBSchem
 
     @Override
     public void initProperties() {
-        properties.set(ROOT_OBJECT, true);
+        set(ROOT_OBJECT, true);
     }
 
     @Nullable
@@ -41,8 +41,8 @@ class DBSequenceImpl extends DBSchemaObjectImpl<DBSequenceMetadata> implements D
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.REFERENCEABLE, true);
-        properties.set(DBObjectProperty.SCHEMA_OBJECT, true);
+        set(DBObjectProperty.REFERENCEABLE, true);
+        set(DBObjectProperty.SCHEMA_OBJECT, true);
     }
 
     @NotNull
@@ -70,9 +70,9 @@ class DBSynonymImpl extends DBSchemaObjectImpl<DBSynonymMetadata> implements DBS
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.SCHEMA_OBJECT, true);
-        properties.set(DBObjectProperty.REFERENCEABLE, true);
-        properties.set(DBObjectProperty.INVALIDABLE, true);
+        set(DBObjectProperty.SCHEMA_OBJECT, true);
+        set(DBObjectProperty.REFERENCEABLE, true);
+        set(DBObjectProperty.INVALIDABLE, true);
     }
 
     @NotNull
@@ -42,7 +42,7 @@ class DBSystemPrivilegeImpl extends DBPrivilegeImpl<DBPrivilegeMetadata> impleme
 
     @Override
     protected void initProperties() {
-        properties.set(DBObjectProperty.ROOT_OBJECT, true);
+        set(DBObjectProperty.ROOT_OBJECT, true);
     }
 
     @NotNull
@@ -112,13 +112,13 @@ abstract class DBTriggerImpl extends DBSchemaObjectImpl<DBTriggerMetadata> imple
 
     @Override
     public void initProperties() {
-        properties.set(EDITABLE, true);
-        properties.set(DISABLEABLE, true);
-        properties.set(REFERENCEABLE, true);
-        properties.set(COMPILABLE, true);
-        properties.set(DEBUGABLE, true);
-        properties.set(INVALIDABLE, true);
-        properties.set(SCHEMA_OBJECT, true);
+        set(EDITABLE, true);
+        set(DISABLEABLE, true);
+        set(REFERENCEABLE, true);
+        set(COMPILABLE, true);
+        set(DEBUGABLE, true);
+        set(INVALIDABLE, true);
+        set(SCHEMA_OBJECT, true);
     }
 
     @Override
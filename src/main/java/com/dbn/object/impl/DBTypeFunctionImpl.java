@@ -37,7 +37,7 @@ class DBTypeFunctionImpl extends DBFunctionImpl implements DBTypeFunction {
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.NAVIGABLE, true);
+        set(DBObjectProperty.NAVIGABLE, true);
     }
 
     @Override
@@ -37,7 +37,7 @@ class DBTypeProcedureImpl extends DBProcedureImpl implements DBTypeProcedure {
 
     @Override
     public void initProperties() {
-        properties.set(DBObjectProperty.NAVIGABLE, true);
+        set(DBObjectProperty.NAVIGABLE, true);
     }
 
     @Override
@@ -78,7 +78,7 @@ class DBUserImpl extends DBRootObjectImpl<DBUserMetadata> implements DBUser {
 
     @Override
     protected void initProperties() {
-        properties.set(DBObjectProperty.ROOT_OBJECT, true);
+        set(DBObjectProperty.ROOT_OBJECT, true);
     }
 
     @NotNull
@@ -17,6 +17,7 @@
 package com.dbn.object.lookup;
 
 import com.dbn.common.Reference;
+import com.dbn.common.collections.NamePool;
 import com.dbn.common.compatibility.Compatibility;
 import com.dbn.common.dispose.Checks;
 import com.dbn.common.ref.WeakRef;
@@ -91,7 +92,7 @@ public class DBObjectRef<T extends DBObject> implements Comparable<DBObjectRef<?
     }
     public DBObjectRef(T object, DBObjectType objectType, String objectName) {
         this.reference = WeakRef.of(object);
-        this.objectName = objectName.intern();
+        this.objectName = NamePool.pooled(objectName);
         this.objectType = objectType;
         this.overload = object.getOverload();
 
@@ -108,13 +109,13 @@ public class DBObjectRef<T extends DBObject> implements Comparable<DBObjectRef<?
     public DBObjectRef(DBObjectRef<?> parent, DBObjectType objectType, String objectName) {
         this.parent = parent;
         this.objectType = objectType;
-        this.objectName = objectName.intern();
+        this.objectName = NamePool.pooled(objectName);
     }
 
     public DBObjectRef(ConnectionId connectionId, DBObjectType objectType, String objectName) {
         this.parent = connectionId;
         this.objectType = objectType;
-        this.objectName = objectName.intern();
+        this.objectName = NamePool.pooled(objectName);
     }
 
     public void setParent(Object parent) {
@@ -236,7 +237,7 @@ public class DBObjectRef<T extends DBObject> implements Comparable<DBObjectRef<?
                     } else {
                         this.parent = objectRef == null ? connectionId :  objectRef;
                         this.objectType = objectType;
-                        this.objectName = token.intern();
+                        this.objectName = NamePool.pooled(token);
                     }
                     objectType = null;
                 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class NamePoolTest {
+
+    @Test
+    public void testPooled() {
+        String name1 = new String("EMPLOYEE_ID");
+        String name2 = new String("EMPLOYEE_ID");
+        assertNotSame(name1, name2);
+
+        String pooled1 = NamePool.pooled(name1);
+        String pooled2 = NamePool.pooled(name2);
+        assertSame(pooled1, pooled2);
+        assertEquals("EMPLOYEE_ID", pooled2);
+    }
+
+    @Test
+    public void testPooledEdgeCases() {
+        assertNull(NamePool.pooled(null));
+        assertSame("", NamePool.pooled(new String("")));
+    }
+
+    @Test
+    public void testPooledNonAscii() {
+        String name = new String("MITARBEITER_GRÖSSE");
+        assertSame(NamePool.pooled(name), NamePool.pooled(new String("MITARBEITER_GRÖSSE")));
+    }
+}
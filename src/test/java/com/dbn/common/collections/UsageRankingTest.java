@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class UsageRankingTest {
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    @Test
+    public void testFrequency() {
+        UsageRanking<String> ranking = new UsageRanking<>(10, 7 * DAY);
+        ranking.record("EMPLOYEES", 0);
+        ranking.record("DEPARTMENTS", 0);
+        ranking.record("DEPARTMENTS", 0);
+
+        assertEquals(Arrays.asList("DEPARTMENTS", "EMPLOYEES"), ranking.getTop(5, 0));
+        assertEquals(2.0, ranking.getScore("DEPARTMENTS", 0), 0.0001);
+    }
+
+    @Test
+    public void testRecency() {
+        UsageRanking<String> ranking = new UsageRanking<>(10, 7 * DAY);
+        for (int i = 0; i < 3; i++) ranking.record("EMPLOYEES", 0);
+        ranking.record("DEPARTMENTS", 30 * DAY);
+
+        // three usages a month ago weigh less than one usage today
+        assertEquals(Arrays.asList("DEPARTMENTS", "EMPLOYEES"), ranking.getTop(5, 30 * DAY));
+        assertEquals(1.5, ranking.getScore("EMPLOYEES", 7 * DAY), 0.0001);
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        UsageRanking<String> inOrder = new UsageRanking<>(10, 7 * DAY);
+        inOrder.record("EMPLOYEES", 0);
+        inOrder.record("EMPLOYEES", 7 * DAY);
+
+        // a stale usage weighs as much as if it was recorded in order
+        UsageRanking<String> outOfOrder = new UsageRanking<>(10, 7 * DAY);
+        outOfOrder.record("EMPLOYEES", 7 * DAY);
+        outOfOrder.record("EMPLOYEES", 0);
+
+        assertEquals(1.5, inOrder.getScore("EMPLOYEES", 7 * DAY), 0.0001);
+        assertEquals(1.5, outOfOrder.getScore("EMPLOYEES", 7 * DAY), 0.0001);
+    }
+
+    @Test
+    public void testCapacity() {
+        UsageRanking<String> ranking = new UsageRanking<>(2, 7 * DAY);
+        ranking.record("A", 0);
+        ranking.record("A", 0);
+        ranking.record("B", DAY);
+        ranking.record("C", 2 * DAY);
+
+        assertEquals(2, ranking.size());
+        assertEquals(Arrays.asList("A", "C"), ranking.getTop(5, 2 * DAY));
+        assertEquals(Collections.singletonList("A"), ranking.getTop(1, 2 * DAY));
+    }
+
+    @Test
+    public void testRestore() {
+        UsageRanking<String> ranking = new UsageRanking<>(10, 7 * DAY);
+        ranking.record("EMPLOYEES", DAY);
+
+        UsageRanking<String> restored = new UsageRanking<>(10, 7 * DAY);
+        ranking.visit((key, usage) -> restored.restore(key, usage.getScore(), usage.getTimestamp()));
+        assertEquals(ranking.getScore("EMPLOYEES", 8 * DAY), restored.getScore("EMPLOYEES", 8 * DAY), 0.0001);
+        assertTrue(restored.getScore("EMPLOYEES", 8 * DAY) < 1);
+    }
+}
@@ -75,6 +75,20 @@ public class GroovyExpressionEvaluatorTest {
     public void evaluateExpression() {
     }
 
+    @Test
+    public void compiledScriptsBounded() {
+        int count = GroovyExpressionEvaluator.MAX_COMPILED_SCRIPTS + 20;
+        for (int i = 0; i < count; i++) {
+            boolean result = expressionEvaluator.evaluateBooleanExpression("COLUMN_SIZE = " + i, context("COLUMN_SIZE", i));
+            Assert.assertTrue(result);
+        }
+        Assert.assertEquals(GroovyExpressionEvaluator.MAX_COMPILED_SCRIPTS, expressionEvaluator.getCompiledScriptCount());
+
+        // evicted expressions are compiled again on use
+        Assert.assertTrue(expressionEvaluator.evaluateBooleanExpression("COLUMN_SIZE = 0", context("COLUMN_SIZE", 0)));
+        Assert.assertFalse(expressionEvaluator.evaluateBooleanExpression("COLUMN_SIZE = 0", context("COLUMN_SIZE", 1)));
+    }
+
     @Test
     public void fromSql_AND_OR() {
         testSqlToGroovy(
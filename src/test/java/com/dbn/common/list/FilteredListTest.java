@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.list;
+
+import com.dbn.common.filter.Filter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FilteredListTest {
+
+    @Test
+    public void testIndexOf() {
+        List<String> elements = elements(1000);
+        FilteredList<String> list = FilteredList.stateful(null, new ArrayList<>(elements));
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(i, list.indexOf(elements.get(i)));
+        }
+        assertEquals(-1, list.indexOf("MISSING"));
+        assertTrue(list.contains(elements.get(500)));
+        assertFalse(list.contains("MISSING"));
+    }
+
+    @Test
+    public void testIndexOfAfterSort() {
+        List<String> elements = elements(1000);
+        FilteredList<String> list = FilteredList.stateful(null, new ArrayList<>(elements));
+        String first = elements.get(0);
+        assertEquals(0, list.indexOf(first));
+
+        list.sort(Comparator.reverseOrder());
+        assertEquals(999, list.indexOf(first));
+    }
+
+    @Test
+    public void testIndexOfFiltered() {
+        List<String> elements = elements(1000);
+        Filter<String> filter = new Filter<String>() {
+            @Override
+            public boolean accepts(String object) {
+                return object.endsWith("0");
+            }
+        };
+        FilteredList<String> list = FilteredList.stateful(filter, new ArrayList<>(elements));
+        assertEquals(100, list.size());
+        assertEquals(10, list.indexOf(elements.get(100)));
+        assertEquals(-1, list.indexOf(elements.get(101)));
+
+        list.setFilter(null);
+        assertEquals(101, list.indexOf(elements.get(101)));
+    }
+
+    @Test
+    public void testIndexOfAfterUpdate() {
+        List<String> elements = elements(1000);
+        FilteredList<String> list = FilteredList.stateful(null, new ArrayList<>(elements));
+        String last = elements.get(999);
+        assertEquals(999, list.indexOf(last));
+
+        list.remove(0);
+        assertEquals(998, list.indexOf(last));
+
+        list.add(0, "NEW");
+        list.add(0, "NEWER");
+        assertEquals(1000, list.indexOf(last));
+        assertEquals(1, list.indexOf("NEW"));
+    }
+
+    @Test
+    public void testIndexOfAfterInPlaceUpdate() {
+        List<String> elements = elements(1000);
+        List<String> base = new ArrayList<>(elements);
+        FilteredList<String> list = FilteredList.stateful(null, base);
+        assertEquals(500, list.indexOf(elements.get(500)));
+
+        // same size changes bypassing the wrapper
+        base.set(500, "REPLACED");
+        assertEquals(500, list.indexOf("REPLACED"));
+        assertEquals(-1, list.indexOf(elements.get(500)));
+
+        base.set(0, elements.get(999));
+        base.set(999, elements.get(0));
+        assertEquals(0, list.indexOf(elements.get(999)));
+        assertEquals(999, list.indexOf(elements.get(0)));
+    }
+
+    private static List<String> elements(int count) {
+        List<String> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            elements.add(String.format("TABLE_%05d", i));
+        }
+        return elements;
+    }
+}
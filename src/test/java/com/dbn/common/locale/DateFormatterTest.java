@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.locale;
+
+import org.junit.Test;
+
+import java.text.DateFormat;
+import java.text.DateFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class DateFormatterTest {
+    private static final long[] TIMES = {
+            0L, 1L, 86399999L, 951782400000L, 1711846800123L, 1729353600000L, -1000000000000L, 4102444800000L};
+
+    @Test
+    public void testLocaleFormats() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.CHINA, new Locale("ru", "RU")}) {
+            for (int style : new int[]{DateFormat.SHORT, DateFormat.MEDIUM}) {
+                assertMatches((SimpleDateFormat) DateFormat.getDateInstance(style, locale));
+                assertMatches((SimpleDateFormat) DateFormat.getTimeInstance(style, locale));
+                assertMatches((SimpleDateFormat) DateFormat.getDateTimeInstance(style, style, locale));
+            }
+        }
+    }
+
+    @Test
+    public void testCustomPatterns() {
+        DateFormatSymbols symbols = new DateFormatSymbols(Locale.GERMANY);
+        for (String pattern : new String[]{"dd.MM.yyyy HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEE, d MMM yy h:mm a", "EEEE dd MMMM y 'um' k 'Uhr'''", "D G XXX"}) {
+            assertMatches(new SimpleDateFormat(pattern, symbols));
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        DateFormatSymbols symbols = new DateFormatSymbols(Locale.US);
+        assertNull(DateFormatter.of(new SimpleDateFormat("YYYY-'W'ww", symbols)));
+        assertNull(DateFormatter.of(new SimpleDateFormat("HH:mm z", symbols)));
+        assertNull(DateFormatter.of((SimpleDateFormat) DateFormat.getDateInstance(DateFormat.SHORT, new Locale("th", "TH", "TH"))));
+        assertFalse(DateFormatter.supports(new Date(-3000000000000L)));
+    }
+
+    private static void assertMatches(SimpleDateFormat format) {
+        DateFormatter formatter = DateFormatter.of(format);
+        assertNotNull(format.toPattern(), formatter);
+
+        StringBuilder buffer = new StringBuilder();
+        for (long time : TIMES) {
+            Date date = new Date(time);
+            String expected = format.format(date);
+            assertEquals(format.toPattern(), expected, formatter.format(date));
+
+            buffer.setLength(0);
+            formatter.format(new java.sql.Timestamp(time), buffer);
+            assertEquals(expected, buffer.toString());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.common.locale;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class NumberFormatterTest {
+    private static final Number[] NUMBERS = {
+            0, -1, 42, 1234567, Long.MIN_VALUE, Long.MAX_VALUE,
+            0.0, -0.0, 0.5, 2.5, 1.005, 1.015, -0.0001, 1234.5678, 1e-7, 1e21, (float) 3.14,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            new BigDecimal("12345678901234567890.123456789012345678901"), new BigDecimal("-0.000"), new BigDecimal("1E+5"),
+            new BigInteger("-98765432109876543210")};
+
+    @Test
+    public void testLocaleFormats() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH"), new Locale("ar", "EG")}) {
+            for (boolean grouping : new boolean[]{true, false}) {
+                DecimalFormat integerFormat = (DecimalFormat) NumberFormat.getIntegerInstance(locale);
+                integerFormat.setGroupingUsed(grouping);
+                assertMatches(integerFormat);
+
+                DecimalFormat numberFormat = (DecimalFormat) DecimalFormat.getInstance(locale);
+                numberFormat.setGroupingUsed(grouping);
+                numberFormat.setMaximumFractionDigits(20);
+                assertMatches(numberFormat);
+            }
+        }
+    }
+
+    @Test
+    public void testCustomPatterns() {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.GERMANY);
+        for (String pattern : new String[]{"#,##0.00", "#.##", "000.0##", "#,##0", "0.###"}) {
+            assertMatches(new DecimalFormat(pattern, symbols));
+        }
+    }
+
+    @Test
+    public void testUnsupportedPatterns() {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
+        assertNull(NumberFormatter.of(new DecimalFormat("#,##0.00%", symbols)));
+        assertNull(NumberFormatter.of(new DecimalFormat("0.###E0", symbols)));
+        assertNull(NumberFormatter.of(new DecimalFormat("#,##0.00;(#,##0.00)", symbols)));
+    }
+
+    private static void assertMatches(DecimalFormat format) {
+        NumberFormatter formatter = NumberFormatter.of(format);
+        assertNotNull(format.toPattern(), formatter);
+
+        StringBuilder buffer = new StringBuilder();
+        for (Number number : NUMBERS) {
+            String expected = format.format(number);
+            assertEquals(format.toPattern() + " " + number, expected, formatter.format(number));
+
+            buffer.setLength(0);
+            formatter.format(number, buffer);
+            assertEquals(expected, buffer.toString());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.model;
+
+import com.dbn.data.sorting.SortDirection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.dbn.data.sorting.SortDirection.ASCENDING;
+import static com.dbn.data.sorting.SortDirection.DESCENDING;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DatasetKeysetPagerTest {
+
+    @Test
+    public void testSingleColumnKey() {
+        assertEquals("(ID > ?)", seekCondition(Collections.singletonList("ID"), Collections.singletonList(ASCENDING)));
+        assertEquals("(ID < ?)", seekCondition(Collections.singletonList("ID"), Collections.singletonList(DESCENDING)));
+        assertArrayEquals(new int[]{0}, DatasetKeysetPager.createBindOrder(1));
+    }
+
+    @Test
+    public void testCompositePrimaryKey() {
+        List<String> columns = Arrays.asList("DEPT_ID", "EMP_ID");
+        List<SortDirection> directions = Arrays.asList(ASCENDING, ASCENDING);
+        String condition = seekCondition(columns, directions);
+
+        assertEquals("DEPT_ID >= ? and ((DEPT_ID > ?) or (DEPT_ID = ? and EMP_ID > ?))", condition);
+        assertArrayEquals(new int[]{0, 0, 0, 1}, DatasetKeysetPager.createBindOrder(2));
+    }
+
+    @Test
+    public void testMixedDirections() {
+        List<String> columns = Arrays.asList("HIRE_DATE", "SALARY", "ID");
+        List<SortDirection> directions = Arrays.asList(DESCENDING, ASCENDING, ASCENDING);
+        String condition = seekCondition(columns, directions);
+
+        assertEquals(
+                "HIRE_DATE <= ? and (" +
+                "(HIRE_DATE < ?) or " +
+                "(HIRE_DATE = ? and SALARY > ?) or " +
+                "(HIRE_DATE = ? and SALARY = ? and ID > ?))", condition);
+
+        // one key value per parameter, in the order of the parameters
+        int[] bindOrder = DatasetKeysetPager.createBindOrder(3);
+        assertArrayEquals(new int[]{0, 0, 0, 1, 0, 1, 2}, bindOrder);
+        assertEquals(condition.chars().filter(c -> c == '?').count(), bindOrder.length);
+    }
+
+    @Test
+    public void testSortColumnInPrimaryKey() {
+        // sorted by the second primary key column (descending)
+        List<String> columns = new ArrayList<>(Collections.singletonList("EMP_ID"));
+        List<SortDirection> directions = new ArrayList<>(Collections.singletonList(DESCENDING));
+        DatasetKeysetPager.appendPrimaryKey(columns, directions, Arrays.asList("DEPT_ID", "EMP_ID"));
+
+        assertEquals(Arrays.asList("EMP_ID", "DEPT_ID"), columns);
+        assertEquals(Arrays.asList(DESCENDING, ASCENDING), directions);
+        assertEquals(
+                "EMP_ID <= ? and ((EMP_ID < ?) or (EMP_ID = ? and DEPT_ID > ?))",
+                seekCondition(columns, directions));
+
+        // sorted by the (single column) primary key only
+        columns = new ArrayList<>(Collections.singletonList("ID"));
+        directions = new ArrayList<>(Collections.singletonList(DESCENDING));
+        DatasetKeysetPager.appendPrimaryKey(columns, directions, Collections.singletonList("ID"));
+
+        assertEquals(Collections.singletonList("ID"), columns);
+        assertEquals("(ID < ?)", seekCondition(columns, directions));
+    }
+
+    private static String seekCondition(List<String> columns, List<SortDirection> directions) {
+        return DatasetKeysetPager.createSeekCondition(columns, directions);
+    }
+}
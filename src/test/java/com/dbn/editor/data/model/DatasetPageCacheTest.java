@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.editor.data.model;
+
+import com.dbn.editor.data.model.DatasetPageCache.Page;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DatasetPageCacheTest {
+    private static final String STATEMENT = "select * from (select * from EMPLOYEES) page where (ID > ?) order by ID asc";
+
+    @Test
+    public void testKeyEquality() {
+        DatasetPageCache cache = new DatasetPageCache(10);
+        Page page = page(100);
+        cache.put(STATEMENT, new Object[]{10, "SMITH"}, page);
+
+        // equal keys in distinct arrays identify the same page
+        assertSame(page, cache.get(STATEMENT, new Object[]{10, "SMITH"}));
+        assertNull(cache.get(STATEMENT, new Object[]{10, "JONES"}));
+        assertNull(cache.get(STATEMENT, new Object[]{10}));
+        assertNull(cache.get(STATEMENT + " desc", new Object[]{10, "SMITH"}));
+
+        cache.put(STATEMENT, new Object[]{null, "SMITH"}, page);
+        assertSame(page, cache.get(STATEMENT, new Object[]{null, "SMITH"}));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        DatasetPageCache cache = new DatasetPageCache(2);
+        cache.put(STATEMENT, new Object[]{1}, page(1));
+        cache.put(STATEMENT, new Object[]{2}, page(2));
+
+        // access makes page 1 the most recently used
+        assertTrue(cache.get(STATEMENT, new Object[]{1}) != null);
+        cache.put(STATEMENT, new Object[]{3}, page(3));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(STATEMENT, new Object[]{1}) != null);
+        assertNull(cache.get(STATEMENT, new Object[]{2}));
+        assertTrue(cache.get(STATEMENT, new Object[]{3}) != null);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCacheable() {
+        assertTrue(DatasetPageCache.isCacheable(null));
+        assertTrue(DatasetPageCache.isCacheable("SMITH"));
+        assertTrue(DatasetPageCache.isCacheable(10));
+        assertTrue(DatasetPageCache.isCacheable(Boolean.TRUE));
+        assertTrue(DatasetPageCache.isCacheable(new Timestamp(0)));
+        assertFalse(DatasetPageCache.isCacheable(new byte[]{1}));
+        assertFalse(DatasetPageCache.isCacheable(new Object()));
+    }
+
+    @Test
+    public void testDateCopy() {
+        Timestamp timestamp = new Timestamp(1000000);
+        timestamp.setNanos(123456789);
+
+        Object copy = DatasetPageCache.copy(timestamp);
+        assertNotSame(timestamp, copy);
+        assertEquals(Timestamp.class, copy.getClass());
+        assertEquals(timestamp, copy);
+
+        // changes of the copy do not reach the cached value
+        ((Date) copy).setTime(0);
+        assertEquals(123456789, timestamp.getNanos());
+        assertEquals(1000123, timestamp.getTime());
+
+        String value = "SMITH";
+        assertSame(value, DatasetPageCache.copy(value));
+    }
+
+    private static Page page(int lastKey) {
+        return new Page(Collections.singletonList(new Object[]{lastKey}), new Object[]{lastKey});
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Oracle and/or its affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dbn.object.filter.custom;
+
+import com.dbn.object.DBSchema;
+import com.dbn.object.type.DBObjectType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ObjectFilterTranslatorTest {
+    private final ObjectFilterDefinition<DBSchema> definition = new TestFilterDefinition();
+
+    @Test
+    public void translateSupportedOperators() {
+        assertTranslation("IS_EMPTY", "IS_EMPTY = 'Y'");
+        assertTranslation("not IS_EMPTY", "coalesce(IS_EMPTY, 'N') <> 'Y'");
+        assertTranslation("SCHEMA_NAME = 'HR'", "SCHEMA_NAME = 'HR'");
+        assertTranslation("SCHEMA_NAME in ('HR',  'SCOTT')", "SCHEMA_NAME in ('HR',  'SCOTT')");
+        assertTranslation("schema_name = 'HR'", "SCHEMA_NAME = 'HR'");
+    }
+
+    @Test
+    public void translateUnsupportedOperators() {
+        assertTranslation("SCHEMA_NAME != 'HR'", null);
+        assertTranslation("SCHEMA_NAME <> 'HR'", null);
+        assertTranslation("SCHEMA_NAME not in ('HR', 'SCOTT')", null);
+        assertTranslation("OBJECT_COUNT > 10", null);
+
+        // attribute type not matching the operator
+        assertTranslation("OBJECT_COUNT = '10'", null);
+        assertTranslation("not SCHEMA_NAME", null);
+
+        // attributes without metadata query column or not known at all
+        assertTranslation("SCHEMA_COMMENT = 'TEST'", null);
+        assertTranslation("UNKNOWN = 'TEST'", null);
+    }
+
+    @Test
+    public void translateLike() {
+        assertTranslation("SCHEMA_NAME like 'APP%'", "upper(SCHEMA_NAME) like upper('APP%') escape '!'");
+        assertTranslation("SCHEMA_NAME like 'APP*'", "upper(SCHEMA_NAME) like upper('APP%') escape '!'");
+        assertTranslation("SCHEMA_NAME not like '%_TMP'", "upper(SCHEMA_NAME) not like upper('%!_TMP') escape '!'");
+
+        // escape character is not a valid pattern character
+        assertTranslation("SCHEMA_NAME like 'APP!%'", null);
+    }
+
+    @Test
+    public void rejectLiterals() {
+        assertTranslation("SCHEMA_NAME = 'O''BRIEN'", null);
+        assertTranslation("SCHEMA_NAME = 'HR\\' or 1=1'", null);
+        assertTranslation("SCHEMA_NAME in ('HR', SCOTT)", null);
+        assertTranslation("SCHEMA_NAME like 'APP'' or ''1''=''1'", null);
+        assertTranslation("SCHEMA_NAME = 'HR", null);
+    }
+
+    @Test
+    public void fallbackToClientSideFiltering() {
+        // untranslatable conditions are left out of their conjunction
+        assertTranslation("SCHEMA_NAME = 'HR' and OBJECT_COUNT > 10", "SCHEMA_NAME = 'HR'");
+        assertTranslation("OBJECT_COUNT > 10 and IS_EMPTY", "IS_EMPTY = 'Y'");
+
+        // ...but make a disjunction untranslatable as a whole
+        assertTranslation("SCHEMA_NAME = 'HR' or OBJECT_COUNT > 10", null);
+        assertTranslation("SCHEMA_NAME = 'HR' or SCHEMA_NAME = 'SCOTT'", "(SCHEMA_NAME = 'HR' or SCHEMA_NAME = 'SCOTT')");
+        assertTranslation(
+                "(SCHEMA_NAME = 'HR' or SCHEMA_NAME like 'APP%') and not IS_EMPTY",
+                "(SCHEMA_NAME = 'HR' or upper(SCHEMA_NAME) like upper('APP%') escape '!') and coalesce(IS_EMPTY, 'N') <> 'Y'");
+
+        // operators within literals are not split
+        assertTranslation("SCHEMA_NAME in ('SALES AND MARKETING', 'HR')", "SCHEMA_NAME in ('SALES AND MARKETING', 'HR')");
+
+        // malformed or empty expressions
+        assertTranslation("(SCHEMA_NAME = 'HR'", null);
+        assertTranslation("SCHEMA_NAME = 'HR' and", null);
+        assertTranslation("  ", null);
+        assertTranslation(null, null);
+    }
+
+    private void assertTranslation(String expression, String expected) {
+        Assert.assertEquals(expression, expected, ObjectFilterTranslator.translate(definition, expression));
+    }
+
+    private static class TestFilterDefinition implements ObjectFilterDefinition<DBSchema> {
+        private final List<ObjectFilterAttribute> attributes = Arrays.asList(
+                new ObjectFilterAttribute(String.class, "SCHEMA_NAME", "Schema name"),
+                new ObjectFilterAttribute(String.class, "SCHEMA_COMMENT", "Schema comment"),
+                new ObjectFilterAttribute(Boolean.class, "IS_EMPTY", "Schema has no objects"),
+                new ObjectFilterAttribute(Integer.class, "OBJECT_COUNT", "Number of objects"));
+
+        @Override
+        public DBObjectType getObjectType() {
+            return DBObjectType.SCHEMA;
+        }
+
+        @Override
+        public String getSampleExpression() {
+            return "SCHEMA_NAME = 'HR'";
+        }
+
+        @Override
+        public List<ObjectFilterAttribute> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public List<String> getAttributeNames() {
+            return attributes.stream().map(a -> a.getName()).collect(Collectors.toList());
+        }
+
+        @Override
+        public Object getAttributeValue(DBSchema source, String attributeName) {
+            return null;
+        }
+
+        @Override
+        public String getAttributeColumn(String attributeName) {
+            return attributeName.equals("SCHEMA_COMMENT") ? null : attributeName;
+        }
+    }
+}